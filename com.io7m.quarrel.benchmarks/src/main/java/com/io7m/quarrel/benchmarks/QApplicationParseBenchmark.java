@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QApplication;
+import com.io7m.quarrel.core.QApplicationMetadata;
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandParserConfiguration;
+import com.io7m.quarrel.core.QCommandParserType;
+import com.io7m.quarrel.core.QCommandParsers;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QLocalization;
+import com.io7m.quarrel.core.QLocalizationType;
+import com.io7m.quarrel.core.QParseResultType;
+import com.io7m.quarrel.core.QValueConverterDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for application parsing, including the cost of the localization
+ * resources that each parse depends upon.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QApplicationParseBenchmark
+{
+  private static final QApplicationMetadata METADATA =
+    new QApplicationMetadata(
+      "bench",
+      "com.io7m.quarrel.benchmarks",
+      "1.0.0",
+      "00000000",
+      "A benchmark application.",
+      Optional.empty()
+    );
+
+  private QApplicationType application;
+  private List<String> arguments;
+  private List<String> argumentsInvalid;
+  private QCommandParserConfiguration configuration;
+  private QCommandParsers parsers;
+
+  /**
+   * Benchmarks for application parsing.
+   */
+
+  public QApplicationParseBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the application.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.application =
+      QApplication.builder(METADATA)
+        .setOutput(new PrintWriter(Writer.nullWriter()))
+        .addCommand(new QBenchmarkCommand())
+        .build();
+
+    this.arguments =
+      List.of("bench", "--name", "x", "--count", "23", "a", "b", "c");
+    this.argumentsInvalid =
+      List.of("bench", "--name");
+    this.configuration =
+      new QCommandParserConfiguration(
+        QValueConverterDirectory.core(),
+        QCommandParsers.emptyResources()
+      );
+    this.parsers =
+      new QCommandParsers();
+  }
+
+  /**
+   * Parse a small argument vector.
+   *
+   * @return The command context
+   *
+   * @throws QException On errors
+   */
+
+  @Benchmark
+  public QCommandContextType parse()
+    throws QException
+  {
+    return this.application.parse(this.arguments);
+  }
+
+  /**
+   * Parse an invalid argument vector, catching the resulting exception.
+   *
+   * @return The exception
+   */
+
+  @Benchmark
+  public QException parseInvalid()
+  {
+    try {
+      this.application.parse(this.argumentsInvalid);
+      throw new IllegalStateException("Parsing unexpectedly succeeded.");
+    } catch (final QException e) {
+      return e;
+    }
+  }
+
+  /**
+   * Parse an invalid argument vector without constructing an exception.
+   *
+   * @return The parse result
+   */
+
+  @Benchmark
+  public QParseResultType parseResultInvalid()
+  {
+    return this.application.parseResult(this.argumentsInvalid);
+  }
+
+  /**
+   * Create a command parser directly.
+   *
+   * @return The parser
+   */
+
+  @Benchmark
+  public QCommandParserType parserCreate()
+  {
+    return this.parsers.create(this.configuration);
+  }
+
+  /**
+   * Create a localizer for a locale.
+   *
+   * @return The localizer
+   */
+
+  @Benchmark
+  public QLocalizationType localizationCreate()
+  {
+    return QLocalization.create(Locale.ROOT);
+  }
+}
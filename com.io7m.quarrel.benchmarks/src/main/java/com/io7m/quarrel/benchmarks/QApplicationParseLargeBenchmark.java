@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QApplication;
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.tests.QCommandParameter0N;
+import com.io7m.quarrel.tests.QCommandParametersEverything;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for application parsing with argument vectors of varying size.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QApplicationParseLargeBenchmark
+{
+  /**
+   * The number of named parameter values in the argument vector.
+   */
+
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  private QApplicationType application;
+  private List<String> arguments0N;
+  private List<String> argumentsEverything;
+
+  /**
+   * Benchmarks for application parsing.
+   */
+
+  public QApplicationParseLargeBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the application.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.application =
+      QApplication.builder(QBenchmarkTrees.METADATA)
+        .setOutput(new PrintWriter(Writer.nullWriter()))
+        .addCommand(new QCommandParameter0N())
+        .addCommand(new QCommandParametersEverything())
+        .build();
+
+    final var arguments = new ArrayList<String>(1 + (this.size * 2));
+    arguments.add("cmd-0n");
+    for (int index = 0; index < this.size; ++index) {
+      arguments.add("--file");
+      arguments.add("file" + index);
+    }
+    this.arguments0N = List.copyOf(arguments);
+
+    final var everything = new ArrayList<String>();
+    everything.add("cmd-everything");
+    for (int index = 0; index < this.size; ++index) {
+      everything.add("--4net");
+      everything.add("127.0.0.1");
+    }
+    everything.addAll(QBenchmarkTrees.EVERYTHING_ARGUMENTS_FULL);
+    this.argumentsEverything = List.copyOf(everything);
+  }
+
+  /**
+   * Parse a large number of string values for a single parameter.
+   *
+   * @return The command context
+   *
+   * @throws QException On errors
+   */
+
+  @Benchmark
+  public QCommandContextType parseNamed0N()
+    throws QException
+  {
+    return this.application.parse(this.arguments0N);
+  }
+
+  /**
+   * Parse a large number of values for a command that uses every kind of
+   * parameter.
+   *
+   * @return The command context
+   *
+   * @throws QException On errors
+   */
+
+  @Benchmark
+  public QCommandContextType parseEverything()
+    throws QException
+  {
+    return this.application.parse(this.argumentsEverything);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamed01;
+import com.io7m.quarrel.core.QParameterNamed1;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QParametersPositionalAny;
+import com.io7m.quarrel.core.QParametersPositionalType;
+import com.io7m.quarrel.core.QStringType.QConstant;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.io7m.quarrel.core.QCommandStatus.SUCCESS;
+
+/**
+ * A command with a small set of parameters.
+ */
+
+public final class QBenchmarkCommand implements QCommandType
+{
+  /**
+   * A required string parameter.
+   */
+
+  public static final QParameterNamed1<String> NAME =
+    new QParameterNamed1<>(
+      "--name",
+      List.of("-n"),
+      new QConstant("A name."),
+      Optional.empty(),
+      String.class
+    );
+
+  /**
+   * An optional integer parameter.
+   */
+
+  public static final QParameterNamed01<Integer> COUNT =
+    new QParameterNamed01<>(
+      "--count",
+      List.of("-c"),
+      new QConstant("A count."),
+      Optional.empty(),
+      Integer.class
+    );
+
+  /**
+   * A command with a small set of parameters.
+   */
+
+  public QBenchmarkCommand()
+  {
+
+  }
+
+  @Override
+  public List<QParameterNamedType<?>> onListNamedParameters()
+  {
+    return List.of(NAME, COUNT);
+  }
+
+  @Override
+  public QParametersPositionalType onListPositionalParameters()
+  {
+    return new QParametersPositionalAny();
+  }
+
+  @Override
+  public QCommandStatus onExecute(
+    final QCommandContextType context)
+  {
+    return SUCCESS;
+  }
+
+  @Override
+  public QCommandMetadata metadata()
+  {
+    return new QCommandMetadata(
+      "bench",
+      new QConstant("A benchmark command."),
+      Optional.empty()
+    );
+  }
+}
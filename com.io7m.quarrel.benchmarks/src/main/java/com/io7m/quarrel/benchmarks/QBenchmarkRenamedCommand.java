@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QParametersPositionalType;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A command that behaves exactly as another command, but with a different
+ * name. Used to build large synthetic command trees from a small number of
+ * existing commands.
+ */
+
+public final class QBenchmarkRenamedCommand implements QCommandType
+{
+  private final QCommandType delegate;
+  private final QCommandMetadata metadata;
+
+  /**
+   * A command that behaves exactly as another command.
+   *
+   * @param name       The new name
+   * @param inDelegate The command
+   */
+
+  public QBenchmarkRenamedCommand(
+    final String name,
+    final QCommandType inDelegate)
+  {
+    this.delegate =
+      Objects.requireNonNull(inDelegate, "delegate");
+
+    final var original = inDelegate.metadata();
+    this.metadata =
+      new QCommandMetadata(
+        name,
+        original.shortDescription(),
+        original.longDescription()
+      );
+  }
+
+  @Override
+  public QCommandMetadata metadata()
+  {
+    return this.metadata;
+  }
+
+  @Override
+  public List<QParameterNamedType<?>> onListNamedParameters()
+  {
+    return this.delegate.onListNamedParameters();
+  }
+
+  @Override
+  public QParametersPositionalType onListPositionalParameters()
+  {
+    return this.delegate.onListPositionalParameters();
+  }
+
+  @Override
+  public QCommandStatus onExecute(
+    final QCommandContextType context)
+    throws Exception
+  {
+    return this.delegate.onExecute(context);
+  }
+}
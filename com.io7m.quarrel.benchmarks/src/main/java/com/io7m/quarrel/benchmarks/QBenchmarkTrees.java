@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QApplication;
+import com.io7m.quarrel.core.QApplicationCommandGroupBuilderType;
+import com.io7m.quarrel.core.QApplicationMetadata;
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QStringType.QConstant;
+import com.io7m.quarrel.tests.QCommandParametersEverything;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Synthetic applications used by the benchmarks. Every command in the
+ * generated trees is a renamed {@link QCommandParametersEverything}, so
+ * that each command exercises every kind of parameter.
+ */
+
+public final class QBenchmarkTrees
+{
+  /**
+   * The metadata used for all benchmark applications.
+   */
+
+  public static final QApplicationMetadata METADATA =
+    new QApplicationMetadata(
+      "bench",
+      "com.io7m.quarrel.benchmarks",
+      "1.0.0",
+      "00000000",
+      "A benchmark application.",
+      Optional.empty()
+    );
+
+  /**
+   * A minimal set of arguments accepted by
+   * {@link QCommandParametersEverything}.
+   */
+
+  public static final List<String> EVERYTHING_ARGUMENTS =
+    List.of(
+      "--2number-opt", "2",
+      "--6path", "/tmp",
+      "1", "2", "3"
+    );
+
+  /**
+   * A set of arguments that provides a value for every parameter of
+   * {@link QCommandParametersEverything}.
+   */
+
+  public static final List<String> EVERYTHING_ARGUMENTS_FULL =
+    List.of(
+      "--0file", "file.txt",
+      "--1number", "1",
+      "--2number-opt", "2",
+      "--3date", "2023-06-02T00:00:00Z",
+      "--4net", "127.0.0.1",
+      "--4net", "::1",
+      "--5uuid", "2a8c1d0b-8d8b-4d5c-9d1c-5a3c1f0e2b7a",
+      "--6path", "/tmp",
+      "--6path", "/var",
+      "--7uri", "urn:x",
+      "1", "2", "3"
+    );
+
+  private QBenchmarkTrees()
+  {
+
+  }
+
+  private static QCommandMetadata group(
+    final String name)
+  {
+    return new QCommandMetadata(
+      name,
+      new QConstant("A group."),
+      Optional.empty()
+    );
+  }
+
+  /**
+   * @param index The command index
+   *
+   * @return The name of the command at the given index
+   */
+
+  public static String commandName(
+    final int index)
+  {
+    return "cmd-%06d".formatted(index);
+  }
+
+  /**
+   * Create an application with a single group {@code wide} containing
+   * {@code width} commands.
+   *
+   * @param width The number of commands
+   *
+   * @return An application
+   */
+
+  public static QApplicationType wide(
+    final int width)
+  {
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(new PrintWriter(Writer.nullWriter()));
+
+    final var wide = builder.createCommandGroup(group("wide"));
+    for (int index = 0; index < width; ++index) {
+      wide.addCommand(
+        new QBenchmarkRenamedCommand(
+          commandName(index),
+          new QCommandParametersEverything()
+        )
+      );
+    }
+    return builder.build();
+  }
+
+  /**
+   * Create an application with {@code depth} nested groups named
+   * {@code g0}, {@code g1}, and so on. Each group contains a single command
+   * named {@code cmd}.
+   *
+   * @param depth The number of groups
+   *
+   * @return An application
+   */
+
+  public static QApplicationType deep(
+    final int depth)
+  {
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(new PrintWriter(Writer.nullWriter()));
+
+    QApplicationCommandGroupBuilderType current =
+      builder.createCommandGroup(group("g0"));
+
+    for (int index = 0; index < depth; ++index) {
+      current.addCommand(
+        new QBenchmarkRenamedCommand("cmd", new QCommandParametersEverything())
+      );
+      if (index + 1 < depth) {
+        current = current.createCommandGroup(group("g" + (index + 1)));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * @param depth The depth
+   *
+   * @return The path to the deepest command in {@link #deep(int)}
+   */
+
+  public static List<String> deepPath(
+    final int depth)
+  {
+    final var path = new ArrayList<String>(depth + 1);
+    for (int index = 0; index < depth; ++index) {
+      path.add("g" + index);
+    }
+    path.add("cmd");
+    return List.copyOf(path);
+  }
+}
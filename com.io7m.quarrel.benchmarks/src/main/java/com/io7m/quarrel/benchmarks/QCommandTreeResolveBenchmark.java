@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandTreeResolver;
+import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionType;
+import com.io7m.quarrel.core.QException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for command resolution in wide and deep command trees.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QCommandTreeResolveBenchmark
+{
+  /**
+   * Benchmarks for command resolution.
+   */
+
+  public QCommandTreeResolveBenchmark()
+  {
+
+  }
+
+  /**
+   * A tree consisting of a single group with many commands.
+   */
+
+  @State(Scope.Benchmark)
+  public static class Wide
+  {
+    /**
+     * The number of commands in the group.
+     */
+
+    @Param({"10", "1000", "10000"})
+    public int width;
+
+    private QApplicationType application;
+    private List<String> path;
+    private List<String> arguments;
+
+    /**
+     * A tree consisting of a single group with many commands.
+     */
+
+    public Wide()
+    {
+
+    }
+
+    /**
+     * Set up the tree.
+     */
+
+    @Setup
+    public void setup()
+    {
+      this.application =
+        QBenchmarkTrees.wide(this.width);
+      this.path =
+        List.of("wide", QBenchmarkTrees.commandName(this.width / 2));
+
+      final var withArguments = new ArrayList<>(this.path);
+      withArguments.addAll(QBenchmarkTrees.EVERYTHING_ARGUMENTS);
+      this.arguments = List.copyOf(withArguments);
+    }
+  }
+
+  /**
+   * A tree consisting of many nested groups.
+   */
+
+  @State(Scope.Benchmark)
+  public static class Deep
+  {
+    /**
+     * The number of nested groups.
+     */
+
+    @Param({"4", "64"})
+    public int depth;
+
+    private QApplicationType application;
+    private List<String> path;
+    private List<String> arguments;
+
+    /**
+     * A tree consisting of many nested groups.
+     */
+
+    public Deep()
+    {
+
+    }
+
+    /**
+     * Set up the tree.
+     */
+
+    @Setup
+    public void setup()
+    {
+      this.application =
+        QBenchmarkTrees.deep(this.depth);
+      this.path =
+        QBenchmarkTrees.deepPath(this.depth);
+
+      final var withArguments = new ArrayList<>(this.path);
+      withArguments.addAll(QBenchmarkTrees.EVERYTHING_ARGUMENTS);
+      this.arguments = List.copyOf(withArguments);
+    }
+  }
+
+  /**
+   * Resolve a command in a wide tree.
+   *
+   * @param state The tree
+   *
+   * @return The resolution
+   */
+
+  @Benchmark
+  public QResolutionType resolveWide(
+    final Wide state)
+  {
+    return QCommandTreeResolver.resolve(
+      state.application.commandTree(),
+      state.path
+    );
+  }
+
+  /**
+   * Resolve a command in a deep tree.
+   *
+   * @param state The tree
+   *
+   * @return The resolution
+   */
+
+  @Benchmark
+  public QResolutionType resolveDeep(
+    final Deep state)
+  {
+    return QCommandTreeResolver.resolve(
+      state.application.commandTree(),
+      state.path
+    );
+  }
+
+  /**
+   * Resolve and parse a command in a wide tree.
+   *
+   * @param state The tree
+   *
+   * @return The command context
+   *
+   * @throws QException On errors
+   */
+
+  @Benchmark
+  public QCommandContextType parseWide(
+    final Wide state)
+    throws QException
+  {
+    return state.application.parse(state.arguments);
+  }
+
+  /**
+   * Resolve and parse a command in a deep tree.
+   *
+   * @param state The tree
+   *
+   * @return The command context
+   *
+   * @throws QException On errors
+   */
+
+  @Benchmark
+  public QCommandContextType parseDeep(
+    final Deep state)
+    throws QException
+  {
+    return state.application.parse(state.arguments);
+  }
+}
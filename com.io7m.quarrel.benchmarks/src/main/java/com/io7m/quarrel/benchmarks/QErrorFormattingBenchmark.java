@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QErrorFormatting;
+import com.io7m.quarrel.core.QException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for error formatting.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QErrorFormattingBenchmark
+{
+  private QApplicationType application;
+  private QException error;
+
+  /**
+   * Benchmarks for error formatting.
+   */
+
+  public QErrorFormattingBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up an error by parsing an unparseable value.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.application =
+      QBenchmarkTrees.wide(1);
+
+    final var arguments =
+      new ArrayList<>(List.of("wide", QBenchmarkTrees.commandName(0)));
+    arguments.addAll(List.of("--1number", "x"));
+    arguments.addAll(QBenchmarkTrees.EVERYTHING_ARGUMENTS);
+
+    try {
+      this.application.parse(arguments);
+      throw new IllegalStateException("Parsing unexpectedly succeeded.");
+    } catch (final QException e) {
+      this.error = e;
+    }
+  }
+
+  /**
+   * Format an error.
+   *
+   * @param blackhole The receiver of formatted messages
+   */
+
+  @Benchmark
+  public void format(
+    final Blackhole blackhole)
+  {
+    QErrorFormatting.format(this.application, this.error, blackhole::consume);
+    for (final var extra : this.error.extraErrors()) {
+      QErrorFormatting.format(this.application, extra, blackhole::consume);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QCommandGroupType;
+import com.io7m.quarrel.core.QCommandHelpFormatting;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.tests.QCommandParametersEverything;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for help message formatting.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QHelpFormattingBenchmark
+{
+  private QApplicationType application;
+  private QCommandParametersEverything command;
+  private QCommandGroupType group;
+  private PrintWriter output;
+
+  /**
+   * Benchmarks for help message formatting.
+   */
+
+  public QHelpFormattingBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the application.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.application =
+      QBenchmarkTrees.wide(100);
+    this.command =
+      new QCommandParametersEverything();
+    this.group =
+      (QCommandGroupType) this.application.commandTree().get("wide");
+    this.output =
+      new PrintWriter(Writer.nullWriter());
+  }
+
+  /**
+   * Format the help for a command that uses every kind of parameter.
+   *
+   * @throws QException On errors
+   */
+
+  @Benchmark
+  public void formatCommand()
+    throws QException
+  {
+    QCommandHelpFormatting.formatCommand(
+      this.application.valueConverters(),
+      this.application,
+      this.application.metadata().applicationName(),
+      this.output,
+      this.command
+    );
+  }
+
+  /**
+   * Format the help for a group of 100 commands.
+   */
+
+  @Benchmark
+  public void formatGroup()
+  {
+    QCommandHelpFormatting.formatGroup(
+      this.application.valueConverters(),
+      this.application,
+      this.application.metadata().applicationName(),
+      this.output,
+      this.group,
+      List.of("wide")
+    );
+  }
+}
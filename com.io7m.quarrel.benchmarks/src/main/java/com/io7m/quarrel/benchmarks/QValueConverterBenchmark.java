@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.benchmarks;
+
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QValueConverterType;
+import com.io7m.quarrel.core.converters.QVCBigDecimal;
+import com.io7m.quarrel.core.converters.QVCBigInteger;
+import com.io7m.quarrel.core.converters.QVCBoolean;
+import com.io7m.quarrel.core.converters.QVCDouble;
+import com.io7m.quarrel.core.converters.QVCDuration;
+import com.io7m.quarrel.core.converters.QVCEnum;
+import com.io7m.quarrel.core.converters.QVCFloat;
+import com.io7m.quarrel.core.converters.QVCInetAddress;
+import com.io7m.quarrel.core.converters.QVCInteger;
+import com.io7m.quarrel.core.converters.QVCLong;
+import com.io7m.quarrel.core.converters.QVCOffsetDateTime;
+import com.io7m.quarrel.core.converters.QVCPath;
+import com.io7m.quarrel.core.converters.QVCPattern;
+import com.io7m.quarrel.core.converters.QVCString;
+import com.io7m.quarrel.core.converters.QVCURI;
+import com.io7m.quarrel.core.converters.QVCUUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for each of the standard value converters.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QValueConverterBenchmark
+{
+  /**
+   * The converted type.
+   */
+
+  @Param({
+    "BigDecimal",
+    "BigInteger",
+    "Boolean",
+    "Double",
+    "Duration",
+    "Enum",
+    "Float",
+    "InetAddress",
+    "Integer",
+    "Long",
+    "OffsetDateTime",
+    "Path",
+    "Pattern",
+    "String",
+    "URI",
+    "UUID"
+  })
+  public String type;
+
+  private static final String INVALID = "not a valid value";
+
+  private QValueConverterType<Object> converter;
+  private String text;
+  private Object value;
+
+  /**
+   * Benchmarks for value converters.
+   */
+
+  public QValueConverterBenchmark()
+  {
+
+  }
+
+  @SuppressWarnings("unchecked")
+  private static QValueConverterType<Object> converterFor(
+    final String type)
+  {
+    return (QValueConverterType<Object>) switch (type) {
+      case "BigDecimal" -> QVCBigDecimal.get();
+      case "BigInteger" -> QVCBigInteger.get();
+      case "Boolean" -> QVCBoolean.get();
+      case "Double" -> QVCDouble.get();
+      case "Duration" -> QVCDuration.get();
+      case "Enum" -> QVCEnum.get(TimeUnit.class);
+      case "Float" -> QVCFloat.get();
+      case "InetAddress" -> QVCInetAddress.literals();
+      case "Integer" -> QVCInteger.get();
+      case "Long" -> QVCLong.get();
+      case "OffsetDateTime" -> QVCOffsetDateTime.get();
+      case "Path" -> QVCPath.get();
+      case "Pattern" -> QVCPattern.get();
+      case "String" -> QVCString.get();
+      case "URI" -> QVCURI.get();
+      case "UUID" -> QVCUUID.get();
+      default -> throw new IllegalArgumentException(type);
+    };
+  }
+
+  private static String textFor(
+    final String type)
+  {
+    return switch (type) {
+      case "BigDecimal" -> "3.14159265358979323846";
+      case "BigInteger" -> "123456789012345678901234567890";
+      case "Boolean" -> "true";
+      case "Double" -> "3.141592653589793";
+      case "Duration" -> "PT1H30M";
+      case "Enum" -> "SECONDS";
+      case "Float" -> "3.14159";
+      case "InetAddress" -> "127.0.0.1";
+      case "Integer" -> "23";
+      case "Long" -> "1234567890123";
+      case "OffsetDateTime" -> "2023-06-02T00:00:00Z";
+      case "Path" -> "/tmp/file.txt";
+      case "Pattern" -> "[a-z]+[0-9]*";
+      case "String" -> "text";
+      case "URI" -> "https://www.io7m.com/software/quarrel/";
+      case "UUID" -> "2a8c1d0b-8d8b-4d5c-9d1c-5a3c1f0e2b7a";
+      default -> throw new IllegalArgumentException(type);
+    };
+  }
+
+  /**
+   * Set up the converter.
+   *
+   * @throws QException On errors
+   */
+
+  @Setup
+  public void setup()
+    throws QException
+  {
+    this.converter = converterFor(this.type);
+    this.text = textFor(this.type);
+    this.value = this.converter.convertFromString(this.text);
+  }
+
+  /**
+   * Convert a value from a string.
+   *
+   * @return The value
+   *
+   * @throws QException On errors
+   */
+
+  @Benchmark
+  public Object convertFromString()
+    throws QException
+  {
+    return this.converter.convertFromString(this.text);
+  }
+
+  /**
+   * Convert a value from a string without raising exceptions.
+   *
+   * @return The conversion result
+   */
+
+  @Benchmark
+  public QConversionResultType<Object> tryConvertFromString()
+  {
+    return this.converter.tryConvertFromString(this.text);
+  }
+
+  /**
+   * Convert a value from a string that is not valid for most types. For
+   * types that accept any string, this measures the same path as
+   * {@link #tryConvertFromString()}.
+   *
+   * @return The conversion result
+   */
+
+  @Benchmark
+  public QConversionResultType<Object> tryConvertFromStringInvalid()
+  {
+    return this.converter.tryConvertFromString(INVALID);
+  }
+
+  /**
+   * Convert a value to a string.
+   *
+   * @return The string
+   *
+   * @throws QException On errors
+   */
+
+  @Benchmark
+  public String convertToString()
+    throws QException
+  {
+    return this.converter.convertToString(this.value);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/**
+ * Command-line argument parser (Benchmarks)
+ *
+ * <p>The benchmarks are executed using the shaded jar file produced by the
+ * build. Allocation figures are obtained by enabling the JMH GC profiler:</p>
+ *
+ * <pre>{@code
+ * $ java -jar com.io7m.quarrel.benchmarks-*-main.jar -prof gc
+ * }</pre>
+ *
+ * <p>A single suite can be selected by name, and the GC profiler reports
+ * the bytes allocated per operation as {@code gc.alloc.rate.norm}:</p>
+ *
+ * <pre>{@code
+ * $ java -jar com.io7m.quarrel.benchmarks-*-main.jar QValueConverterBenchmark -prof gc
+ * }</pre>
+ *
+ * <p>The synthetic command trees are built from the commands in the test
+ * suite, so that the benchmarks exercise the same parameters as the
+ * tests.</p>
+ */
+
+@Version("1.0.0")
+package com.io7m.quarrel.benchmarks;
+
+import org.osgi.annotation.versioning.Version;
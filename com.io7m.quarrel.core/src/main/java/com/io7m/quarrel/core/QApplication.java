@@ -16,26 +16,30 @@
 
 package com.io7m.quarrel.core;
 
-import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionErrorDoesNotExist;
-import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionOKCommand;
-import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionOKGroup;
-import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionRoot;
+import com.io7m.quarrel.core.QParseResultType.QParseFailure;
+import com.io7m.quarrel.core.QParseResultType.QParseSuccess;
 import com.io7m.quarrel.core.QStringType.QLocalize;
+import com.io7m.quarrel.core.internal.QArgumentFiles;
 import com.io7m.quarrel.core.internal.QCommandApplicationUsage;
 import com.io7m.quarrel.core.internal.QCommandContext;
 import com.io7m.quarrel.core.internal.QCommandHelp;
+import com.io7m.quarrel.core.internal.QCommandIndex;
+import com.io7m.quarrel.core.internal.QCommandParsePlan;
+import com.io7m.quarrel.core.internal.QCommandParsePlan.PositionalsAny;
+import com.io7m.quarrel.core.internal.QCommandParser;
 import com.io7m.quarrel.core.internal.QCommandVersion;
 import com.io7m.quarrel.core.internal.QEmptyResources;
+import com.io7m.quarrel.core.internal.QExpandedArguments;
+import com.io7m.quarrel.core.internal.QSortedArrayMap;
 import com.io7m.quarrel.core.internal.QStrings;
+import com.io7m.seltzer.api.SStructuredError;
 
-import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -44,15 +48,35 @@ import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.SortedMap;
 import java.util.TreeMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default application configuration.
+ *
+ * <p>Applications are immutable once built, and may be shared between
+ * threads. Any number of threads may parse and execute commands
+ * concurrently, provided that the commands themselves are thread-safe.
+ * Callers that need separate output for each invocation should use
+ * {@link #parse(List, QInvocationOptions)}, as the output writer given to
+ * the application builder is shared by every call to
+ * {@link #parse(List)}.</p>
  */
 
 public final class QApplication implements QApplicationType
 {
-  private static final Pattern AT = Pattern.compile("@");
+  /*
+   * Invocation locales may come from untrusted sources such as remote
+   * clients, so the number of cached localized parsers is bounded.
+   */
+
+  private static final int LOCALE_CACHE_LIMIT = 64;
+
+  /*
+   * The empty path resolves names against the working directory of the
+   * process.
+   */
+
+  private static final Path CURRENT_DIRECTORY = Paths.get("");
 
   private final PrintWriter writer;
   private final QApplicationMetadata metadata;
@@ -60,9 +84,18 @@ public final class QApplication implements QApplicationType
   private final QValueConverterDirectoryType valueConverters;
   private final ResourceBundle applicationResources;
   private final ResourceBundle internalResources;
-  private final QCommandParsers parsers;
+  private final boolean internalResourcesCustom;
+  private final QCommandParserConfiguration parserConfiguration;
+  private final Localized localized;
+  private final ConcurrentHashMap<Locale, Localized> localizedByLocale;
+  private final QCommandIndex index;
+  private final QCommandParsePlan[] plans;
   private final QLocalizationType localization;
   private final boolean allowAtSyntax;
+  private final QAtSyntaxConfiguration atSyntax;
+  private final QAtSyntaxFormat atSyntaxFormat;
+  private final InputStream input;
+  private final QInvocationOptions options;
 
   private QApplication(
     final PrintWriter inWriter,
@@ -71,7 +104,12 @@ public final class QApplication implements QApplicationType
     final QValueConverterDirectoryType inConverters,
     final ResourceBundle inApplicationResources,
     final ResourceBundle inInternalResources,
-    final boolean inAllowAtSyntax)
+    final boolean inInternalResourcesCustom,
+    final QConversionStrategyType inConversionStrategy,
+    final boolean inAllowAtSyntax,
+    final QAtSyntaxConfiguration inAtSyntax,
+    final QAtSyntaxFormat inAtSyntaxFormat,
+    final InputStream inInput)
   {
     this.writer =
       Objects.requireNonNull(inWriter, "writer");
@@ -85,15 +123,78 @@ public final class QApplication implements QApplicationType
       Objects.requireNonNull(inApplicationResources, "applicationResources");
     this.internalResources =
       Objects.requireNonNull(inInternalResources, "internalResources");
+    this.internalResourcesCustom =
+      inInternalResourcesCustom;
     this.allowAtSyntax =
       inAllowAtSyntax;
-    this.parsers =
-      new QCommandParsers();
+    this.atSyntax =
+      Objects.requireNonNull(inAtSyntax, "atSyntax");
+    this.atSyntaxFormat =
+      Objects.requireNonNull(inAtSyntaxFormat, "atSyntaxFormat");
+    this.input =
+      Objects.requireNonNull(inInput, "input");
+    this.options =
+      new QInvocationOptions(this.writer);
     this.localization =
       QLocalization.create(
         inInternalResources,
         inApplicationResources
       );
+    this.parserConfiguration =
+      new QCommandParserConfiguration(
+        inConverters,
+        inApplicationResources,
+        inConversionStrategy
+      );
+    this.localized =
+      new Localized(
+        this.localization,
+        new QCommandParser(this.parserConfiguration, this.localization)
+      );
+    this.localizedByLocale =
+      new ConcurrentHashMap<>();
+
+    this.index =
+      QCommandIndex.create(inCommandTree);
+    this.plans =
+      this.compilePlans(this.index);
+  }
+
+  /*
+   * Validate every command in the tree up front and produce a parse plan
+   * for each. Configuration errors such as duplicate parameter names or
+   * missing value converters are reported here rather than when the
+   * command is first used. Plans are stored by index node so that a
+   * resolved command can find its plan without a map lookup.
+   */
+
+  private QCommandParsePlan[] compilePlans(
+    final QCommandIndex commandIndex)
+  {
+    final var output =
+      new QCommandParsePlan[commandIndex.size()];
+    final var compiled =
+      new IdentityHashMap<QCommandType, QCommandParsePlan>();
+
+    for (int node = QCommandIndex.ROOT + 1; node < output.length; ++node) {
+      if (commandIndex.item(node) instanceof final QCommandType command) {
+        var plan = compiled.get(command);
+        if (plan == null) {
+          try {
+            plan = this.localized.parser().plan(command);
+          } catch (final QException e) {
+            throw new IllegalArgumentException(
+              "Command %s has invalid parameters: %s"
+                .formatted(command.metadata().name(), e.getMessage()),
+              e
+            );
+          }
+          compiled.put(command, plan);
+        }
+        output[node] = plan;
+      }
+    }
+    return output;
   }
 
   /**
@@ -107,11 +208,7 @@ public final class QApplication implements QApplicationType
   public static QApplicationBuilderType builder(
     final QApplicationMetadata metadata)
   {
-    try {
-      return new ApplicationBuilder(metadata);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
-    }
+    return new ApplicationBuilder(metadata);
   }
 
   @Override
@@ -149,123 +246,229 @@ public final class QApplication implements QApplicationType
     final List<String> arguments)
     throws QException
   {
-    return this.parseExpanded(this.expandArguments(arguments));
+    return this.parseResult(arguments).orElseThrow();
   }
 
-  private List<String> expandArguments(
-    final List<String> arguments)
+  @Override
+  public QCommandContextType parse(
+    final List<String> arguments,
+    final QInvocationOptions options)
     throws QException
   {
-    if (this.allowAtSyntax) {
-      if (!arguments.isEmpty()) {
-        final var first = arguments.get(0);
-        if (first.startsWith("@")) {
-          final var argumentsRest = new ArrayList<>(arguments);
-          argumentsRest.remove(0);
-          return this.expandArgument(first, argumentsRest);
-        }
-      }
-    }
-    return arguments;
+    return this.parseResult(arguments, options).orElseThrow();
   }
 
-  private List<String> expandArgument(
-    final String first,
-    final List<String> remaining)
-    throws QException
+  @Override
+  public QParseResultType parseResult(
+    final List<String> arguments)
+  {
+    Objects.requireNonNull(arguments, "arguments");
+
+    return this.parseWith(arguments, this.options, this.localized);
+  }
+
+  @Override
+  public QParseResultType parseResult(
+    final List<String> arguments,
+    final QInvocationOptions options)
+  {
+    Objects.requireNonNull(arguments, "arguments");
+    Objects.requireNonNull(options, "options");
+
+    final var localizedNow =
+      options.locale()
+        .map(this::localizedFor)
+        .orElse(this.localized);
+
+    return this.parseWith(arguments, options, localizedNow);
+  }
+
+  private QParseResultType parseWith(
+    final List<String> arguments,
+    final QInvocationOptions options,
+    final Localized localizedNow)
   {
-    final var withoutAt =
-      AT.matcher(first).replaceFirst("");
-    final var path =
-      Paths.get(withoutAt);
-
-    final List<String> lines;
-    try {
-      try (var stream = Files.lines(path)) {
-        lines = stream
-          .filter(line -> !line.startsWith("#"))
-          .map(String::trim)
-          .filter(line -> !line.isEmpty())
-          .toList();
+    final var output =
+      options.output();
+    final var expanded =
+      this.expandArguments(arguments, localizedNow.localization(), options);
+    final var resolved =
+      this.index.resolve(expanded);
+    final var node =
+      QCommandIndex.node(resolved);
+
+    /*
+     * A command that streams its positional arguments is handed the
+     * arguments that follow the command name without expanding them, so
+     * that the arguments are expanded only as the command consumes them.
+     */
+
+    if (node >= 0
+        && this.plans[node] != null
+        && this.plans[node].positionals() == PositionalsAny.STREAMING) {
+      final var result =
+        localizedNow.parser().parse(
+          this.commandTree,
+          output,
+          this.plans[node],
+          QExpandedArguments.tail(expanded, QCommandIndex.offset(resolved))
+        );
+
+      final var errors = QExpandedArguments.errorsOf(expanded);
+      if (!errors.isEmpty()) {
+        return new QParseFailure(errors);
       }
-    } catch (final IOException e) {
-      throw new QException(
-        this.localize(new QLocalize("quarrel.errorIOFile")),
-        e,
-        "io",
-        Map.ofEntries(
-          Map.entry(
-            this.localize(new QLocalize("quarrel.file")),
-            path.toAbsolutePath().toString())
-        ),
-        Optional.empty(),
-        List.of()
-      );
+      return result;
     }
 
-    final var output =
-      new ArrayList<String>(lines.size() + remaining.size());
-    output.addAll(lines);
-    output.addAll(remaining);
-    return List.copyOf(output);
+    final var drained = QExpandedArguments.drain(expanded);
+    final var errors = QExpandedArguments.errorsOf(expanded);
+    if (!errors.isEmpty()) {
+      return new QParseFailure(errors);
+    }
+    return this.parseExpanded(drained, resolved, output, localizedNow);
   }
 
-  private QCommandContextType parseExpanded(
-    final List<String> arguments)
-    throws QException
+  @Override
+  public QLocalizationType localizationFor(
+    final Locale locale)
   {
-    final var resolved =
-      QCommandTreeResolver.resolve(this.commandTree, arguments);
+    Objects.requireNonNull(locale, "locale");
+    return this.localizedFor(locale).localization();
+  }
 
-    if (resolved instanceof QResolutionRoot) {
-      return new QCommandContext(
-        this.commandTree,
-        this.valueConverters(),
-        this.writer,
-        new QCommandApplicationUsage(this),
-        this.localization,
-        Map.of(),
-        new QParametersPositionalAny(),
-        List.of(),
-        List.of()
+  private Localized localizedFor(
+    final Locale locale)
+  {
+    final var existing = this.localizedByLocale.get(locale);
+    if (existing != null) {
+      return existing;
+    }
+
+    /*
+     * Internal resources given to the builder apply to every locale, just
+     * as they do to the default localizer. Otherwise, the internal
+     * resources are those of the requested locale.
+     */
+
+    final QLocalizationType localizationNow;
+    if (this.internalResourcesCustom) {
+      localizationNow =
+        QLocalization.create(
+          this.internalResources,
+          this.applicationResources
+        );
+    } else {
+      localizationNow =
+        QLocalization.create(locale, this.applicationResources);
+    }
+    final var created =
+      new Localized(
+        localizationNow,
+        new QCommandParser(this.parserConfiguration, localizationNow)
       );
+
+    if (this.localizedByLocale.size() >= LOCALE_CACHE_LIMIT) {
+      return created;
     }
+    final var raced = this.localizedByLocale.putIfAbsent(locale, created);
+    if (raced != null) {
+      return raced;
+    }
+    return created;
+  }
 
-    if (resolved instanceof QResolutionErrorDoesNotExist) {
-      final var path = String.join(" ", arguments);
-      throw new QException(
-        this.localization.localize(new QLocalize(
-          "quarrel.errorCommandNonexistent")),
-        "command-nonexistent",
-        Map.ofEntries(
-          Map.entry(this.localize(new QLocalize("quarrel.command")), path)
-        ),
-        Optional.empty(),
-        List.of()
+  private List<String> expandArguments(
+    final List<String> arguments,
+    final QLocalizationType localizationNow,
+    final QInvocationOptions options)
+  {
+    if (this.allowAtSyntax) {
+      return QArgumentFiles.open(
+        this.atSyntax,
+        this.atSyntaxFormat,
+        options.input().orElse(this.input),
+        options.workingDirectory().orElse(CURRENT_DIRECTORY),
+        localizationNow,
+        arguments
       );
     }
+    return arguments;
+  }
 
-    if (resolved instanceof final QResolutionOKCommand cmd) {
-      final var configuration =
-        new QCommandParserConfiguration(
+  private QParseResultType parseExpanded(
+    final List<String> arguments,
+    final long resolved,
+    final PrintWriter output,
+    final Localized localizedNow)
+  {
+    final var localizationNow =
+      localizedNow.localization();
+    final var node =
+      QCommandIndex.node(resolved);
+    final var offset =
+      QCommandIndex.offset(resolved);
+
+    if (node == QCommandIndex.ROOT) {
+      return new QParseSuccess(
+        new QCommandContext(
+          this.commandTree,
           this.valueConverters(),
-          this.applicationResources()
-        );
-      return this.parsers.create(configuration)
-        .execute(this.commandTree, this.writer, cmd.command(), cmd.remaining());
+          output,
+          new QCommandApplicationUsage(this),
+          localizationNow,
+          Map.of(),
+          new QParametersPositionalAny(),
+          List.of(),
+          List.of()
+        )
+      );
+    }
+
+    if (node == QCommandIndex.MISSING) {
+      final var path = String.join(" ", arguments);
+      return new QParseFailure(
+        List.of(
+          new SStructuredError<>(
+            "command-nonexistent",
+            localizationNow.localize(new QLocalize(
+              "quarrel.errorCommandNonexistent")),
+            Map.ofEntries(
+              Map.entry(
+                localizationNow.localize(new QLocalize("quarrel.command")),
+                path
+              )
+            ),
+            Optional.empty(),
+            Optional.empty()
+          )
+        )
+      );
     }
 
-    if (resolved instanceof final QResolutionOKGroup group) {
-      return new QCommandContext(
+    final var item = this.index.item(node);
+    if (item instanceof QCommandType) {
+      return localizedNow.parser().parse(
         this.commandTree,
-        this.valueConverters(),
-        this.writer,
-        new QCommandHelp(this.metadata.applicationName(), this.commandTree),
-        this.localization,
-        Map.of(),
-        new QParametersPositionalAny(),
-        List.of(),
-        group.path()
+        output,
+        this.plans[node],
+        arguments.subList(offset, arguments.size())
+      );
+    }
+
+    if (item instanceof QCommandGroupType) {
+      return new QParseSuccess(
+        new QCommandContext(
+          this.commandTree,
+          this.valueConverters(),
+          output,
+          new QCommandHelp(this.metadata.applicationName(), this.commandTree),
+          localizationNow,
+          Map.of(),
+          new QParametersPositionalAny(),
+          List.of(),
+          List.copyOf(arguments.subList(0, offset))
+        )
       );
     }
 
@@ -287,6 +490,23 @@ public final class QApplication implements QApplicationType
     return this.localization.format(string, arguments);
   }
 
+  /*
+   * A localizer and a parser that uses it. Parse plans do not depend on
+   * the locale, so parsers for every locale share the plans compiled when
+   * the application was built.
+   */
+
+  private record Localized(
+    QLocalizationType localization,
+    QCommandParser parser)
+  {
+    private Localized
+    {
+      Objects.requireNonNull(localization, "localization");
+      Objects.requireNonNull(parser, "parser");
+    }
+  }
+
   private sealed interface BuilderType
   {
 
@@ -303,12 +523,16 @@ public final class QApplication implements QApplicationType
     private PrintWriter writer;
     private QValueConverterDirectoryType converters;
     private ResourceBundle internalResources;
+    private boolean internalResourcesCustom;
     private ResourceBundle applicationResources;
+    private QConversionStrategyType conversionStrategy;
     private boolean allowAtSyntax;
+    private QAtSyntaxConfiguration atSyntax;
+    private QAtSyntaxFormat atSyntaxFormat;
+    private InputStream input;
 
     ApplicationBuilder(
       final QApplicationMetadata inMetadata)
-      throws IOException
     {
       this.metadata =
         Objects.requireNonNull(inMetadata, "metadata");
@@ -321,11 +545,16 @@ public final class QApplication implements QApplicationType
       this.writer =
         new PrintWriter(System.out, true);
       this.internalResources =
-        new QStrings(Locale.getDefault())
+        QStrings.forLocale(Locale.getDefault())
           .resources();
       this.applicationResources =
         new QEmptyResources();
+      this.conversionStrategy =
+        QConversionStrategyType.sequential();
       this.allowAtSyntax = true;
+      this.atSyntax = QAtSyntaxConfiguration.defaults();
+      this.atSyntaxFormat = QAtSyntaxFormat.LINES;
+      this.input = System.in;
 
       this.versionCommand =
         new QCommandVersion(this.metadata);
@@ -350,6 +579,15 @@ public final class QApplication implements QApplicationType
       return this;
     }
 
+    @Override
+    public QApplicationBuilderType setConversionStrategy(
+      final QConversionStrategyType strategy)
+    {
+      this.conversionStrategy =
+        Objects.requireNonNull(strategy, "strategy");
+      return this;
+    }
+
     @Override
     public QApplicationBuilderType setOutput(
       final PrintWriter newWriter)
@@ -373,6 +611,7 @@ public final class QApplication implements QApplicationType
     {
       this.internalResources =
         Objects.requireNonNull(resources, "resources");
+      this.internalResourcesCustom = true;
       return this;
     }
 
@@ -405,6 +644,31 @@ public final class QApplication implements QApplicationType
       return this;
     }
 
+    @Override
+    public QApplicationBuilderType setAtSyntaxConfiguration(
+      final QAtSyntaxConfiguration configuration)
+    {
+      this.atSyntax =
+        Objects.requireNonNull(configuration, "configuration");
+      return this;
+    }
+
+    @Override
+    public QApplicationBuilderType setAtSyntaxFormat(
+      final QAtSyntaxFormat format)
+    {
+      this.atSyntaxFormat = Objects.requireNonNull(format, "format");
+      return this;
+    }
+
+    @Override
+    public QApplicationBuilderType setInput(
+      final InputStream newInput)
+    {
+      this.input = Objects.requireNonNull(newInput, "input");
+      return this;
+    }
+
     @Override
     public QApplicationType build()
     {
@@ -423,11 +687,16 @@ public final class QApplication implements QApplicationType
       return new QApplication(
         this.writer,
         this.metadata,
-        Collections.unmodifiableSortedMap(tree),
+        QSortedArrayMap.copyOf(tree),
         this.converters,
         this.applicationResources,
         this.internalResources,
-        this.allowAtSyntax
+        this.internalResourcesCustom,
+        this.conversionStrategy,
+        this.allowAtSyntax,
+        this.atSyntax,
+        this.atSyntaxFormat,
+        this.input
       );
     }
 
@@ -544,7 +813,7 @@ public final class QApplication implements QApplicationType
       }
 
       return new CommandGroup(
-        Collections.unmodifiableSortedMap(tree),
+        QSortedArrayMap.copyOf(tree),
         this.meta
       );
     }
@@ -16,6 +16,9 @@
 
 package com.io7m.quarrel.core;
 
+import org.osgi.annotation.versioning.ProviderType;
+
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.util.ResourceBundle;
 
@@ -23,6 +26,7 @@ import java.util.ResourceBundle;
  * An application builder.
  */
 
+@ProviderType
 public interface QApplicationBuilderType
 {
   /**
@@ -36,6 +40,20 @@ public interface QApplicationBuilderType
   QApplicationBuilderType setValueConverters(
     QValueConverterDirectoryType converters);
 
+  /**
+   * Set the strategy used to convert parameter values. Values are converted
+   * sequentially by default.
+   *
+   * @param strategy The strategy
+   *
+   * @return this
+   *
+   * @see QConversionStrategyType
+   */
+
+  QApplicationBuilderType setConversionStrategy(
+    QConversionStrategyType strategy);
+
   /**
    * Set the output that will be used when executing commands.
    *
@@ -103,8 +121,54 @@ public interface QApplicationBuilderType
     boolean enabled);
 
   /**
+   * Set the configuration of @ syntax processing. The configuration has no
+   * effect if @ syntax processing is disabled.
+   *
+   * @param configuration The configuration
+   *
+   * @return this
+   *
+   * @see QAtSyntaxConfiguration#defaults()
+   */
+
+  QApplicationBuilderType setAtSyntaxConfiguration(
+    QAtSyntaxConfiguration configuration);
+
+  /**
+   * Set the format of argument files read by @ syntax processing. The
+   * default is {@link QAtSyntaxFormat#LINES}.
+   *
+   * @param format The format
+   *
+   * @return this
+   */
+
+  QApplicationBuilderType setAtSyntaxFormat(
+    QAtSyntaxFormat format);
+
+  /**
+   * Set the stream from which arguments are read when the argument
+   * {@code @-} is given. The stream is read incrementally, and is not
+   * closed. The default is {@link System#in}.
+   *
+   * @param input The input stream
+   *
+   * @return this
+   */
+
+  QApplicationBuilderType setInput(
+    InputStream input);
+
+  /**
+   * Build the application. The parameters of every command are validated
+   * against the configured value converters, so configuration errors are
+   * reported here rather than when a command is first used.
+   *
    * @return The immutable application
+   *
+   * @throws IllegalArgumentException If any command has invalid parameters
    */
 
-  QApplicationType build();
+  QApplicationType build()
+    throws IllegalArgumentException;
 }
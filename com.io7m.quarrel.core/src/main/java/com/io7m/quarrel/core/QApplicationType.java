@@ -16,18 +16,29 @@
 
 package com.io7m.quarrel.core;
 
+import com.io7m.quarrel.core.QParseResultType.QParseFailure;
+import com.io7m.quarrel.core.QParseResultType.QParseSuccess;
 import com.io7m.quarrel.core.QStringType.QLocalize;
+import com.io7m.quarrel.core.internal.QApplicationAsync;
 import com.io7m.seltzer.api.SStructuredErrorExceptionType;
+import org.osgi.annotation.versioning.ProviderType;
 import org.slf4j.Logger;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * An application.
  */
 
+@ProviderType
 public interface QApplicationType
   extends QLocalizationType
 {
@@ -61,6 +72,80 @@ public interface QApplicationType
 
   QValueConverterDirectoryType valueConverters();
 
+  /**
+   * Obtain the localization that this application uses for invocations
+   * in the given locale. The default implementation returns the application
+   * itself, ignoring the locale.
+   *
+   * @param locale The locale
+   *
+   * @return The localization for the locale
+   *
+   * @see QInvocationOptions#locale()
+   */
+
+  default QLocalizationType localizationFor(
+    final Locale locale)
+  {
+    Objects.requireNonNull(locale, "locale");
+    return this;
+  }
+
+  /**
+   * Parse the given command line arguments, returning either an appropriate
+   * command context for execution, or the errors that prevented parsing.
+   * Errors are returned as values; no exceptions are constructed for them,
+   * so this method is suitable for validating large numbers of invocations
+   * that are expected to contain errors.
+   *
+   * <p>The default implementation delegates to {@link #parse(List)} and
+   * converts any resulting exception into a failed result. Implementations
+   * are expected to override it with one that does not construct
+   * exceptions.</p>
+   *
+   * @param arguments The arguments
+   *
+   * @return The parse result
+   */
+
+  default QParseResultType parseResult(
+    final List<String> arguments)
+  {
+    try {
+      return new QParseSuccess(this.parse(arguments));
+    } catch (final QException e) {
+      return QParseFailure.ofException(e);
+    }
+  }
+
+  /**
+   * Parse the given command line arguments, returning either an appropriate
+   * command context for execution, or the errors that prevented parsing.
+   *
+   * <p>The default implementation delegates to
+   * {@link #parse(List, QInvocationOptions)} and converts any resulting
+   * exception into a failed result.</p>
+   *
+   * @param arguments The arguments
+   * @param options   The invocation options
+   *
+   * @return The parse result
+   *
+   * @see #parseResult(List)
+   * @see #parse(List, QInvocationOptions)
+   */
+
+  default QParseResultType parseResult(
+    final List<String> arguments,
+    final QInvocationOptions options)
+  {
+    try {
+      return new QParseSuccess(this.parse(arguments, options));
+    } catch (final QException e) {
+      return QParseFailure.ofException(e);
+    }
+  }
+
   /**
    * Parse the given command line arguments, returning an appropriate command
    * context for execution.
@@ -70,11 +155,35 @@ public interface QApplicationType
    * @return A command context
    *
    * @throws QException On errors
+   * @see #parseResult(List)
    */
 
   QCommandContextType parse(List<String> arguments)
     throws QException;
 
+  /**
+   * Parse the given command line arguments, returning an appropriate command
+   * context for execution. The returned context writes to the output given
+   * in the options, and messages are localized using the locale given in
+   * the options, rather than those of the application.
+   *
+   * <p>Only the internal messages of the application are affected by the
+   * locale; the application-specific resources are used as given.</p>
+   *
+   * @param arguments The arguments
+   * @param options   The invocation options
+   *
+   * @return A command context
+   *
+   * @throws QException On errors
+   * @see #parseResult(List, QInvocationOptions)
+   */
+
+  QCommandContextType parse(
+    List<String> arguments,
+    QInvocationOptions options)
+    throws QException;
+
   /**
    * A convenience method that runs this application for the given arguments.
    * Arguments are parsed, and a suitable command is executed. Parse and other
@@ -90,8 +199,16 @@ public interface QApplicationType
     final Logger logger,
     final List<String> arguments)
   {
+    final var result = this.parseResult(arguments);
+    if (result instanceof final QParseFailure failure) {
+      for (final var error : failure.errors()) {
+        QErrorFormatting.format(this, error, s -> logger.error("{}", s));
+      }
+      return QCommandStatus.FAILURE;
+    }
+
     try {
-      return this.parse(arguments).execute();
+      return result.orElseThrow().execute();
     } catch (final QException ex) {
       QErrorFormatting.format(this, ex, s -> logger.error("{}", s));
       for (final var error : ex.extraErrors()) {
@@ -115,4 +232,80 @@ public interface QApplicationType
       return QCommandStatus.FAILURE;
     }
   }
+
+  /**
+   * Run this application asynchronously for the given arguments on a new
+   * virtual thread.
+   *
+   * @param logger    The receiver of log messages
+   * @param arguments The arguments
+   *
+   * @return The future status of the executed command
+   *
+   * @see #runAsync(Logger, List, Executor, Optional)
+   */
+
+  default CompletableFuture<QCommandStatus> runAsync(
+    final Logger logger,
+    final List<String> arguments)
+  {
+    return this.runAsync(
+      logger,
+      arguments,
+      QApplicationAsync.virtualThreadExecutor(),
+      Optional.empty()
+    );
+  }
+
+  /**
+   * Run this application asynchronously for the given arguments.
+   *
+   * @param logger    The receiver of log messages
+   * @param arguments The arguments
+   * @param executor  The executor that will run the command
+   *
+   * @return The future status of the executed command
+   *
+   * @see #runAsync(Logger, List, Executor, Optional)
+   */
+
+  default CompletableFuture<QCommandStatus> runAsync(
+    final Logger logger,
+    final List<String> arguments,
+    final Executor executor)
+  {
+    return this.runAsync(logger, arguments, executor, Optional.empty());
+  }
+
+  /**
+   * Run this application asynchronously for the given arguments. The
+   * arguments are parsed and executed as with
+   * {@link #run(Logger, List)}, and errors are logged in the same way.
+   *
+   * <p>If a timeout is given and the command does not complete in time, a
+   * timeout error is logged, the returned future completes with
+   * {@link QCommandStatus#FAILURE}, and the thread running the command is
+   * interrupted. Cancelling the returned future also interrupts the thread
+   * running the command. Commands are expected to respond to interruption
+   * by returning promptly; the status of a command that completes after
+   * a timeout or cancellation is discarded. If the executor rejects the
+   * command, the returned future completes exceptionally with the
+   * rejection.</p>
+   *
+   * @param logger    The receiver of log messages
+   * @param arguments The arguments
+   * @param executor  The executor that will run the command
+   * @param timeout   The maximum time the command may run, if any
+   *
+   * @return The future status of the executed command
+   */
+
+  default CompletableFuture<QCommandStatus> runAsync(
+    final Logger logger,
+    final List<String> arguments,
+    final Executor executor,
+    final Optional<Duration> timeout)
+  {
+    return QApplicationAsync.run(this, logger, arguments, executor, timeout);
+  }
 }
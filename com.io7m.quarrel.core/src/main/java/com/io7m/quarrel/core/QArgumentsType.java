@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>A list of command-line arguments that can be read without being
+ * materialized as strings.</p>
+ *
+ * <p>Arguments expanded from argument files using @ syntax are held in a
+ * single character buffer. The string for each argument is created by
+ * the first call to {@link #get(int)} for that argument and shared by
+ * later calls, whereas {@link #view(int)} returns a view of the buffer
+ * and never creates a string. The raw positional arguments of a command
+ * ({@link QCommandContextType#parametersPositionalRaw()}) are instances of
+ * this type when they were produced by @ syntax expansion.</p>
+ */
+
+public interface QArgumentsType
+  extends List<String>, RandomAccess
+{
+  /**
+   * @param index The argument index
+   *
+   * @return A read-only view of the argument at the given index
+   */
+
+  CharSequence view(int index);
+
+  @Override
+  QArgumentsType subList(int fromIndex, int toIndex);
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core;
+
+/**
+ * The configuration of @ syntax processing.
+ *
+ * @param expandAnywhere   {@code true} if arguments beginning with {@code @}
+ *                         are expanded at any position on the command line,
+ *                         rather than only in the first position
+ * @param expandNested     {@code true} if lines beginning with {@code @}
+ *                         in an argument file include other argument files
+ * @param maximumDepth     The maximum depth of nested argument files
+ * @param maximumFileSize  The maximum size in bytes of an argument file
+ * @param maximumArguments The maximum number of arguments that expansion
+ *                         may produce
+ */
+
+public record QAtSyntaxConfiguration(
+  boolean expandAnywhere,
+  boolean expandNested,
+  int maximumDepth,
+  int maximumFileSize,
+  int maximumArguments)
+{
+  private static final QAtSyntaxConfiguration DEFAULTS =
+    new QAtSyntaxConfiguration(
+      false,
+      false,
+      16,
+      Integer.MAX_VALUE,
+      Integer.MAX_VALUE
+    );
+
+  /**
+   * The configuration of @ syntax processing.
+   *
+   * @param expandAnywhere   {@code true} if arguments beginning with
+   *                         {@code @} are expanded at any position on the
+   *                         command line, rather than only in the first
+   *                         position
+   * @param expandNested     {@code true} if lines beginning with {@code @}
+   *                         in an argument file include other argument files
+   * @param maximumDepth     The maximum depth of nested argument files
+   * @param maximumFileSize  The maximum size in bytes of an argument file
+   * @param maximumArguments The maximum number of arguments that expansion
+   *                         may produce
+   */
+
+  public QAtSyntaxConfiguration
+  {
+    if (maximumDepth < 1) {
+      throw new IllegalArgumentException(
+        "Maximum depth %d must be at least 1".formatted(maximumDepth)
+      );
+    }
+    if (maximumFileSize < 0) {
+      throw new IllegalArgumentException(
+        "Maximum file size %d must be non-negative"
+          .formatted(maximumFileSize)
+      );
+    }
+    if (maximumArguments < 0) {
+      throw new IllegalArgumentException(
+        "Maximum arguments %d must be non-negative"
+          .formatted(maximumArguments)
+      );
+    }
+  }
+
+  /**
+   * The default configuration: only the first argument is expanded, argument
+   * files cannot include other files, and file sizes and argument counts
+   * are effectively unlimited.
+   *
+   * @return The default configuration
+   */
+
+  public static QAtSyntaxConfiguration defaults()
+  {
+    return DEFAULTS;
+  }
+}
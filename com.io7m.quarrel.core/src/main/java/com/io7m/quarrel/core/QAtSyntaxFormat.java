@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core;
+
+/**
+ * The format of argument files read by @ syntax processing.
+ *
+ * @see QApplicationBuilderType#setAtSyntaxFormat(QAtSyntaxFormat)
+ */
+
+public enum QAtSyntaxFormat
+{
+  /**
+   * Each line of an argument file is a single argument. Leading and trailing
+   * whitespace is removed, empty lines are ignored, and lines beginning with
+   * {@code #} are comments.
+   */
+
+  LINES,
+
+  /**
+   * An argument file is a sequence of arguments separated by whitespace, in
+   * a subset of the POSIX shell syntax. Arguments may be quoted with single
+   * quotes (inside which every character is literal) or double quotes
+   * (inside which the escapes {@code \\}, {@code \"}, {@code \n},
+   * {@code \r}, and {@code \t} are recognized). Outside of quotes, a
+   * backslash makes the following character literal. A backslash at the end
+   * of a line joins the line to the next. A {@code #} at the start of an
+   * argument begins a comment that extends to the end of the line.
+   */
+
+  QUOTED
+}
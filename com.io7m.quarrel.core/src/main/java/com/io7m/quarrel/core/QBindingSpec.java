@@ -0,0 +1,425 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core;
+
+import com.io7m.quarrel.core.internal.QCommandContext;
+import com.io7m.quarrel.core.internal.QCommandParsePlan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>A binding from the parameters of a command to the components of a
+ * record.</p>
+ *
+ * <p>The record's canonical constructor is located and adapted when the
+ * binding is built, so a binding should be built once (typically when the
+ * command is created) and then used to produce a record for each
+ * execution of the command with
+ * {@link QCommandContextType#bind(QBindingSpec)}.</p>
+ *
+ * <p>When a record is bound from a context produced by the command parser,
+ * the parameters are resolved to slots in the context once for each
+ * command, and the values are then read from those slots directly.</p>
+ *
+ * <p>Values of parameters that may be given more than once are passed to
+ * the record as unmodifiable lists.</p>
+ *
+ * @param <R> The type of record
+ */
+
+public final class QBindingSpec<R extends Record>
+{
+  private final Class<R> recordClass;
+  private final List<QParameterType<?>> parameters;
+  private final Kind[] kinds;
+  private final MethodHandle constructor;
+  private volatile Slots slots;
+
+  private QBindingSpec(
+    final Class<R> inRecordClass,
+    final List<QParameterType<?>> inParameters,
+    final Kind[] inKinds,
+    final MethodHandle inConstructor)
+  {
+    this.recordClass =
+      Objects.requireNonNull(inRecordClass, "recordClass");
+    this.parameters =
+      Objects.requireNonNull(inParameters, "parameters");
+    this.kinds =
+      Objects.requireNonNull(inKinds, "kinds");
+    this.constructor =
+      Objects.requireNonNull(inConstructor, "constructor");
+  }
+
+  private enum Kind
+  {
+    POSITIONAL,
+    NAMED_1,
+    NAMED_01,
+    NAMED_0N,
+    NAMED_1N
+  }
+
+  /**
+   * The slots resolved for the parameters of the binding, for contexts
+   * parsed according to the given plan.
+   */
+
+  private record Slots(
+    QCommandParsePlan plan,
+    int[] indices)
+  {
+
+  }
+
+  /**
+   * Create a new binding builder. The given lookup must have access to the
+   * record's canonical constructor; a lookup created with
+   * {@link MethodHandles#lookup()} in the class declaring the command is
+   * usually sufficient.
+   *
+   * @param lookup      The lookup used to find the record constructor
+   * @param recordClass The record class
+   * @param <R>         The type of record
+   *
+   * @return A new builder
+   */
+
+  public static <R extends Record> QBindingSpecBuilderType<R> builder(
+    final MethodHandles.Lookup lookup,
+    final Class<R> recordClass)
+  {
+    Objects.requireNonNull(lookup, "lookup");
+    Objects.requireNonNull(recordClass, "recordClass");
+
+    if (!recordClass.isRecord()) {
+      throw new IllegalArgumentException(
+        "Class %s is not a record class".formatted(recordClass.getName())
+      );
+    }
+    return new Builder<>(lookup, recordClass);
+  }
+
+  /**
+   * @return The record class
+   */
+
+  public Class<R> recordClass()
+  {
+    return this.recordClass;
+  }
+
+  /**
+   * @return The parameters bound to each record component, in component
+   * order
+   */
+
+  public List<QParameterType<?>> parameters()
+  {
+    return this.parameters;
+  }
+
+  /**
+   * Construct a record from the parameter values in the given context.
+   *
+   * @param context The command context
+   *
+   * @return A record
+   */
+
+  public R bind(
+    final QCommandContextType context)
+  {
+    Objects.requireNonNull(context, "context");
+
+    final Object[] arguments;
+    if (context instanceof final QCommandContext direct
+        && direct.plan().isPresent()) {
+      arguments = this.valuesFromSlots(direct, direct.plan().get());
+    } else {
+      arguments = new Object[this.kinds.length];
+      for (int index = 0; index < arguments.length; ++index) {
+        arguments[index] =
+          valueOf(context, this.kinds[index], this.parameters.get(index));
+      }
+    }
+
+    final Object result;
+    try {
+      result = (Object) this.constructor.invokeExact(arguments);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new IllegalStateException(e);
+    }
+    return this.recordClass.cast(result);
+  }
+
+  /*
+   * The slots are resolved again whenever the binding is used with a
+   * context parsed according to a different plan, so a binding shared
+   * between commands remains correct, if slower.
+   */
+
+  private Object[] valuesFromSlots(
+    final QCommandContext context,
+    final QCommandParsePlan plan)
+  {
+    var current = this.slots;
+    if (current == null || current.plan() != plan) {
+      current = this.resolveSlots(context, plan);
+      this.slots = current;
+    }
+
+    final var indices = current.indices();
+    final var arguments = new Object[indices.length];
+    for (int index = 0; index < indices.length; ++index) {
+      final var slot = indices[index];
+      arguments[index] = switch (this.kinds[index]) {
+        case POSITIONAL -> context.positionalSlot(slot);
+        case NAMED_1 -> context.namedSlot(slot).get(0);
+        case NAMED_01 -> {
+          final var values = context.namedSlot(slot);
+          yield values.isEmpty()
+            ? Optional.empty()
+            : Optional.of(values.get(0));
+        }
+        case NAMED_0N, NAMED_1N -> List.copyOf(context.namedSlot(slot));
+      };
+    }
+    return arguments;
+  }
+
+  private Slots resolveSlots(
+    final QCommandContext context,
+    final QCommandParsePlan plan)
+  {
+    final var indices = new int[this.kinds.length];
+    for (int index = 0; index < indices.length; ++index) {
+      final var parameter = this.parameters.get(index);
+      if (parameter instanceof final QParameterPositional<?> p) {
+        indices[index] = context.positionalSlotOf(p);
+      } else {
+        indices[index] =
+          context.namedSlotOf((QParameterNamedType<?>) parameter);
+      }
+    }
+    return new Slots(plan, indices);
+  }
+
+  private static Object valueOf(
+    final QCommandContextType context,
+    final Kind kind,
+    final QParameterType<?> parameter)
+  {
+    return switch (kind) {
+      case POSITIONAL ->
+        context.parameterValue((QParameterPositional<?>) parameter);
+      case NAMED_1 ->
+        context.parameterValue((QParameterNamed1<?>) parameter);
+      case NAMED_01 ->
+        context.parameterValue((QParameterNamed01<?>) parameter);
+      case NAMED_0N -> List.copyOf(
+        context.parameterValues((QParameterNamed0N<?>) parameter));
+      case NAMED_1N -> List.copyOf(
+        context.parameterValues((QParameterNamed1N<?>) parameter));
+    };
+  }
+
+  private static Kind kindOf(
+    final QParameterType<?> parameter)
+  {
+    if (parameter instanceof QParameterPositional<?>) {
+      return Kind.POSITIONAL;
+    }
+    if (parameter instanceof QParameterNamed1<?>) {
+      return Kind.NAMED_1;
+    }
+    if (parameter instanceof QParameterNamed01<?>) {
+      return Kind.NAMED_01;
+    }
+    if (parameter instanceof QParameterNamed0N<?>) {
+      return Kind.NAMED_0N;
+    }
+    if (parameter instanceof QParameterNamed1N<?>) {
+      return Kind.NAMED_1N;
+    }
+    throw new IllegalArgumentException(
+      "Unrecognized parameter type: %s".formatted(parameter)
+    );
+  }
+
+  private static Optional<Class<?>> containerOf(
+    final QParameterType<?> parameter)
+  {
+    if (parameter instanceof QParameterNamed01<?>) {
+      return Optional.of(Optional.class);
+    }
+    if (parameter instanceof QParameterNamed0N<?>
+        || parameter instanceof QParameterNamed1N<?>) {
+      return Optional.of(List.class);
+    }
+    return Optional.empty();
+  }
+
+  private static void checkCompatible(
+    final RecordComponent component,
+    final QParameterType<?> parameter)
+  {
+    final var componentType = component.getType();
+    final var container = containerOf(parameter);
+
+    final boolean compatible;
+    if (container.isPresent()) {
+      compatible = componentType == container.get()
+                   && isElementCompatible(component, parameter);
+    } else {
+      compatible =
+        MethodType.methodType(componentType)
+          .wrap()
+          .returnType()
+          .isAssignableFrom(parameter.type());
+    }
+
+    if (!compatible) {
+      throw new IllegalArgumentException(
+        ("Record component '%s' of type %s cannot hold the values of "
+         + "parameter '%s' of type %s")
+          .formatted(
+            component.getName(),
+            component.getGenericType().getTypeName(),
+            parameter.name(),
+            parameter.type().getName())
+      );
+    }
+  }
+
+  private static boolean isElementCompatible(
+    final RecordComponent component,
+    final QParameterType<?> parameter)
+  {
+    if (component.getGenericType()
+      instanceof final ParameterizedType parameterized
+        && parameterized.getActualTypeArguments()[0]
+      instanceof final Class<?> element) {
+      return element.isAssignableFrom(parameter.type());
+    }
+    return true;
+  }
+
+  private static final class Builder<R extends Record>
+    implements QBindingSpecBuilderType<R>
+  {
+    private final MethodHandles.Lookup lookup;
+    private final Class<R> recordClass;
+    private final HashMap<String, QParameterType<?>> bindings;
+
+    Builder(
+      final MethodHandles.Lookup inLookup,
+      final Class<R> inRecordClass)
+    {
+      this.lookup = inLookup;
+      this.recordClass = inRecordClass;
+      this.bindings = new HashMap<>();
+    }
+
+    @Override
+    public QBindingSpecBuilderType<R> bind(
+      final String component,
+      final QParameterType<?> parameter)
+    {
+      this.bindings.put(
+        Objects.requireNonNull(component, "component"),
+        Objects.requireNonNull(parameter, "parameter")
+      );
+      return this;
+    }
+
+    @Override
+    public QBindingSpec<R> build()
+    {
+      final var components =
+        this.recordClass.getRecordComponents();
+      final var remaining =
+        new HashMap<>(this.bindings);
+      final var parameters =
+        new ArrayList<QParameterType<?>>(components.length);
+      final var types =
+        new Class<?>[components.length];
+      final var kinds =
+        new Kind[components.length];
+
+      for (int index = 0; index < components.length; ++index) {
+        final var component = components[index];
+        final var parameter = remaining.remove(component.getName());
+        if (parameter == null) {
+          throw new IllegalArgumentException(
+            "Record component '%s' is not bound to a parameter"
+              .formatted(component.getName())
+          );
+        }
+        checkCompatible(component, parameter);
+        parameters.add(parameter);
+        kinds[index] = kindOf(parameter);
+        types[index] = component.getType();
+      }
+
+      if (!remaining.isEmpty()) {
+        throw new IllegalArgumentException(
+          "Record %s has no components named %s"
+            .formatted(this.recordClass.getName(), remaining.keySet())
+        );
+      }
+
+      final MethodHandle constructor;
+      try {
+        constructor = this.lookup.findConstructor(
+          this.recordClass,
+          MethodType.methodType(void.class, types)
+        );
+      } catch (final NoSuchMethodException | IllegalAccessException e) {
+        throw new IllegalArgumentException(e);
+      }
+
+      /*
+       * Adapt the constructor to take a single array of values and return
+       * an Object, so that it can be invoked exactly, with primitive
+       * components unboxed by the adapted handle.
+       */
+
+      final var adapted =
+        constructor.asType(constructor.type().generic())
+          .asSpreader(Object[].class, components.length);
+
+      return new QBindingSpec<>(
+        this.recordClass,
+        List.copyOf(parameters),
+        kinds,
+        adapted
+      );
+    }
+  }
+}
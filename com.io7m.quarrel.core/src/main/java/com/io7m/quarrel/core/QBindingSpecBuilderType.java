@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core;
+
+/**
+ * A builder for record bindings.
+ *
+ * @param <R> The type of record
+ */
+
+public interface QBindingSpecBuilderType<R extends Record>
+{
+  /**
+   * Bind the record component with the given name to the given parameter.
+   * Components bound to {@link QParameterNamed1} and
+   * {@link QParameterPositional} parameters receive the parameter value
+   * directly (primitive components are unboxed),
+   * components bound to {@link QParameterNamed01} parameters must be of
+   * type {@link java.util.Optional}, and components bound to
+   * {@link QParameterNamed0N} and {@link QParameterNamed1N} parameters must
+   * be of type {@link java.util.List}.
+   *
+   * @param component The record component name
+   * @param parameter The parameter
+   *
+   * @return this
+   */
+
+  QBindingSpecBuilderType<R> bind(
+    String component,
+    QParameterType<?> parameter);
+
+  /**
+   * Build a binding. Every record component must have been bound to a
+   * parameter.
+   *
+   * @return The binding
+   *
+   * @throws IllegalArgumentException If a component is unbound, or is not
+   *                                  compatible with its parameter
+   */
+
+  QBindingSpec<R> build()
+    throws IllegalArgumentException;
+}
@@ -22,6 +22,7 @@ import java.io.PrintWriter;
 import java.util.List;
 import java.util.Optional;
 import java.util.SortedMap;
+import java.util.stream.Stream;
 
 /**
  * The context of execution for a command. Typically used to give commands
@@ -64,6 +65,25 @@ public interface QCommandContextType
 
   List<String> parametersPositionalRaw();
 
+  /**
+   * Consume the raw positional parameters as a stream. If the command
+   * declares {@link QParametersPositionalAny} positional parameters with
+   * streaming enabled, and the arguments were read from @ syntax argument
+   * files, then the arguments are read from the files as the stream is
+   * consumed, and are not retained. In this case, the positional parameters
+   * can be consumed only once, and errors encountered whilst reading the
+   * files are raised as {@link QUncheckedException} by the stream.
+   *
+   * @return The raw positional parameters, if any
+   *
+   * @see #parametersPositionalRaw()
+   */
+
+  default Stream<String> parametersPositionalStream()
+  {
+    return this.parametersPositionalRaw().stream();
+  }
+
   /**
    * @param parameter The parameter
    * @param <T>       The parameter type
@@ -73,6 +93,26 @@ public interface QCommandContextType
 
   <T> T parameterValue(QParameterPositional<T> parameter);
 
+  /**
+   * Retrieve the values of all typed positional parameters, in the order
+   * in which the parameters were declared. If the command does not declare
+   * typed positional parameters, the returned array is empty.
+   *
+   * @return The values for the typed positional parameters
+   */
+
+  default Object[] parameterValuesPositional()
+  {
+    if (this.command().onListPositionalParameters()
+      instanceof final QParametersPositionalTyped typed) {
+      return typed.parameters()
+        .stream()
+        .map(this::parameterValue)
+        .toArray();
+    }
+    return new Object[0];
+  }
+
   /**
    * @param parameter The parameter
    * @param <T>       The parameter type
@@ -133,4 +173,197 @@ public interface QCommandContextType
   <T> T parameterValueRequireNow(
     QParameterNamed01<T> parameter)
     throws QException;
+
+  /**
+   * @param parameter The parameter
+   *
+   * @return The value for the parameter as a {@code int}
+   */
+
+  default int parameterValueInt(
+    final QParameterNamed1<Integer> parameter)
+  {
+    return this.parameterValue(parameter).intValue();
+  }
+
+  /**
+   * @param parameter The parameter
+   *
+   * @return The value for the parameter as a {@code int}
+   */
+
+  default int parameterValueInt(
+    final QParameterPositional<Integer> parameter)
+  {
+    return this.parameterValue(parameter).intValue();
+  }
+
+  /**
+   * @param parameter The parameter
+   *
+   * @return The value for the parameter as a {@code long}
+   */
+
+  default long parameterValueLong(
+    final QParameterNamed1<Long> parameter)
+  {
+    return this.parameterValue(parameter).longValue();
+  }
+
+  /**
+   * @param parameter The parameter
+   *
+   * @return The value for the parameter as a {@code long}
+   */
+
+  default long parameterValueLong(
+    final QParameterPositional<Long> parameter)
+  {
+    return this.parameterValue(parameter).longValue();
+  }
+
+  /**
+   * @param parameter The parameter
+   *
+   * @return The value for the parameter as a {@code double}
+   */
+
+  default double parameterValueDouble(
+    final QParameterNamed1<Double> parameter)
+  {
+    return this.parameterValue(parameter).doubleValue();
+  }
+
+  /**
+   * @param parameter The parameter
+   *
+   * @return The value for the parameter as a {@code double}
+   */
+
+  default double parameterValueDouble(
+    final QParameterPositional<Double> parameter)
+  {
+    return this.parameterValue(parameter).doubleValue();
+  }
+
+  /**
+   * @param parameter The parameter
+   *
+   * @return The value for the parameter as a {@code boolean}
+   */
+
+  default boolean parameterValueBoolean(
+    final QParameterNamed1<Boolean> parameter)
+  {
+    return this.parameterValue(parameter).booleanValue();
+  }
+
+  /**
+   * @param parameter The parameter
+   *
+   * @return The value for the parameter as a {@code boolean}
+   */
+
+  default boolean parameterValueBoolean(
+    final QParameterPositional<Boolean> parameter)
+  {
+    return this.parameterValue(parameter).booleanValue();
+  }
+
+  /**
+   * Retrieve the values for the parameter as an array. The values of
+   * multi-valued parameters with a {@link QValueConverterIntType}
+   * converter are stored without boxing when the command line is parsed
+   * sequentially, and are copied directly into the array.
+   *
+   * @param parameter The parameter
+   *
+   * @return The values for the parameter
+   */
+
+  default int[] parameterValuesInt(
+    final QParameterNamedType<Integer> parameter)
+  {
+    return this.valuesOf(parameter)
+      .stream()
+      .mapToInt(Integer::intValue)
+      .toArray();
+  }
+
+  /**
+   * Retrieve the values for the parameter as an array. The values of
+   * multi-valued parameters with a {@link QValueConverterLongType}
+   * converter are stored without boxing when the command line is parsed
+   * sequentially, and are copied directly into the array.
+   *
+   * @param parameter The parameter
+   *
+   * @return The values for the parameter
+   */
+
+  default long[] parameterValuesLong(
+    final QParameterNamedType<Long> parameter)
+  {
+    return this.valuesOf(parameter)
+      .stream()
+      .mapToLong(Long::longValue)
+      .toArray();
+  }
+
+  /**
+   * Retrieve the values for the parameter as an array. The values of
+   * multi-valued parameters with a {@link QValueConverterDoubleType}
+   * converter are stored without boxing when the command line is parsed
+   * sequentially, and are copied directly into the array.
+   *
+   * @param parameter The parameter
+   *
+   * @return The values for the parameter
+   */
+
+  default double[] parameterValuesDouble(
+    final QParameterNamedType<Double> parameter)
+  {
+    return this.valuesOf(parameter)
+      .stream()
+      .mapToDouble(Double::doubleValue)
+      .toArray();
+  }
+
+  /**
+   * Construct a record from the parameter values in this context.
+   *
+   * @param binding The binding
+   * @param <R>     The type of record
+   *
+   * @return A record
+   *
+   * @see QBindingSpec
+   */
+
+  default <R extends Record> R bind(
+    final QBindingSpec<R> binding)
+  {
+    return binding.bind(this);
+  }
+
+  private <T> List<T> valuesOf(
+    final QParameterNamedType<T> parameter)
+  {
+    if (parameter instanceof final QParameterNamed1<T> p) {
+      return List.of(this.parameterValue(p));
+    }
+    if (parameter instanceof final QParameterNamed01<T> p) {
+      return this.parameterValue(p).stream().toList();
+    }
+    if (parameter instanceof final QParameterNamed0N<T> p) {
+      return this.parameterValues(p);
+    }
+    if (parameter instanceof final QParameterNamed1N<T> p) {
+      return this.parameterValues(p);
+    }
+    throw new IllegalStateException(
+      "Unrecognized parameter type: %s".formatted(parameter)
+    );
+  }
 }
@@ -26,11 +26,13 @@ import java.util.ResourceBundle;
  * @param converters           The value converters that will be used to parse
  *                             commands
  * @param applicationResources The application resources
+ * @param conversionStrategy   The strategy used to convert values
  */
 
 public record QCommandParserConfiguration(
   QValueConverterDirectoryType converters,
-  ResourceBundle applicationResources)
+  ResourceBundle applicationResources,
+  QConversionStrategyType conversionStrategy)
 {
   /**
    * The command parser configuration.
@@ -38,11 +40,32 @@ public record QCommandParserConfiguration(
    * @param converters           The value converters that will be used to parse
    *                             commands
    * @param applicationResources The application resources
+   * @param conversionStrategy   The strategy used to convert values
    */
 
   public QCommandParserConfiguration
   {
     Objects.requireNonNull(converters, "converters");
     Objects.requireNonNull(applicationResources, "applicationResources");
+    Objects.requireNonNull(conversionStrategy, "conversionStrategy");
+  }
+
+  /**
+   * The command parser configuration. Values are converted sequentially.
+   *
+   * @param converters           The value converters that will be used to parse
+   *                             commands
+   * @param applicationResources The application resources
+   */
+
+  public QCommandParserConfiguration(
+    final QValueConverterDirectoryType converters,
+    final ResourceBundle applicationResources)
+  {
+    this(
+      converters,
+      applicationResources,
+      QConversionStrategyType.sequential()
+    );
   }
 }
@@ -19,10 +19,7 @@ package com.io7m.quarrel.core;
 
 import com.io7m.quarrel.core.internal.QCommandParser;
 import com.io7m.quarrel.core.internal.QEmptyResources;
-import com.io7m.quarrel.core.internal.QStrings;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -57,12 +54,25 @@ public final class QCommandParsers implements QCommandParserFactoryType
   public QCommandParserType create(
     final QCommandParserConfiguration configuration)
   {
-    final QStrings strings;
-    try {
-      strings = new QStrings(Locale.getDefault());
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
-    }
-    return new QCommandParser(configuration, strings);
+    return this.create(configuration, Locale.getDefault());
+  }
+
+  /**
+   * Create a new parser that localizes messages using the given locale.
+   *
+   * @param configuration The parser configuration
+   * @param locale        The locale
+   *
+   * @return A new parser
+   */
+
+  public QCommandParserType create(
+    final QCommandParserConfiguration configuration,
+    final Locale locale)
+  {
+    return new QCommandParser(
+      configuration,
+      QLocalization.create(locale, configuration.applicationResources())
+    );
   }
 }
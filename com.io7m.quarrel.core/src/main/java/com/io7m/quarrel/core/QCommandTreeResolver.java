@@ -17,7 +17,6 @@
 
 package com.io7m.quarrel.core;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -157,22 +156,22 @@ public final class QCommandTreeResolver
       return QResolutionRoot.ROOT;
     }
 
-    var treeNow = tree;
-    final var pathSoFar =
-      new ArrayList<String>(args.size());
-    final var pathRemain =
-      new ArrayList<>(args);
+    /*
+     * The arguments are copied once (a no-op for lists that are already
+     * immutable), and the path and remaining arguments of the result are
+     * views of that copy.
+     */
 
-    final var iter = pathRemain.iterator();
-    while (iter.hasNext()) {
-      final var name = iter.next();
-      iter.remove();
-      pathSoFar.add(name);
+    final var arguments = List.copyOf(args);
+    final var size = arguments.size();
 
+    var treeNow = tree;
+    for (int index = 0; index < size; ++index) {
+      final var name = arguments.get(index);
       final var item = treeNow.get(name);
       if (item == null) {
         return new QResolutionErrorDoesNotExist(
-          List.copyOf(pathSoFar),
+          arguments.subList(0, index + 1),
           name
         );
       }
@@ -180,15 +179,15 @@ public final class QCommandTreeResolver
       if (item instanceof final QCommandType cmd) {
         return new QResolutionOKCommand(
           cmd,
-          List.copyOf(pathSoFar),
-          List.copyOf(pathRemain)
+          arguments.subList(0, index + 1),
+          arguments.subList(index + 1, size)
         );
       }
 
-      if (item instanceof QCommandGroupType group) {
+      if (item instanceof final QCommandGroupType group) {
         treeNow = group.commandTree();
-        if (!iter.hasNext()) {
-          return new QResolutionOKGroup(group, List.copyOf(pathSoFar));
+        if (index + 1 == size) {
+          return new QResolutionOKGroup(group, arguments);
         }
       }
     }
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The result of converting a string to a value. Producing a failed result
+ * does not require constructing any exceptions.
+ *
+ * @param <T> The type of converted values
+ *
+ * @see QValueConverterType#tryConvertFromString(String)
+ */
+
+public sealed interface QConversionResultType<T>
+{
+  /**
+   * @return The converted value if conversion succeeded
+   *
+   * @throws QException If conversion failed
+   */
+
+  T orElseThrow()
+    throws QException;
+
+  /**
+   * Conversion succeeded.
+   *
+   * @param value The converted value
+   * @param <T>   The type of converted values
+   */
+
+  record QConversionSuccess<T>(T value)
+    implements QConversionResultType<T>
+  {
+    /**
+     * Conversion succeeded.
+     *
+     * @param value The converted value
+     */
+
+    public QConversionSuccess
+    {
+      Objects.requireNonNull(value, "value");
+    }
+
+    @Override
+    public T orElseThrow()
+    {
+      return this.value;
+    }
+  }
+
+  /**
+   * Conversion failed.
+   *
+   * @param message   The error message
+   * @param exception The exception that caused the failure, if any
+   * @param <T>       The type of converted values
+   */
+
+  record QConversionFailure<T>(
+    String message,
+    Optional<Throwable> exception)
+    implements QConversionResultType<T>
+  {
+    /**
+     * Conversion failed.
+     *
+     * @param message   The error message
+     * @param exception The exception that caused the failure, if any
+     */
+
+    public QConversionFailure
+    {
+      Objects.requireNonNull(message, "message");
+      Objects.requireNonNull(exception, "exception");
+    }
+
+    /**
+     * Conversion failed without an exception.
+     *
+     * @param message The error message
+     * @param <T>     The type of converted values
+     *
+     * @return A failed result
+     */
+
+    public static <T> QConversionFailure<T> of(
+      final String message)
+    {
+      return new QConversionFailure<>(message, Optional.empty());
+    }
+
+    /**
+     * Conversion failed with the given exception.
+     *
+     * @param exception The exception
+     * @param <T>       The type of converted values
+     *
+     * @return A failed result
+     */
+
+    public static <T> QConversionFailure<T> ofException(
+      final Exception exception)
+    {
+      Objects.requireNonNull(exception, "exception");
+
+      return new QConversionFailure<>(
+        Objects.requireNonNullElse(
+          exception.getMessage(),
+          exception.getClass().getName()
+        ),
+        Optional.of(exception)
+      );
+    }
+
+    @Override
+    public T orElseThrow()
+      throws QException
+    {
+      throw this.toException();
+    }
+
+    /**
+     * @return This failure as an exception
+     */
+
+    public QException toException()
+    {
+      if (this.exception.isPresent()) {
+        final var cause = this.exception.get();
+        if (cause instanceof final QException qe) {
+          return qe;
+        }
+        return new QException(
+          this.message,
+          cause,
+          "parameter-value-unparseable",
+          Map.of(),
+          Optional.empty(),
+          List.of()
+        );
+      }
+      return new QException(
+        this.message,
+        "parameter-value-unparseable",
+        Map.of(),
+        Optional.empty(),
+        List.of()
+      );
+    }
+  }
+}
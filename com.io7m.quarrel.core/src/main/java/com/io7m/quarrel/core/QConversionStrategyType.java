@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The strategy used to convert parameter values. Regardless of the
+ * strategy, values are delivered in the order in which they were given,
+ * and the error reported for a command line containing invalid values is
+ * always the error for the first invalid value.
+ */
+
+public sealed interface QConversionStrategyType
+{
+  /**
+   * @return The default strategy, which converts values sequentially
+   */
+
+  static QConversionStrategyType sequential()
+  {
+    return QConversionSequential.SEQUENTIAL;
+  }
+
+  /**
+   * @return A strategy that converts values when they are first accessed
+   *
+   * @see QConversionLazy
+   */
+
+  static QConversionStrategyType lazy()
+  {
+    return QConversionLazy.LAZY;
+  }
+
+  /**
+   * Values are converted one at a time on the thread parsing the command
+   * line.
+   */
+
+  enum QConversionSequential implements QConversionStrategyType
+  {
+    /**
+     * Values are converted one at a time on the thread parsing the command
+     * line.
+     */
+
+    SEQUENTIAL
+  }
+
+  /**
+   * Values are checked using
+   * {@link QValueConverterType#checkSyntax(String)} when the command line is
+   * parsed, and are converted when they are first accessed through the
+   * command context. Converted values are retained, so each value is
+   * converted at most once. A value that cannot be converted when it is
+   * accessed causes the accessing method to raise a
+   * {@link QUncheckedException}.
+   */
+
+  enum QConversionLazy implements QConversionStrategyType
+  {
+    /**
+     * Values are converted when they are first accessed.
+     */
+
+    LAZY
+  }
+
+  /**
+   * Values are converted in parallel when a command line contains at least
+   * {@code threshold} values for named parameters, or at least
+   * {@code threshold} positional values. The values are divided into at
+   * most {@code parallelism} contiguous slices, and each slice is converted
+   * by a task submitted to {@code executor}, with the exception of the last
+   * slice, which is converted on the thread parsing the command line. Once
+   * an invalid value has been found, no values after it are converted,
+   * although values after it may already have been converted by other
+   * tasks. Value converters used with this strategy must therefore be safe
+   * to use from multiple threads.
+   *
+   * @param threshold   The minimum number of values that will be converted
+   *                    in parallel
+   * @param parallelism The maximum number of slices
+   * @param executor    The executor used to convert slices
+   */
+
+  record QConversionParallel(
+    int threshold,
+    int parallelism,
+    Executor executor)
+    implements QConversionStrategyType
+  {
+    /**
+     * Values are converted in parallel.
+     *
+     * @param threshold   The minimum number of values that will be converted
+     *                    in parallel
+     * @param parallelism The maximum number of slices
+     * @param executor    The executor used to convert slices
+     */
+
+    public QConversionParallel
+    {
+      Objects.requireNonNull(executor, "executor");
+
+      if (threshold < 1) {
+        throw new IllegalArgumentException(
+          "Threshold %d must be positive".formatted(threshold)
+        );
+      }
+      if (parallelism < 1) {
+        throw new IllegalArgumentException(
+          "Parallelism %d must be positive".formatted(parallelism)
+        );
+      }
+    }
+
+    /**
+     * Convert values on the common fork-join pool. This is appropriate for
+     * converters that do CPU-bound work.
+     *
+     * @param threshold The minimum number of values that will be converted
+     *                  in parallel
+     *
+     * @return A parallel strategy
+     */
+
+    public static QConversionParallel forkJoin(
+      final int threshold)
+    {
+      final var pool = ForkJoinPool.commonPool();
+      return new QConversionParallel(
+        threshold,
+        Math.max(1, pool.getParallelism()),
+        pool
+      );
+    }
+
+    /**
+     * Convert every value on its own virtual thread. This is appropriate
+     * for converters that spend most of their time blocked, such as
+     * converters that perform network lookups.
+     *
+     * @param threshold The minimum number of values that will be converted
+     *                  in parallel
+     *
+     * @return A parallel strategy
+     */
+
+    public static QConversionParallel virtualThreads(
+      final int threshold)
+    {
+      return new QConversionParallel(
+        threshold,
+        Integer.MAX_VALUE,
+        task -> Thread.ofVirtual().start(task)
+      );
+    }
+  }
+}
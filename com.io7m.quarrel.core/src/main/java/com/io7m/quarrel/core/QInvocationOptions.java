@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core;
+
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Options for a single invocation of an application.
+ *
+ * @param output           The output writer for the invocation
+ * @param locale           The locale used to localize messages, if not the
+ *                         locale of the application
+ * @param workingDirectory The directory against which relative names of
+ *                         argument files are resolved, if not the working
+ *                         directory of the process
+ * @param input            The stream read by the {@code @-} argument, if
+ *                         not the input stream of the application
+ *
+ * @see QApplicationType#parse(java.util.List, QInvocationOptions)
+ */
+
+public record QInvocationOptions(
+  PrintWriter output,
+  Optional<Locale> locale,
+  Optional<Path> workingDirectory,
+  Optional<InputStream> input)
+{
+  /**
+   * Options for a single invocation of an application.
+   *
+   * @param output           The output writer for the invocation
+   * @param locale           The locale used to localize messages, if not
+   *                         the locale of the application
+   * @param workingDirectory The directory against which relative names of
+   *                         argument files are resolved, if not the
+   *                         working directory of the process
+   * @param input            The stream read by the {@code @-} argument, if
+   *                         not the input stream of the application
+   */
+
+  public QInvocationOptions
+  {
+    Objects.requireNonNull(output, "output");
+    Objects.requireNonNull(locale, "locale");
+    Objects.requireNonNull(workingDirectory, "workingDirectory");
+    Objects.requireNonNull(input, "input");
+  }
+
+  /**
+   * Options for a single invocation of an application.
+   *
+   * @param output The output writer for the invocation
+   * @param locale The locale used to localize messages, if not the
+   *               locale of the application
+   */
+
+  public QInvocationOptions(
+    final PrintWriter output,
+    final Optional<Locale> locale)
+  {
+    this(output, locale, Optional.empty(), Optional.empty());
+  }
+
+  /**
+   * Options for a single invocation of an application, using the locale
+   * of the application.
+   *
+   * @param output The output writer for the invocation
+   */
+
+  public QInvocationOptions(
+    final PrintWriter output)
+  {
+    this(output, Optional.empty());
+  }
+}
@@ -20,13 +20,12 @@ package com.io7m.quarrel.core;
 import com.io7m.quarrel.core.internal.QEmptyResources;
 import com.io7m.quarrel.core.internal.QStrings;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.text.MessageFormat;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Convenient localization methods.
@@ -34,6 +33,19 @@ import java.util.ResourceBundle;
 
 public final class QLocalization implements QLocalizationType
 {
+  /*
+   * Locales may come from untrusted sources, so the cache is bounded.
+   * Localizers that include application resources are not cached here;
+   * a static cache would keep the application bundles (and so the class
+   * loaders of unloaded applications) reachable. Applications cache their
+   * own localizers instead.
+   */
+
+  private static final int CACHE_LIMIT = 64;
+
+  private static final ConcurrentHashMap<Locale, QLocalizationType> CACHE =
+    new ConcurrentHashMap<>();
+
   private final ResourceBundle internalResources;
   private final ResourceBundle applicationResources;
 
@@ -71,7 +83,9 @@ public final class QLocalization implements QLocalizationType
   }
 
   /**
-   * Create a localizer.
+   * Create a localizer. The internal resources for each locale are loaded
+   * once and shared. Localizers with application resources are not cached,
+   * so callers that create them repeatedly should retain them.
    *
    * @param locale                 The locale for the internal resources
    * @param inApplicationResources The application-specific resources
@@ -83,18 +97,22 @@ public final class QLocalization implements QLocalizationType
     final Locale locale,
     final ResourceBundle inApplicationResources)
   {
-    try {
-      return new QLocalization(
-        new QStrings(locale).resources(),
-        inApplicationResources
-      );
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
+    Objects.requireNonNull(locale, "locale");
+    Objects.requireNonNull(inApplicationResources, "applicationResources");
+
+    if (inApplicationResources instanceof QEmptyResources) {
+      return create(locale);
     }
+
+    return new QLocalization(
+      QStrings.forLocale(locale).resources(),
+      inApplicationResources
+    );
   }
 
   /**
-   * Create a localizer without application-specific resources.
+   * Create a localizer without application-specific resources. Localizers
+   * are cached for each locale.
    *
    * @param locale The locale for the internal resources
    *
@@ -104,14 +122,25 @@ public final class QLocalization implements QLocalizationType
   public static QLocalizationType create(
     final Locale locale)
   {
-    try {
+    Objects.requireNonNull(locale, "locale");
+
+    final var existing = CACHE.get(locale);
+    if (existing != null) {
+      return existing;
+    }
+
+    if (CACHE.size() >= CACHE_LIMIT) {
       return new QLocalization(
-        new QStrings(locale).resources(),
-        new QEmptyResources()
+        QStrings.forLocale(locale).resources(),
+        QCommandParsers.emptyResources()
       );
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
     }
+    return CACHE.computeIfAbsent(locale, l -> {
+      return new QLocalization(
+        QStrings.forLocale(l).resources(),
+        QCommandParsers.emptyResources()
+      );
+    });
   }
 
   @Override
@@ -18,10 +18,22 @@ package com.io7m.quarrel.core;
 
 /**
  * Any positional arguments are allowed.
+ *
+ * @param streaming {@code true} if the command consumes its positional
+ *                  arguments as a stream
+ *
+ * @see QCommandContextType#parametersPositionalStream()
  */
 
-public record QParametersPositionalAny()
+public record QParametersPositionalAny(boolean streaming)
   implements QParametersPositionalType
 {
+  /**
+   * Any positional arguments are allowed. The arguments are not streamed.
+   */
 
+  public QParametersPositionalAny()
+  {
+    this(false);
+  }
 }
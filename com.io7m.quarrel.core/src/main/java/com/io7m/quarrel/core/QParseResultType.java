@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The result of parsing command line arguments. A result is either a
+ * command context that can be executed, or a non-empty list of errors.
+ * Producing a failed result does not construct any exceptions.
+ */
+
+public sealed interface QParseResultType
+{
+  /**
+   * @return The command context if parsing succeeded
+   *
+   * @throws QException If parsing failed
+   */
+
+  QCommandContextType orElseThrow()
+    throws QException;
+
+  /**
+   * Parsing succeeded.
+   *
+   * @param context The command context
+   */
+
+  record QParseSuccess(QCommandContextType context)
+    implements QParseResultType
+  {
+    /**
+     * Parsing succeeded.
+     *
+     * @param context The command context
+     */
+
+    public QParseSuccess
+    {
+      Objects.requireNonNull(context, "context");
+    }
+
+    @Override
+    public QCommandContextType orElseThrow()
+    {
+      return this.context;
+    }
+  }
+
+  /**
+   * Parsing failed.
+   *
+   * @param errors The errors, in the order they were encountered
+   */
+
+  record QParseFailure(List<SStructuredErrorType<String>> errors)
+    implements QParseResultType
+  {
+    /**
+     * Parsing failed.
+     *
+     * @param errors The errors, in the order they were encountered
+     */
+
+    public QParseFailure
+    {
+      errors = List.copyOf(errors);
+      if (errors.isEmpty()) {
+        throw new IllegalArgumentException(
+          "A failed result must contain at least one error.");
+      }
+    }
+
+    @Override
+    public QCommandContextType orElseThrow()
+      throws QException
+    {
+      throw this.toException();
+    }
+
+    /**
+     * Create a failure from an exception. The exception becomes the first
+     * error, and its extra errors follow it.
+     *
+     * @param exception The exception
+     *
+     * @return A failed result
+     */
+
+    public static QParseFailure ofException(
+      final QException exception)
+    {
+      Objects.requireNonNull(exception, "exception");
+
+      final var errors =
+        new ArrayList<SStructuredErrorType<String>>(
+          1 + exception.extraErrors().size());
+
+      errors.add(new SStructuredError<>(
+        exception.errorCode(),
+        exception.message(),
+        exception.attributes(),
+        exception.remediatingAction(),
+        Optional.of(exception)
+      ));
+      errors.addAll(exception.extraErrors());
+      return new QParseFailure(errors);
+    }
+
+    /**
+     * Convert this failure to an exception. The first error becomes the
+     * exception, and the remaining errors become its extra errors.
+     *
+     * @return An exception describing the errors
+     */
+
+    public QException toException()
+    {
+      final var first =
+        this.errors.get(0);
+      final var rest =
+        new ArrayList<>(this.errors.subList(1, this.errors.size()));
+
+      final var cause = first.exception();
+      if (cause.isPresent()) {
+        return new QException(
+          first.message(),
+          cause.get(),
+          first.errorCode(),
+          first.attributes(),
+          first.remediatingAction(),
+          rest
+        );
+      }
+      return new QException(
+        first.message(),
+        first.errorCode(),
+        first.attributes(),
+        first.remediatingAction(),
+        rest
+      );
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core;
+
+import com.io7m.seltzer.api.SStructuredErrorExceptionType;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An unchecked exception wrapping a {@link QException}. This is raised by
+ * methods that cannot raise checked exceptions, such as the methods of
+ * {@link QCommandContextType} that return values that are converted
+ * lazily.
+ */
+
+public final class QUncheckedException extends RuntimeException
+  implements SStructuredErrorExceptionType<String>
+{
+  /**
+   * Construct an exception.
+   *
+   * @param cause The cause
+   */
+
+  public QUncheckedException(
+    final QException cause)
+  {
+    super(
+      Objects.requireNonNull(cause, "cause").getMessage(),
+      cause
+    );
+  }
+
+  @Override
+  public QException getCause()
+  {
+    return (QException) super.getCause();
+  }
+
+  @Override
+  public String errorCode()
+  {
+    return this.getCause().errorCode();
+  }
+
+  @Override
+  public Map<String, String> attributes()
+  {
+    return this.getCause().attributes();
+  }
+
+  @Override
+  public Optional<String> remediatingAction()
+  {
+    return this.getCause().remediatingAction();
+  }
+
+  @Override
+  public Optional<Throwable> exception()
+  {
+    return Optional.of(this);
+  }
+}
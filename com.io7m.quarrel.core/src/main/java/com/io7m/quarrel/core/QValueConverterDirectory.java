@@ -20,6 +20,7 @@ package com.io7m.quarrel.core;
 import com.io7m.quarrel.core.converters.QVCBigDecimal;
 import com.io7m.quarrel.core.converters.QVCBigInteger;
 import com.io7m.quarrel.core.converters.QVCBoolean;
+import com.io7m.quarrel.core.converters.QVCCached;
 import com.io7m.quarrel.core.converters.QVCDouble;
 import com.io7m.quarrel.core.converters.QVCDuration;
 import com.io7m.quarrel.core.converters.QVCEnum;
@@ -33,6 +34,7 @@ import com.io7m.quarrel.core.converters.QVCPattern;
 import com.io7m.quarrel.core.converters.QVCString;
 import com.io7m.quarrel.core.converters.QVCURI;
 import com.io7m.quarrel.core.converters.QVCUUID;
+import com.io7m.quarrel.core.internal.QValueConverterNarrowed;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -41,8 +43,11 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -51,18 +56,116 @@ import java.util.regex.Pattern;
 
 /**
  * The default value converter directory.
+ *
+ * <p>A converter registered for a type is also used for subtypes of that
+ * type that have no converter of their own. Superclasses are searched
+ * first, nearest first, followed by interfaces in breadth-first order.
+ * Values produced by a converter found in this way are checked against the
+ * requested type. The result of each lookup, including the absence of a
+ * converter, is computed once per type and remembered for the lifetime of
+ * the directory.</p>
  */
 
 public final class QValueConverterDirectory
   implements QValueConverterDirectoryType
 {
   private final Map<Class<?>, QValueConverterType<?>> converters;
+  private final ClassValue<Optional<QValueConverterType<?>>> resolved;
 
   private QValueConverterDirectory(
     final Map<Class<?>, QValueConverterType<?>> inConverters)
   {
     this.converters =
       Objects.requireNonNull(inConverters, "inConverters");
+    this.resolved =
+      new ClassValue<>()
+      {
+        @Override
+        protected Optional<QValueConverterType<?>> computeValue(
+          final Class<?> type)
+        {
+          return resolve(inConverters, type);
+        }
+      };
+  }
+
+  private static Optional<QValueConverterType<?>> resolve(
+    final Map<Class<?>, QValueConverterType<?>> converters,
+    final Class<?> type)
+  {
+    final var exact = converterForExactly(converters, type);
+    if (exact != null) {
+      return Optional.of(exact);
+    }
+
+    for (var c = type.getSuperclass(); c != null; c = c.getSuperclass()) {
+      final var converter = converterForExactly(converters, c);
+      if (converter != null) {
+        return Optional.of(new QValueConverterNarrowed<>(type, converter));
+      }
+    }
+
+    final var seen = new HashSet<Class<?>>();
+    final var queue = new ArrayDeque<Class<?>>();
+    for (var c = type; c != null; c = c.getSuperclass()) {
+      queue.addAll(List.of(c.getInterfaces()));
+    }
+
+    while (!queue.isEmpty()) {
+      final var i = queue.poll();
+      if (!seen.add(i)) {
+        continue;
+      }
+      final var converter = converterForExactly(converters, i);
+      if (converter != null) {
+        return Optional.of(new QValueConverterNarrowed<>(type, converter));
+      }
+      queue.addAll(List.of(i.getInterfaces()));
+    }
+
+    return Optional.empty();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static QValueConverterType<?> converterForExactly(
+    final Map<Class<?>, QValueConverterType<?>> converters,
+    final Class<?> type)
+  {
+    if (type.isEnum()) {
+      final Class<? extends Enum> t = type.asSubclass(Enum.class);
+      return QVCEnum.get(t);
+    }
+    return converters.get(type);
+  }
+
+  /**
+   * @return A new builder for a directory that is initially empty
+   */
+
+  public static QValueConverterDirectoryBuilderType builder()
+  {
+    return new Builder(Map.of());
+  }
+
+  /**
+   * @param base The directory providing the initial converters
+   *
+   * @return A new builder for a directory that initially contains the
+   * converters of the given directory
+   */
+
+  public static QValueConverterDirectoryBuilderType builder(
+    final QValueConverterDirectoryType base)
+  {
+    Objects.requireNonNull(base, "base");
+
+    if (base instanceof final QValueConverterDirectory directory) {
+      return new Builder(directory.converters);
+    }
+
+    final var builder = new Builder(Map.of());
+    builder.addAll(base.converters());
+    return builder;
   }
 
   /**
@@ -99,21 +202,40 @@ public final class QValueConverterDirectory
     ));
   }
 
+  /**
+   * Create a directory containing the same types as {@link #core()}, in
+   * which the converters for types that are expensive to convert remember
+   * their most recent results. This currently applies to {@link Pattern},
+   * {@link InetAddress}, {@link URI}, and {@link Path}. Host names are
+   * resolved once and the resulting addresses are retained for as long as
+   * they remain in the cache.
+   *
+   * @param capacity The maximum number of results retained per type
+   *
+   * @return A value converter directory
+   *
+   * @see QVCCached
+   */
+
+  public static QValueConverterDirectoryType coreCached(
+    final int capacity)
+  {
+    return builder(core())
+      .add(new QVCCached<>(QVCInetAddress.get(), capacity))
+      .add(new QVCCached<>(QVCPath.get(), capacity))
+      .add(new QVCCached<>(QVCPattern.get(), capacity))
+      .add(new QVCCached<>(QVCURI.get(), capacity))
+      .build();
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public <T> Optional<QValueConverterType<T>> converterFor(
     final Class<T> type)
   {
-    if (type.isEnum()) {
-      final Class<? extends Enum> t = type.asSubclass(Enum.class);
-      return Optional.of(new QVCEnum<>(t));
-    }
-
-    final QValueConverterType<?> converter = this.converters.get(type);
-    if (converter == null) {
-      return Optional.empty();
-    }
-    return Optional.of((QValueConverterType<T>) converter);
+    Objects.requireNonNull(type, "type");
+    return (Optional<QValueConverterType<T>>) (Optional<?>)
+      this.resolved.get(type);
   }
 
   @Override
@@ -127,8 +249,60 @@ public final class QValueConverterDirectory
     final Class<T> clazz,
     final QValueConverterType<T> converter)
   {
-    final var existing = new HashMap<>(this.converters);
-    existing.put(clazz, converter);
-    return new QValueConverterDirectory(Map.copyOf(existing));
+    return new Builder(this.converters)
+      .add(clazz, converter)
+      .build();
+  }
+
+  @Override
+  public QValueConverterDirectoryType withAll(
+    final Collection<? extends QValueConverterType<?>> converters)
+  {
+    return new Builder(this.converters)
+      .addAll(converters)
+      .build();
+  }
+
+  private static final class Builder
+    implements QValueConverterDirectoryBuilderType
+  {
+    private final HashMap<Class<?>, QValueConverterType<?>> converters;
+
+    Builder(
+      final Map<Class<?>, QValueConverterType<?>> initial)
+    {
+      this.converters = new HashMap<>(initial);
+    }
+
+    @Override
+    public <T> QValueConverterDirectoryBuilderType add(
+      final Class<T> clazz,
+      final QValueConverterType<T> converter)
+    {
+      this.converters.put(
+        Objects.requireNonNull(clazz, "clazz"),
+        Objects.requireNonNull(converter, "converter")
+      );
+      return this;
+    }
+
+    @Override
+    public QValueConverterDirectoryBuilderType addAll(
+      final Collection<? extends QValueConverterType<?>> newConverters)
+    {
+      Objects.requireNonNull(newConverters, "converters");
+
+      for (final var converter : newConverters) {
+        Objects.requireNonNull(converter, "converter");
+        this.converters.put(converter.convertedClass(), converter);
+      }
+      return this;
+    }
+
+    @Override
+    public QValueConverterDirectoryType build()
+    {
+      return new QValueConverterDirectory(Map.copyOf(this.converters));
+    }
   }
 }
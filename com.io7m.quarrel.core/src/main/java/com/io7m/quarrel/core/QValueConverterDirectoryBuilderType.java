@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core;
+
+import java.util.Collection;
+
+/**
+ * A value converter directory builder. Converters are collected and the
+ * directory is built in a single pass, so adding any number of converters
+ * takes time proportional to the number of converters.
+ */
+
+public interface QValueConverterDirectoryBuilderType
+{
+  /**
+   * Add a converter for the given class, replacing any existing converter
+   * for that class.
+   *
+   * @param clazz     The class
+   * @param converter The converter
+   * @param <T>       The type
+   *
+   * @return this
+   */
+
+  <T> QValueConverterDirectoryBuilderType add(
+    Class<T> clazz,
+    QValueConverterType<T> converter);
+
+  /**
+   * Add a converter for the class it converts, replacing any existing
+   * converter for that class.
+   *
+   * @param converter The converter
+   * @param <T>       The type
+   *
+   * @return this
+   */
+
+  default <T> QValueConverterDirectoryBuilderType add(
+    final QValueConverterType<T> converter)
+  {
+    return this.add(converter.convertedClass(), converter);
+  }
+
+  /**
+   * Add each of the given converters for the class it converts.
+   *
+   * @param converters The converters
+   *
+   * @return this
+   *
+   * @see #add(QValueConverterType)
+   */
+
+  QValueConverterDirectoryBuilderType addAll(
+    Collection<? extends QValueConverterType<?>> converters);
+
+  /**
+   * @return The immutable directory
+   */
+
+  QValueConverterDirectoryType build();
+}
@@ -71,4 +71,27 @@ public interface QValueConverterDirectoryType
   {
     return this.with(converter.convertedClass(), converter);
   }
+
+  /**
+   * Extend this value converter directory with each of the given converters,
+   * returning a new directory. Each converter is registered for the class it
+   * converts, and later converters replace earlier ones for the same class.
+   * The default implementation calls {@link #with(QValueConverterType)} for
+   * each converter; implementations are expected to override it with one
+   * that builds the new directory in a single pass.
+   *
+   * @param converters The converters
+   *
+   * @return A new directory with the given converters
+   */
+
+  default QValueConverterDirectoryType withAll(
+    final Collection<? extends QValueConverterType<?>> converters)
+  {
+    var result = this;
+    for (final var converter : converters) {
+      result = result.with(converter);
+    }
+    return result;
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A value converter that can convert strings to primitive {@code int}
+ * values without boxing. When a command line is parsed sequentially, the
+ * values of multi-valued parameters handled by converters of this type are
+ * stored without boxing, and can be retrieved as a {@code int[]} using
+ * {@link QCommandContextType#parameterValuesInt(QParameterNamedType)}.
+ */
+
+public interface QValueConverterIntType
+  extends QValueConverterType<Integer>
+{
+  /**
+   * Convert the given string to a {@code int}, passing the value to
+   * {@code receiver} if the string is valid. This method must accept
+   * exactly the strings accepted by {@link #tryConvertFromString(String)},
+   * and must not raise exceptions; details of why a string was rejected can
+   * be obtained from {@link #tryConvertFromString(String)}.
+   *
+   * @param text     The input string
+   * @param receiver The receiver of the converted value
+   *
+   * @return {@code true} if the string was converted
+   */
+
+  boolean tryConvertToInt(
+    String text,
+    IntConsumer receiver);
+}
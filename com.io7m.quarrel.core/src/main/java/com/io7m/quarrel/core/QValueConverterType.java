@@ -17,6 +17,11 @@
 
 package com.io7m.quarrel.core;
 
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
+
+import java.util.Optional;
+
 /**
  * <p>The type of value converters.</p>
  * <p>For all implementations,
@@ -40,6 +45,56 @@ public interface QValueConverterType<T>
   T convertFromString(String text)
     throws QException;
 
+  /**
+   * Convert the given string to a value of type {@code T}, returning a
+   * failed result rather than raising an exception if the string is not
+   * valid. The default implementation adapts
+   * {@link #convertFromString(String)}; implementations are encouraged to
+   * override this method with one that avoids constructing exceptions, as
+   * this is the method used when parsing command lines.
+   *
+   * @param text The input string
+   *
+   * @return The conversion result
+   */
+
+  default QConversionResultType<T> tryConvertFromString(
+    final String text)
+  {
+    try {
+      return new QConversionSuccess<>(this.convertFromString(text));
+    } catch (final Exception e) {
+      return QConversionFailure.ofException(e);
+    }
+  }
+
+  /**
+   * Check the given string without necessarily converting it. When values
+   * are converted lazily (see {@link QConversionStrategyType#lazy()}), this
+   * method is called for each value when the command line is parsed, and
+   * values are otherwise converted when they are first accessed.
+   *
+   * <p>Implementations may return a full conversion result, in which case
+   * the result is retained and the value is not converted again. The
+   * default implementation does exactly this, and so values handled by
+   * converters that do not override this method are effectively converted
+   * eagerly. Implementations that can check the syntax of values more
+   * cheaply than they can convert them should instead return nothing for
+   * strings that are syntactically valid, and a failure for strings that
+   * are not. An implementation that returns nothing for every string defers
+   * all validation until values are accessed.</p>
+   *
+   * @param text The input string
+   *
+   * @return The conversion result, or nothing if conversion is deferred
+   */
+
+  default Optional<QConversionResultType<T>> checkSyntax(
+    final String text)
+  {
+    return Optional.of(this.tryConvertFromString(text));
+  }
+
   /**
    * Convert a value of {@code T} to a string.
    *
@@ -16,15 +16,16 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
 import com.io7m.quarrel.core.QException;
 import com.io7m.quarrel.core.QValueConverterType;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-
 /**
- * An abstract value converter.
+ * An abstract value converter. Subclasses implement {@link #parse(String)},
+ * and may override {@link #tryConvertFromString(String)} with an
+ * implementation that reports invalid input without raising exceptions.
  *
  * @param <T> The type
  */
@@ -41,18 +42,18 @@ public abstract class QVCAbstract<T>
   public final T convertFromString(
     final String text)
     throws QException
+  {
+    return this.tryConvertFromString(text).orElseThrow();
+  }
+
+  @Override
+  public QConversionResultType<T> tryConvertFromString(
+    final String text)
   {
     try {
-      return this.parse(text);
+      return new QConversionSuccess<>(this.parse(text));
     } catch (final Exception e) {
-      throw new QException(
-        e.getMessage(),
-        e,
-        "parameter-value-unparseable",
-        Map.of(),
-        Optional.empty(),
-        List.of()
-      );
+      return QConversionFailure.ofException(e);
     }
   }
 
@@ -16,6 +16,9 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
 import com.io7m.quarrel.core.QValueConverterType;
 
 import java.math.BigInteger;
@@ -48,7 +51,17 @@ public final class QVCBigInteger
     final String text)
     throws Exception
   {
-    return new BigInteger(text);
+    return this.tryConvertFromString(text).orElseThrow();
+  }
+
+  @Override
+  public QConversionResultType<BigInteger> tryConvertFromString(
+    final String text)
+  {
+    if (QVCDecimal.isInteger(text)) {
+      return new QConversionSuccess<>(new BigInteger(text));
+    }
+    return QConversionFailure.of("Expected a decimal integer.");
   }
 
   @Override
@@ -16,6 +16,9 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
 import com.io7m.quarrel.core.QValueConverterType;
 
 /**
@@ -26,6 +29,10 @@ public final class QVCBoolean
   extends QVCAbstract<Boolean>
 {
   private static final QVCBoolean INSTANCE = new QVCBoolean();
+  private static final QConversionSuccess<Boolean> TRUE =
+    new QConversionSuccess<>(Boolean.TRUE);
+  private static final QConversionSuccess<Boolean> FALSE =
+    new QConversionSuccess<>(Boolean.FALSE);
 
   private QVCBoolean()
   {
@@ -45,11 +52,18 @@ public final class QVCBoolean
   protected Boolean parse(
     final String text)
     throws Exception
+  {
+    return this.tryConvertFromString(text).orElseThrow();
+  }
+
+  @Override
+  public QConversionResultType<Boolean> tryConvertFromString(
+    final String text)
   {
     return switch (text) {
-      case "true" -> Boolean.TRUE;
-      case "false" -> Boolean.FALSE;
-      default -> throw new IllegalArgumentException("Expected 'true' or 'false'");
+      case "true" -> TRUE;
+      case "false" -> FALSE;
+      default -> QConversionFailure.of("Expected 'true' or 'false'");
     };
   }
 
@@ -0,0 +1,293 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core.converters;
+
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QValueConverterType;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A converter that remembers the results of successful conversions made by
+ * another converter. At most {@code capacity} results are retained. When
+ * the limit is reached, results are discarded in the order they were
+ * added, except that a result used since it was last considered is kept
+ * for another round. This approximates discarding the least recently used
+ * result, and lets cached results be returned without locking.
+ *
+ * <p>Converted values are shared between every caller that converts the
+ * same string, so this converter must only be used with converters that
+ * produce immutable values. Failed conversions are not remembered. Values
+ * that depend on the environment at the time of conversion, such as the
+ * addresses of named hosts, are not refreshed while they remain in the
+ * cache.</p>
+ *
+ * @param <T> The type of converted values
+ */
+
+public final class QVCCached<T>
+  implements QValueConverterType<T>
+{
+  private final QValueConverterType<T> converter;
+  private final int capacity;
+  private final ReentrantLock evictionLock;
+  private final ConcurrentHashMap<String, Entry<T>> results;
+  private final ConcurrentLinkedQueue<String> order;
+  private final LongAdder hits;
+  private final LongAdder misses;
+
+  /**
+   * A converter that remembers the results of successful conversions.
+   *
+   * @param inConverter The underlying converter
+   * @param inCapacity  The maximum number of results retained
+   */
+
+  public QVCCached(
+    final QValueConverterType<T> inConverter,
+    final int inCapacity)
+  {
+    this.converter =
+      Objects.requireNonNull(inConverter, "converter");
+
+    if (inCapacity <= 0) {
+      throw new IllegalArgumentException(
+        "Capacity %d must be positive".formatted(Integer.valueOf(inCapacity))
+      );
+    }
+
+    this.capacity =
+      inCapacity;
+    this.evictionLock =
+      new ReentrantLock();
+    this.results =
+      new ConcurrentHashMap<>();
+    this.order =
+      new ConcurrentLinkedQueue<>();
+    this.hits =
+      new LongAdder();
+    this.misses =
+      new LongAdder();
+  }
+
+  /**
+   * @return The underlying converter
+   */
+
+  public QValueConverterType<T> converter()
+  {
+    return this.converter;
+  }
+
+  /**
+   * @return The maximum number of results retained
+   */
+
+  public int capacity()
+  {
+    return this.capacity;
+  }
+
+  /**
+   * @return The number of results currently retained
+   */
+
+  public int size()
+  {
+    return this.results.size();
+  }
+
+  /**
+   * @return The number of conversions answered from the cache
+   */
+
+  public long hits()
+  {
+    return this.hits.sum();
+  }
+
+  /**
+   * @return The number of conversions passed to the underlying converter
+   */
+
+  public long misses()
+  {
+    return this.misses.sum();
+  }
+
+  @Override
+  public T convertFromString(
+    final String text)
+    throws QException
+  {
+    return this.tryConvertFromString(text).orElseThrow();
+  }
+
+  /*
+   * The underlying converter is called without holding any lock, as
+   * conversions such as host name lookups may be slow. Two threads
+   * converting the same string at the same time may therefore both call
+   * the underlying converter; the result stored first wins.
+   */
+
+  @Override
+  public QConversionResultType<T> tryConvertFromString(
+    final String text)
+  {
+    final var existing = this.cached(text);
+    if (existing != null) {
+      this.hits.increment();
+      return existing;
+    }
+
+    this.misses.increment();
+    final var result = this.converter.tryConvertFromString(text);
+    this.remember(text, result);
+    return result;
+  }
+
+  /*
+   * A cached value is returned as a full conversion result. Otherwise,
+   * the underlying converter decides whether to check or convert the
+   * string, and any value it converts is remembered.
+   */
+
+  @Override
+  public Optional<QConversionResultType<T>> checkSyntax(
+    final String text)
+  {
+    final var existing = this.cached(text);
+    if (existing != null) {
+      this.hits.increment();
+      return Optional.of(existing);
+    }
+
+    final var checked = this.converter.checkSyntax(text);
+    if (checked.isPresent()) {
+      this.misses.increment();
+      this.remember(text, checked.get());
+    }
+    return checked;
+  }
+
+  /*
+   * A hit only marks the entry as used, and only writes to it if it was
+   * not already marked, so that concurrent hits on the same entry do not
+   * contend.
+   */
+
+  private QConversionSuccess<T> cached(
+    final String text)
+  {
+    final var entry = this.results.get(text);
+    if (entry == null) {
+      return null;
+    }
+    if (!entry.used) {
+      entry.used = true;
+    }
+    return entry.result;
+  }
+
+  private void remember(
+    final String text,
+    final QConversionResultType<T> result)
+  {
+    if (result instanceof final QConversionSuccess<T> success) {
+      if (this.results.putIfAbsent(text, new Entry<>(success)) == null) {
+        this.order.add(text);
+        if (this.results.size() > this.capacity) {
+          this.evict();
+        }
+      }
+    }
+  }
+
+  /*
+   * Entries are examined in the order they were added. An entry that has
+   * been used since it was last examined is marked unused and moved to the
+   * back of the queue; otherwise, it is discarded.
+   */
+
+  private void evict()
+  {
+    this.evictionLock.lock();
+    try {
+      while (this.results.size() > this.capacity) {
+        final var text = this.order.poll();
+        if (text == null) {
+          return;
+        }
+
+        final var entry = this.results.get(text);
+        if (entry.used) {
+          entry.used = false;
+          this.order.add(text);
+        } else {
+          this.results.remove(text);
+        }
+      }
+    } finally {
+      this.evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public String convertToString(
+    final T value)
+    throws QException
+  {
+    return this.converter.convertToString(value);
+  }
+
+  @Override
+  public T exampleValue()
+  {
+    return this.converter.exampleValue();
+  }
+
+  @Override
+  public String syntax()
+  {
+    return this.converter.syntax();
+  }
+
+  @Override
+  public Class<T> convertedClass()
+  {
+    return this.converter.convertedClass();
+  }
+
+  private static final class Entry<T>
+  {
+    private final QConversionSuccess<T> result;
+    private volatile boolean used;
+
+    Entry(
+      final QConversionSuccess<T> inResult)
+    {
+      this.result = inResult;
+    }
+  }
+}
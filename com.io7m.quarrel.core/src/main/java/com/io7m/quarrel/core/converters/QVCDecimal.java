@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core.converters;
+
+/**
+ * Functions to check the syntax of decimal integers without raising
+ * exceptions. The accepted syntax is exactly that of
+ * {@link Long#parseLong(String)}, so that a string accepted here can be
+ * passed to the standard parsing functions without risk of failure.
+ */
+
+final class QVCDecimal
+{
+  private QVCDecimal()
+  {
+
+  }
+
+  /**
+   * @param text    The text
+   * @param minimum The minimum permitted value
+   * @param maximum The maximum permitted value
+   *
+   * @return {@code true} if {@code text} is a decimal integer in the range
+   * {@code [minimum, maximum]}
+   */
+
+  static boolean isLongInRange(
+    final String text,
+    final long minimum,
+    final long maximum)
+  {
+    final var length = text.length();
+    if (length == 0) {
+      return false;
+    }
+
+    int index = 0;
+    boolean negative = false;
+    final var first = text.charAt(0);
+    if (first == '-' || first == '+') {
+      if (length == 1) {
+        return false;
+      }
+      negative = first == '-';
+      index = 1;
+    }
+
+    /*
+     * Accumulate negatively, as the standard library does, so that
+     * Long.MIN_VALUE can be represented.
+     */
+
+    final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    final long limitBeforeMultiply = limit / 10L;
+    long result = 0L;
+
+    for (; index < length; ++index) {
+      final var digit = Character.digit(text.charAt(index), 10);
+      if (digit < 0 || result < limitBeforeMultiply) {
+        return false;
+      }
+      result *= 10L;
+      if (result < limit + digit) {
+        return false;
+      }
+      result -= digit;
+    }
+
+    final var value = negative ? result : -result;
+    return value >= minimum && value <= maximum;
+  }
+
+  /**
+   * @param text The text
+   *
+   * @return {@code true} if {@code text} is a decimal integer of any size
+   */
+
+  static boolean isInteger(
+    final String text)
+  {
+    final var length = text.length();
+    if (length == 0) {
+      return false;
+    }
+
+    int index = 0;
+    final var first = text.charAt(0);
+    if (first == '-' || first == '+') {
+      if (length == 1) {
+        return false;
+      }
+      index = 1;
+    }
+
+    for (; index < length; ++index) {
+      if (Character.digit(text.charAt(index), 10) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.converters;
+
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QValueConverterType;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A converter that defers all validation of values to another converter
+ * until the values are accessed. When values are converted lazily, values
+ * handled by this converter are not checked at all when the command line
+ * is parsed, and invalid values are reported only when (and if) a command
+ * accesses them. When values are converted eagerly, this converter behaves
+ * exactly as the underlying converter.
+ *
+ * @param <T> The type of converted values
+ *
+ * @see com.io7m.quarrel.core.QConversionStrategyType#lazy()
+ */
+
+public final class QVCDeferred<T>
+  implements QValueConverterType<T>
+{
+  private final QValueConverterType<T> converter;
+
+  /**
+   * A converter that defers all validation of values.
+   *
+   * @param inConverter The underlying converter
+   */
+
+  public QVCDeferred(
+    final QValueConverterType<T> inConverter)
+  {
+    this.converter =
+      Objects.requireNonNull(inConverter, "converter");
+  }
+
+  /**
+   * @return The underlying converter
+   */
+
+  public QValueConverterType<T> converter()
+  {
+    return this.converter;
+  }
+
+  @Override
+  public T convertFromString(
+    final String text)
+    throws QException
+  {
+    return this.converter.convertFromString(text);
+  }
+
+  @Override
+  public QConversionResultType<T> tryConvertFromString(
+    final String text)
+  {
+    return this.converter.tryConvertFromString(text);
+  }
+
+  @Override
+  public Optional<QConversionResultType<T>> checkSyntax(
+    final String text)
+  {
+    return Optional.empty();
+  }
+
+  @Override
+  public String convertToString(
+    final T value)
+    throws QException
+  {
+    return this.converter.convertToString(value);
+  }
+
+  @Override
+  public T exampleValue()
+  {
+    return this.converter.exampleValue();
+  }
+
+  @Override
+  public String syntax()
+  {
+    return this.converter.syntax();
+  }
+
+  @Override
+  public Class<T> convertedClass()
+  {
+    return this.converter.convertedClass();
+  }
+}
@@ -16,14 +16,18 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QValueConverterDoubleType;
 import com.io7m.quarrel.core.QValueConverterType;
 
+import java.util.function.DoubleConsumer;
+
 /**
  * A value converter.
  */
 
 public final class QVCDouble
   extends QVCAbstract<Double>
+  implements QValueConverterDoubleType
 {
   private static final QVCDouble INSTANCE = new QVCDouble();
 
@@ -48,6 +52,21 @@ public final class QVCDouble
     return Double.valueOf(Double.parseDouble(text));
   }
 
+  @Override
+  public boolean tryConvertToDouble(
+    final String text,
+    final DoubleConsumer receiver)
+  {
+    final double value;
+    try {
+      value = Double.parseDouble(text);
+    } catch (final NumberFormatException e) {
+      return false;
+    }
+    receiver.accept(value);
+    return true;
+  }
+
   @Override
   public String convertToString(
     final Double value)
@@ -17,26 +17,48 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
 import com.io7m.quarrel.core.QException;
 import com.io7m.quarrel.core.QValueConverterType;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * An enum converter.
  *
+ * <p>The name table, syntax, and example value are computed once when the
+ * converter is created, so that conversions do not depend on the number of
+ * constants in the enum. Use {@link #get(Class)} to obtain a shared
+ * converter for an enum class rather than creating a new one each time.</p>
+ *
  * @param <T> The base enum type
  */
 
 public final class QVCEnum<T extends Enum<T>>
   implements QValueConverterType<T>
 {
+  private static final ClassValue<QVCEnum<?>> CONVERTERS =
+    new ClassValue<>()
+    {
+      @Override
+      protected QVCEnum<?> computeValue(
+        final Class<?> type)
+      {
+        return create(type.asSubclass(Enum.class));
+      }
+    };
+
   private final Class<T> enumClass;
+  private final Map<String, QConversionSuccess<T>> byName;
+  private final QConversionFailure<T> failure;
+  private final T example;
+  private final String syntax;
 
   /**
    * An enum converter.
@@ -49,6 +71,52 @@ public final class QVCEnum<T extends Enum<T>>
   {
     this.enumClass =
       Objects.requireNonNull(inEnumClass, "enumClass");
+
+    final var constants =
+      inEnumClass.getEnumConstants();
+    final var names =
+      new HashMap<String, QConversionSuccess<T>>(constants.length * 2);
+
+    for (final var constant : constants) {
+      names.put(constant.name(), new QConversionSuccess<>(constant));
+    }
+
+    this.byName =
+      names;
+    this.failure =
+      QConversionFailure.of("No enum value exists with the given name.");
+    this.example =
+      constants.length > 0 ? constants[0] : null;
+    this.syntax =
+      Arrays.stream(constants)
+        .sorted()
+        .map(Enum::name)
+        .collect(Collectors.joining("|"));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static QVCEnum<?> create(
+    final Class<? extends Enum> type)
+  {
+    return new QVCEnum(type);
+  }
+
+  /**
+   * Obtain the shared converter for the given enum class. The converter is
+   * created on first use and retained for as long as the class is loaded.
+   *
+   * @param enumClass The base enum class
+   * @param <T>       The base enum type
+   *
+   * @return A value converter
+   */
+
+  @SuppressWarnings("unchecked")
+  public static <T extends Enum<T>> QVCEnum<T> get(
+    final Class<T> enumClass)
+  {
+    Objects.requireNonNull(enumClass, "enumClass");
+    return (QVCEnum<T>) CONVERTERS.get(enumClass);
   }
 
   @Override
@@ -56,22 +124,18 @@ public final class QVCEnum<T extends Enum<T>>
     final String text)
     throws QException
   {
-    final var constants =
-      this.enumClass.getEnumConstants();
+    return this.tryConvertFromString(text).orElseThrow();
+  }
 
-    for (final var constant : constants) {
-      if (Objects.equals(constant.name(), text)) {
-        return constant;
-      }
+  @Override
+  public QConversionResultType<T> tryConvertFromString(
+    final String text)
+  {
+    final var result = this.byName.get(text);
+    if (result != null) {
+      return result;
     }
-
-    throw new QException(
-      "No enum value exists with the given name.",
-      "parameter-value-unparseable",
-      Map.of(),
-      Optional.empty(),
-      List.of()
-    );
+    return this.failure;
   }
 
   @Override
@@ -84,20 +148,19 @@ public final class QVCEnum<T extends Enum<T>>
   @Override
   public T exampleValue()
   {
-    return Arrays.stream(this.enumClass.getEnumConstants())
-      .findFirst()
-      .orElseThrow(() -> new IllegalStateException(
-        "Could not produce an example value of type %s".formatted(this.convertedClass()))
+    if (this.example == null) {
+      throw new IllegalStateException(
+        "Could not produce an example value of type %s"
+          .formatted(this.convertedClass())
       );
+    }
+    return this.example;
   }
 
   @Override
   public String syntax()
   {
-    return Arrays.stream(this.enumClass.getEnumConstants())
-      .sorted()
-      .map(Enum::name)
-      .collect(Collectors.joining("|"));
+    return this.syntax;
   }
 
   @Override
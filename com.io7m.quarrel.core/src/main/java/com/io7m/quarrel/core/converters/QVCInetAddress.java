@@ -16,26 +16,56 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
 import com.io7m.quarrel.core.QValueConverterType;
+import com.io7m.quarrel.core.internal.QInetAddressLiterals;
 
 import java.net.InetAddress;
-import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
- * A value converter.
+ * A value converter. IPv4 and IPv6 address literals are always parsed
+ * directly, without consulting a name service. Host names are passed to
+ * a {@link QVCInetAddressResolverType resolver}, if the converter has one.
  */
 
 public final class QVCInetAddress
   extends QVCAbstract<InetAddress>
 {
-  private static final QVCInetAddress INSTANCE = new QVCInetAddress();
+  private static final QVCInetAddress INSTANCE =
+    new QVCInetAddress(
+      Optional.of(QVCInetAddressResolvers.system()),
+      true
+    );
+  private static final QVCInetAddress LITERALS =
+    new QVCInetAddress(Optional.empty(), false);
 
-  private QVCInetAddress()
-  {
+  private final Optional<QVCInetAddressResolverType> resolver;
+  private final boolean reverseLookup;
 
+  private QVCInetAddress(
+    final Optional<QVCInetAddressResolverType> inResolver,
+    final boolean inReverseLookup)
+  {
+    this.resolver =
+      Objects.requireNonNull(inResolver, "resolver");
+    this.reverseLookup =
+      inReverseLookup;
   }
 
   /**
+   * The returned converter resolves host names using the platform's name
+   * service, and converts addresses to strings using
+   * {@link InetAddress#getHostName()}, which may perform a reverse lookup.
+   *
    * @return A value converter.
    */
 
@@ -44,19 +74,155 @@ public final class QVCInetAddress
     return INSTANCE;
   }
 
+  /**
+   * The returned converter accepts only IPv4 and IPv6 address literals,
+   * and never consults a name service.
+   *
+   * @return A value converter that rejects host names
+   */
+
+  public static QVCInetAddress literals()
+  {
+    return LITERALS;
+  }
+
+  /**
+   * The returned converter resolves host names using the given resolver.
+   * Addresses are converted to strings without performing reverse lookups.
+   *
+   * @param resolver The host name resolver
+   *
+   * @return A value converter that resolves host names with {@code resolver}
+   */
+
+  public static QVCInetAddress withResolver(
+    final QVCInetAddressResolverType resolver)
+  {
+    return new QVCInetAddress(
+      Optional.of(Objects.requireNonNull(resolver, "resolver")),
+      false
+    );
+  }
+
   @Override
   protected InetAddress parse(
     final String text)
-    throws UnknownHostException
+    throws Exception
+  {
+    return this.tryConvertFromString(text).orElseThrow();
+  }
+
+  @Override
+  public QConversionResultType<InetAddress> tryConvertFromString(
+    final String text)
+  {
+    return this.checkSyntax(text)
+      .orElseGet(() -> this.resolve(text));
+  }
+
+  /*
+   * Address literals are cheap to parse, so they are always converted
+   * immediately. Only the resolution of host names is deferred.
+   */
+
+  @Override
+  public Optional<QConversionResultType<InetAddress>> checkSyntax(
+    final String text)
+  {
+    final var literal = QInetAddressLiterals.parse(text);
+    if (literal.isPresent()) {
+      return Optional.of(new QConversionSuccess<>(literal.get()));
+    }
+    if (QInetAddressLiterals.isIPv6Syntax(text)) {
+      return Optional.of(
+        QConversionFailure.of("Invalid IPv6 address: " + text));
+    }
+    if (this.resolver.isEmpty()) {
+      return Optional.of(
+        QConversionFailure.of("Expected an IPv4 or IPv6 address."));
+    }
+    return Optional.empty();
+  }
+
+  private QConversionResultType<InetAddress> resolve(
+    final String name)
+  {
+    try {
+      final var address = this.resolver.orElseThrow().resolve(name);
+      return new QConversionSuccess<>(address);
+    } catch (final Exception e) {
+      return QConversionFailure.ofException(e);
+    }
+  }
+
+  /**
+   * Convert all the given strings. Address literals are parsed on the
+   * calling thread. Host names are resolved concurrently, each distinct
+   * name being resolved once on its own virtual thread, and so the time
+   * taken is bounded by the slowest resolution rather than the sum of all
+   * of them.
+   *
+   * @param texts The strings
+   *
+   * @return The conversion results, in the same order as {@code texts}
+   */
+
+  public List<QConversionResultType<InetAddress>> tryConvertAllFromString(
+    final List<String> texts)
   {
-    return InetAddress.getByName(text);
+    Objects.requireNonNull(texts, "texts");
+
+    final var results =
+      new ArrayList<QConversionResultType<InetAddress>>(texts.size());
+    final var names =
+      new HashMap<String, Future<QConversionResultType<InetAddress>>>();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (final var text : texts) {
+        final var checked = this.checkSyntax(text);
+        if (checked.isPresent()) {
+          results.add(checked.get());
+        } else {
+          results.add(null);
+          names.computeIfAbsent(text, name -> {
+            return executor.submit(() -> this.resolve(name));
+          });
+        }
+      }
+    }
+
+    for (int index = 0; index < results.size(); ++index) {
+      if (results.get(index) == null) {
+        final var future = names.get(texts.get(index));
+        if (future.state() == Future.State.SUCCESS) {
+          results.set(index, future.resultNow());
+        } else {
+          results.set(index, QConversionFailure.of("Resolution interrupted."));
+        }
+      }
+    }
+    return List.copyOf(results);
   }
 
   @Override
   public String convertToString(
     final InetAddress value)
   {
-    return value.getHostName();
+    if (this.reverseLookup) {
+      return value.getHostName();
+    }
+
+    /*
+     * InetAddress.toString() yields "name/address", with an empty name
+     * if the address has no host name, and never performs a lookup.
+     */
+
+    final var text = value.toString();
+    final var slash = text.indexOf('/');
+    if (slash > 0) {
+      return text.substring(0, slash);
+    }
+    return value.getHostAddress();
   }
 
   @Override
@@ -68,6 +234,9 @@ public final class QVCInetAddress
   @Override
   public String syntax()
   {
+    if (this.resolver.isEmpty()) {
+      return "IPv4 or IPv6 address (RFC 2732)";
+    }
     return "Hostname, IPv4 or IPv6 address (RFC 2732)";
   }
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.converters;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * A resolver of host names used by {@link QVCInetAddress} converters.
+ * Resolvers are only ever asked to resolve host names; IPv4 and IPv6
+ * address literals are parsed directly by the converter.
+ *
+ * @see QVCInetAddressResolvers
+ */
+
+@FunctionalInterface
+public interface QVCInetAddressResolverType
+{
+  /**
+   * Resolve a host name.
+   *
+   * @param name The host name
+   *
+   * @return The address of the host
+   *
+   * @throws UnknownHostException If the host name cannot be resolved
+   */
+
+  InetAddress resolve(String name)
+    throws UnknownHostException;
+}
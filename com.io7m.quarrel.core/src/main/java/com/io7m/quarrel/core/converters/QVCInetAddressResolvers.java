@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.converters;
+
+import com.io7m.quarrel.core.internal.QInetAddressLiterals;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Standard host name resolvers.
+ */
+
+public final class QVCInetAddressResolvers
+{
+  private static final QVCInetAddressResolverType SYSTEM =
+    InetAddress::getByName;
+
+  private QVCInetAddressResolvers()
+  {
+
+  }
+
+  /**
+   * @return A resolver that uses the platform's name service
+   */
+
+  public static QVCInetAddressResolverType system()
+  {
+    return SYSTEM;
+  }
+
+  /**
+   * Create a resolver that resolves names using the given map. Names are
+   * compared case-insensitively. No name service is consulted.
+   *
+   * @param addresses The addresses
+   *
+   * @return A resolver
+   */
+
+  public static QVCInetAddressResolverType ofMap(
+    final Map<String, ? extends InetAddress> addresses)
+  {
+    Objects.requireNonNull(addresses, "addresses");
+
+    final var byName = new HashMap<String, InetAddress>(addresses.size());
+    for (final var entry : addresses.entrySet()) {
+      byName.putIfAbsent(
+        entry.getKey().toLowerCase(Locale.ROOT),
+        Objects.requireNonNull(entry.getValue(), "address")
+      );
+    }
+    return ofNormalizedMap(Map.copyOf(byName));
+  }
+
+  /**
+   * Create a resolver that resolves names using a file in the format of
+   * the traditional {@code /etc/hosts} file: Each line consists of an IPv4
+   * or IPv6 address literal followed by one or more host names, and
+   * {@code #} begins a comment that extends to the end of the line. If a
+   * name appears more than once, the first address is used. The file is
+   * read once when this method is called, and no name service is consulted
+   * when names are resolved.
+   *
+   * @param file The hosts file
+   *
+   * @return A resolver
+   *
+   * @throws IOException On I/O errors, or if the file contains an invalid
+   *                     address
+   */
+
+  public static QVCInetAddressResolverType hostsFile(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    final var byName = new HashMap<String, InetAddress>();
+    try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      var lineNumber = 0;
+      while (true) {
+        final var line = reader.readLine();
+        if (line == null) {
+          break;
+        }
+        ++lineNumber;
+
+        final var comment = line.indexOf('#');
+        final var content =
+          comment >= 0 ? line.substring(0, comment) : line;
+        final var tokens = content.trim().split("\\s+");
+        if (tokens.length < 2) {
+          continue;
+        }
+
+        final var addressOpt = QInetAddressLiterals.parse(tokens[0]);
+        if (addressOpt.isEmpty()) {
+          throw new IOException(
+            "%s:%d: Unparseable address '%s'"
+              .formatted(file, Integer.valueOf(lineNumber), tokens[0])
+          );
+        }
+
+        final var address = addressOpt.get();
+
+        for (int index = 1; index < tokens.length; ++index) {
+          final var name = tokens[index];
+          byName.putIfAbsent(
+            name.toLowerCase(Locale.ROOT),
+            InetAddress.getByAddress(name, address.getAddress())
+          );
+        }
+      }
+    }
+    return ofNormalizedMap(Map.copyOf(byName));
+  }
+
+  private static QVCInetAddressResolverType ofNormalizedMap(
+    final Map<String, InetAddress> byName)
+  {
+    return name -> {
+      final var address = byName.get(name.toLowerCase(Locale.ROOT));
+      if (address == null) {
+        throw new UnknownHostException(name);
+      }
+      return address;
+    };
+  }
+}
@@ -16,16 +16,25 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
+import com.io7m.quarrel.core.QValueConverterIntType;
 import com.io7m.quarrel.core.QValueConverterType;
 
+import java.util.function.IntConsumer;
+
 /**
  * A value converter.
  */
 
 public final class QVCInteger
   extends QVCAbstract<Integer>
+  implements QValueConverterIntType
 {
   private static final QVCInteger INSTANCE = new QVCInteger();
+  private static final String INVALID =
+    "Expected a decimal integer in the range [-2^31, 2^31 - 1].";
 
   private QVCInteger()
   {
@@ -45,7 +54,29 @@ public final class QVCInteger
   protected Integer parse(final String text)
     throws Exception
   {
-    return Integer.valueOf(Integer.parseInt(text));
+    return this.tryConvertFromString(text).orElseThrow();
+  }
+
+  @Override
+  public QConversionResultType<Integer> tryConvertFromString(
+    final String text)
+  {
+    if (QVCDecimal.isLongInRange(text, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+      return new QConversionSuccess<>(Integer.valueOf(Integer.parseInt(text)));
+    }
+    return QConversionFailure.of(INVALID);
+  }
+
+  @Override
+  public boolean tryConvertToInt(
+    final String text,
+    final IntConsumer receiver)
+  {
+    if (QVCDecimal.isLongInRange(text, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+      receiver.accept(Integer.parseInt(text));
+      return true;
+    }
+    return false;
   }
 
   @Override
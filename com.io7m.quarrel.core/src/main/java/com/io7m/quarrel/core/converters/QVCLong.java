@@ -16,16 +16,25 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
+import com.io7m.quarrel.core.QValueConverterLongType;
 import com.io7m.quarrel.core.QValueConverterType;
 
+import java.util.function.LongConsumer;
+
 /**
  * A value converter.
  */
 
 public final class QVCLong
   extends QVCAbstract<Long>
+  implements QValueConverterLongType
 {
   private static final QVCLong INSTANCE = new QVCLong();
+  private static final String INVALID =
+    "Expected a decimal integer in the range [-2^63, 2^63 - 1].";
 
   private QVCLong()
   {
@@ -45,7 +54,29 @@ public final class QVCLong
   protected Long parse(final String text)
     throws Exception
   {
-    return Long.valueOf(Long.parseLong(text));
+    return this.tryConvertFromString(text).orElseThrow();
+  }
+
+  @Override
+  public QConversionResultType<Long> tryConvertFromString(
+    final String text)
+  {
+    if (QVCDecimal.isLongInRange(text, Long.MIN_VALUE, Long.MAX_VALUE)) {
+      return new QConversionSuccess<>(Long.valueOf(Long.parseLong(text)));
+    }
+    return QConversionFailure.of(INVALID);
+  }
+
+  @Override
+  public boolean tryConvertToLong(
+    final String text,
+    final LongConsumer receiver)
+  {
+    if (QVCDecimal.isLongInRange(text, Long.MIN_VALUE, Long.MAX_VALUE)) {
+      receiver.accept(Long.parseLong(text));
+      return true;
+    }
+    return false;
   }
 
   @Override
@@ -16,6 +16,8 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
 import com.io7m.quarrel.core.QValueConverterType;
 
 /**
@@ -48,6 +50,13 @@ public final class QVCString
     return text;
   }
 
+  @Override
+  public QConversionResultType<String> tryConvertFromString(
+    final String text)
+  {
+    return new QConversionSuccess<>(text);
+  }
+
   @Override
   public String convertToString(
     final String value)
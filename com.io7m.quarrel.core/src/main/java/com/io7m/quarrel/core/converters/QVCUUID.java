@@ -16,6 +16,9 @@
 
 package com.io7m.quarrel.core.converters;
 
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
 import com.io7m.quarrel.core.QValueConverterType;
 
 import java.util.UUID;
@@ -31,6 +34,8 @@ public final class QVCUUID
     new QVCUUID();
   private static final UUID RANDOM_UUID =
     UUID.randomUUID();
+  private static final String INVALID =
+    "Expected a UUID string.";
 
   private QVCUUID()
   {
@@ -53,6 +58,70 @@ public final class QVCUUID
     return UUID.fromString(text);
   }
 
+  /*
+   * UUID.fromString() accepts a number of non-canonical forms, so only the
+   * canonical form and strings that cannot possibly be accepted are handled
+   * here. Anything else is passed to UUID.fromString() and may fail with
+   * an exception as before.
+   */
+
+  @Override
+  public QConversionResultType<UUID> tryConvertFromString(
+    final String text)
+  {
+    if (isCanonical(text)) {
+      return new QConversionSuccess<>(UUID.fromString(text));
+    }
+    if (text.length() > 36 || countDashes(text) != 4) {
+      return QConversionFailure.of(INVALID);
+    }
+    return super.tryConvertFromString(text);
+  }
+
+  private static boolean isCanonical(
+    final String text)
+  {
+    if (text.length() != 36) {
+      return false;
+    }
+    for (int index = 0; index < 36; ++index) {
+      final var c = text.charAt(index);
+      switch (index) {
+        case 8, 13, 18, 23 -> {
+          if (c != '-') {
+            return false;
+          }
+        }
+        default -> {
+          if (!isHexDigit(c)) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  private static boolean isHexDigit(
+    final char c)
+  {
+    return (c >= '0' && c <= '9')
+           || (c >= 'a' && c <= 'f')
+           || (c >= 'A' && c <= 'F');
+  }
+
+  private static int countDashes(
+    final String text)
+  {
+    int count = 0;
+    for (int index = 0; index < text.length(); ++index) {
+      if (text.charAt(index) == '-') {
+        ++count;
+      }
+    }
+    return count;
+  }
+
   @Override
   public String convertToString(
     final UUID value)
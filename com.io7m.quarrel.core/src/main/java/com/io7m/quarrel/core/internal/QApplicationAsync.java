@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QErrorFormatting;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QStringType.QLocalize;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single asynchronous invocation of an application.
+ *
+ * <p>The invocation completes exactly once: either when the command
+ * finishes, when the timeout elapses, or when the returned future is
+ * cancelled. A timeout or cancellation interrupts the thread running the
+ * command so that commands blocked in interruptible operations can stop
+ * promptly.</p>
+ */
+
+public final class QApplicationAsync implements Runnable
+{
+  private static final ThreadFactory VIRTUAL_THREADS =
+    Thread.ofVirtual()
+      .name("com.io7m.quarrel.async-", 0L)
+      .factory();
+
+  private static final Executor VIRTUAL_THREAD_EXECUTOR =
+    task -> VIRTUAL_THREADS.newThread(task).start();
+
+  private final QApplicationType application;
+  private final Logger logger;
+  private final List<String> arguments;
+  private final CompletableFuture<QCommandStatus> future;
+  private final Object lock;
+  private Thread thread;
+  private boolean finished;
+  private boolean interruptSent;
+
+  private QApplicationAsync(
+    final QApplicationType inApplication,
+    final Logger inLogger,
+    final List<String> inArguments)
+  {
+    this.application =
+      Objects.requireNonNull(inApplication, "application");
+    this.logger =
+      Objects.requireNonNull(inLogger, "logger");
+    this.arguments =
+      List.copyOf(inArguments);
+    this.future =
+      new CompletableFuture<>();
+    this.lock =
+      new Object();
+  }
+
+  /**
+   * @return An executor that starts a new virtual thread for each task
+   */
+
+  public static Executor virtualThreadExecutor()
+  {
+    return VIRTUAL_THREAD_EXECUTOR;
+  }
+
+  /**
+   * Run an application asynchronously.
+   *
+   * @param application The application
+   * @param logger      The receiver of log messages
+   * @param arguments   The arguments
+   * @param executor    The executor that will run the command
+   * @param timeout     The timeout, if any
+   *
+   * @return The future status of the command
+   */
+
+  public static CompletableFuture<QCommandStatus> run(
+    final QApplicationType application,
+    final Logger logger,
+    final List<String> arguments,
+    final Executor executor,
+    final Optional<Duration> timeout)
+  {
+    Objects.requireNonNull(executor, "executor");
+    Objects.requireNonNull(timeout, "timeout");
+
+    final var invocation =
+      new QApplicationAsync(application, logger, arguments);
+    final var future =
+      invocation.future;
+
+    future.whenComplete((status, exception) -> invocation.onComplete());
+
+    /*
+     * The timeout must not be scheduled on the executor that runs the
+     * command: on a single-threaded or saturated executor, it would wait
+     * behind the very command it is meant to interrupt.
+     */
+
+    timeout.ifPresent(duration -> {
+      CompletableFuture.delayedExecutor(
+        duration.toNanos(),
+        TimeUnit.NANOSECONDS
+      ).execute(() -> invocation.onTimeout(duration));
+    });
+
+    /*
+     * Completing the future also disarms the timeout, as the invocation
+     * can then no longer be claimed.
+     */
+
+    try {
+      executor.execute(invocation);
+    } catch (final RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  @Override
+  public void run()
+  {
+    synchronized (this.lock) {
+      if (this.finished) {
+        return;
+      }
+      this.thread = Thread.currentThread();
+    }
+
+    try {
+      final var status =
+        this.application.run(this.logger, this.arguments);
+      if (this.claim()) {
+        this.future.complete(status);
+      }
+    } catch (final Throwable e) {
+      if (this.claim()) {
+        this.future.completeExceptionally(e);
+      }
+
+      /*
+       * The failure is delivered through the future. Only errors are
+       * propagated to the executor, as they indicate that the thread
+       * itself is in trouble.
+       */
+
+      if (e instanceof final Error error) {
+        throw error;
+      }
+    } finally {
+      final boolean wasInterrupted;
+      synchronized (this.lock) {
+        this.thread = null;
+        wasInterrupted = this.interruptSent;
+      }
+
+      /*
+       * The interrupt sent by this invocation may have been delivered
+       * after the command finished. Clear it so that it does not leak into
+       * the next task run by a pooled executor thread. Interrupts from
+       * elsewhere are not ours to clear.
+       */
+
+      if (wasInterrupted) {
+        Thread.interrupted();
+      }
+    }
+  }
+
+  private boolean claim()
+  {
+    synchronized (this.lock) {
+      if (this.finished) {
+        return false;
+      }
+      this.finished = true;
+      return true;
+    }
+  }
+
+  private void onTimeout(
+    final Duration duration)
+  {
+    if (!this.claim()) {
+      return;
+    }
+
+    final var error =
+      new QException(
+        this.application.localize(
+          new QLocalize("quarrel.errorCommandTimedOut")),
+        "command-timed-out",
+        Map.ofEntries(
+          Map.entry(
+            this.application.localize(new QLocalize("quarrel.command")),
+            String.join(" ", this.arguments)
+          ),
+          Map.entry(
+            this.application.localize(new QLocalize("quarrel.timeout")),
+            duration.toString()
+          )
+        ),
+        Optional.empty(),
+        List.of()
+      );
+
+    QErrorFormatting.format(
+      this.application,
+      error,
+      s -> this.logger.error("{}", s)
+    );
+    this.future.complete(QCommandStatus.FAILURE);
+  }
+
+  private void onComplete()
+  {
+    synchronized (this.lock) {
+      this.finished = true;
+
+      /*
+       * The command thread completes the future itself when the command
+       * finishes normally, and must not interrupt itself.
+       */
+
+      final var current = this.thread;
+      if (current != null && current != Thread.currentThread()) {
+        this.interruptSent = true;
+        current.interrupt();
+      }
+    }
+  }
+}
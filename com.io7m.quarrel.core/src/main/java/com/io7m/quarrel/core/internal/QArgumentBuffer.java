@@ -0,0 +1,336 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QArgumentsType;
+
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable list of arguments held in a shared character array, with
+ * an offset table giving the bounds of each argument. Each argument is
+ * materialized as a string at most once; the string is retained and shared
+ * by every list viewing the same buffer.
+ */
+
+public final class QArgumentBuffer
+  extends AbstractList<String>
+  implements QArgumentsType
+{
+  private final char[] chars;
+  private final int[] bounds;
+  private final String[] strings;
+  private final int from;
+  private final int to;
+
+  private QArgumentBuffer(
+    final char[] inChars,
+    final int[] inBounds,
+    final String[] inStrings,
+    final int inFrom,
+    final int inTo)
+  {
+    this.chars = inChars;
+    this.bounds = inBounds;
+    this.strings = inStrings;
+    this.from = inFrom;
+    this.to = inTo;
+  }
+
+  /**
+   * Produce an immutable copy of the given arguments. Argument buffers are
+   * already immutable, and are returned as-is.
+   *
+   * @param arguments The arguments
+   *
+   * @return An immutable list
+   */
+
+  public static List<String> immutableCopyOf(
+    final List<String> arguments)
+  {
+    if (arguments instanceof QArgumentBuffer) {
+      return arguments;
+    }
+    return List.copyOf(arguments);
+  }
+
+  private int start(
+    final int index)
+  {
+    Objects.checkIndex(index, this.size());
+    return this.bounds[(this.from + index) << 1];
+  }
+
+  private int end(
+    final int index)
+  {
+    return this.bounds[((this.from + index) << 1) + 1];
+  }
+
+  /*
+   * Two threads may race to materialize the same argument, in which case
+   * both create equal strings and either may be retained. Strings are
+   * immutable, so publishing them without synchronization is safe.
+   */
+
+  @Override
+  public String get(
+    final int index)
+  {
+    final var start = this.start(index);
+    final var slot = this.from + index;
+    final var existing = this.strings[slot];
+    if (existing != null) {
+      return existing;
+    }
+
+    final var created = new String(this.chars, start, this.end(index) - start);
+    this.strings[slot] = created;
+    return created;
+  }
+
+  @Override
+  public CharSequence view(
+    final int index)
+  {
+    return new View(this.chars, this.start(index), this.end(index));
+  }
+
+  @Override
+  public int size()
+  {
+    return this.to - this.from;
+  }
+
+  @Override
+  public QArgumentsType subList(
+    final int fromIndex,
+    final int toIndex)
+  {
+    Objects.checkFromToIndex(fromIndex, toIndex, this.size());
+    return new QArgumentBuffer(
+      this.chars,
+      this.bounds,
+      this.strings,
+      this.from + fromIndex,
+      this.from + toIndex
+    );
+  }
+
+  /**
+   * A builder for argument buffers. Characters can be decoded directly into
+   * the buffer with {@link #target(int)}, and then committed as an argument
+   * with {@link #commit(int, int)}.
+   */
+
+  static final class Builder
+  {
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private char[] chars;
+    private int[] bounds;
+    private int used;
+    private int count;
+
+    Builder()
+    {
+      this.chars = new char[256];
+      this.bounds = new int[32];
+      this.used = 0;
+      this.count = 0;
+    }
+
+    /**
+     * Ensure that at least the given number of characters can be added
+     * without the buffer growing.
+     *
+     * @param extra The number of characters
+     */
+
+    void reserve(
+      final int extra)
+    {
+      final long required = (long) this.used + (long) extra;
+      if (required <= this.chars.length) {
+        return;
+      }
+      if (required > MAXIMUM_CAPACITY) {
+        throw new OutOfMemoryError("Argument buffer too large");
+      }
+
+      final long doubled = (long) this.chars.length << 1;
+      this.chars =
+        Arrays.copyOf(
+          this.chars,
+          (int) Math.min(MAXIMUM_CAPACITY, Math.max(required, doubled))
+        );
+    }
+
+    /**
+     * @param maximum The maximum number of characters that will be written
+     *
+     * @return A buffer positioned at the end of the used characters
+     */
+
+    CharBuffer target(
+      final int maximum)
+    {
+      this.reserve(maximum);
+      return CharBuffer.wrap(this.chars, this.used, maximum);
+    }
+
+    char charAt(
+      final int index)
+    {
+      return this.chars[index];
+    }
+
+    String string(
+      final int start,
+      final int end)
+    {
+      return new String(this.chars, start, end - start);
+    }
+
+    int count()
+    {
+      return this.count;
+    }
+
+    String get(
+      final int index)
+    {
+      final var start = this.bounds[index << 1];
+      return this.string(start, this.bounds[(index << 1) + 1]);
+    }
+
+    /**
+     * Remove the most recently added argument, releasing its characters.
+     */
+
+    void removeLast()
+    {
+      --this.count;
+      this.used = this.bounds[this.count << 1];
+    }
+
+    /**
+     * Add the characters in {@code [start, end)} as an argument. The
+     * characters must have been written at or after the end of the used
+     * characters.
+     *
+     * @param start The start of the argument
+     * @param end   The end of the argument
+     */
+
+    void commit(
+      final int start,
+      final int end)
+    {
+      if (this.bounds.length == this.count << 1) {
+        this.bounds = Arrays.copyOf(this.bounds, this.bounds.length << 1);
+      }
+      this.bounds[this.count << 1] = start;
+      this.bounds[(this.count << 1) + 1] = end;
+      ++this.count;
+      this.used = end;
+    }
+
+    void add(
+      final String argument)
+    {
+      final var length = argument.length();
+      this.reserve(length);
+      argument.getChars(0, length, this.chars, this.used);
+      this.commit(this.used, this.used + length);
+    }
+
+    void add(
+      final char[] argument,
+      final int length)
+    {
+      this.reserve(length);
+      System.arraycopy(argument, 0, this.chars, this.used, length);
+      this.commit(this.used, this.used + length);
+    }
+
+    QArgumentBuffer build()
+    {
+      return new QArgumentBuffer(
+        this.chars,
+        this.bounds,
+        new String[this.count],
+        0,
+        this.count
+      );
+    }
+  }
+
+  private static final class View implements CharSequence
+  {
+    private final char[] chars;
+    private final int start;
+    private final int end;
+
+    View(
+      final char[] inChars,
+      final int inStart,
+      final int inEnd)
+    {
+      this.chars = inChars;
+      this.start = inStart;
+      this.end = inEnd;
+    }
+
+    @Override
+    public int length()
+    {
+      return this.end - this.start;
+    }
+
+    @Override
+    public char charAt(
+      final int index)
+    {
+      return this.chars[this.start + Objects.checkIndex(index, this.length())];
+    }
+
+    @Override
+    public CharSequence subSequence(
+      final int startIndex,
+      final int endIndex)
+    {
+      Objects.checkFromToIndex(startIndex, endIndex, this.length());
+      return new View(
+        this.chars,
+        this.start + startIndex,
+        this.start + endIndex
+      );
+    }
+
+    @Override
+    public String toString()
+    {
+      return new String(this.chars, this.start, this.length());
+    }
+  }
+}
@@ -0,0 +1,920 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QAtSyntaxConfiguration;
+import com.io7m.quarrel.core.QAtSyntaxFormat;
+import com.io7m.quarrel.core.QLocalizationType;
+import com.io7m.quarrel.core.QStringType.QLocalize;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>The expansion of @ syntax in command-line arguments.</p>
+ *
+ * <p>Arguments are expanded on demand: each call to {@link #advance()}
+ * produces at most one argument, so a parser can stop pulling arguments as
+ * soon as it has seen enough of them. Argument files are memory-mapped (or
+ * read directly, if they are small) and decoded a line at a time directly
+ * into a single {@link QArgumentBuffer}, so no strings are created for the
+ * arguments until they are read.</p>
+ *
+ * <p>In the {@link QAtSyntaxFormat#QUOTED} format, each line is decoded
+ * into the buffer of a {@link QArgumentLexer} owned by the file, and the
+ * arguments it produces are copied into the buffer.</p>
+ *
+ * <p>The argument {@code @-} reads arguments from an input stream (usually
+ * the standard input). The stream is read only as far as is necessary to
+ * produce each line, so arguments are available as soon as they arrive.</p>
+ */
+
+public final class QArgumentFiles
+{
+  /*
+   * Mapping a file has a fixed cost that outweighs the cost of copying
+   * small files onto the heap.
+   */
+
+  private static final int MAP_THRESHOLD = 64 * 1024;
+
+  private static final int INPUT_BUFFER_SIZE = 8192;
+
+  private final QAtSyntaxConfiguration configuration;
+  private final QAtSyntaxFormat format;
+  private final InputStream input;
+  private final Path directory;
+  private final QLocalizationType localization;
+  private final List<String> arguments;
+  private final int first;
+  private final ArrayList<SStructuredErrorType<String>> errors;
+  private final QArgumentBuffer.Builder output;
+  private final ArrayDeque<FrameType> frames;
+  private final HashSet<Path> active;
+  private final CharsetDecoder decoder;
+  private int argumentIndex;
+  private int produced;
+  private boolean done;
+
+  private QArgumentFiles(
+    final QAtSyntaxConfiguration inConfiguration,
+    final QAtSyntaxFormat inFormat,
+    final InputStream inInput,
+    final Path inDirectory,
+    final QLocalizationType inLocalization,
+    final List<String> inArguments,
+    final int inFirst)
+  {
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.format =
+      Objects.requireNonNull(inFormat, "format");
+    this.input =
+      Objects.requireNonNull(inInput, "input");
+    this.directory =
+      Objects.requireNonNull(inDirectory, "directory");
+    this.localization =
+      Objects.requireNonNull(inLocalization, "localization");
+    this.arguments =
+      Objects.requireNonNull(inArguments, "arguments");
+    this.first =
+      inFirst;
+    this.errors =
+      new ArrayList<>(0);
+    this.output =
+      new QArgumentBuffer.Builder();
+    this.frames =
+      new ArrayDeque<>();
+    this.active =
+      new HashSet<>();
+    this.decoder =
+      StandardCharsets.UTF_8.newDecoder();
+  }
+
+  /**
+   * Open the given arguments for expansion. If no argument requires
+   * expansion, the arguments are returned as-is. Otherwise, the returned
+   * list is a {@link QExpandedArguments} list that expands arguments as
+   * they are accessed.
+   *
+   * @param configuration The configuration
+   * @param format        The format of argument files
+   * @param input         The stream read by {@code @-}
+   * @param directory     The directory against which relative names of
+   *                      argument files are resolved
+   * @param localization  The localization used for error messages
+   * @param arguments     The arguments
+   *
+   * @return The arguments
+   */
+
+  public static List<String> open(
+    final QAtSyntaxConfiguration configuration,
+    final QAtSyntaxFormat format,
+    final InputStream input,
+    final Path directory,
+    final QLocalizationType localization,
+    final List<String> arguments)
+  {
+    Objects.requireNonNull(arguments, "arguments");
+
+    final int first;
+    if (configuration.expandAnywhere()) {
+      first = firstExpandable(arguments);
+    } else if (!arguments.isEmpty() && arguments.get(0).startsWith("@")) {
+      first = 0;
+    } else {
+      first = -1;
+    }
+
+    if (first < 0) {
+      return arguments;
+    }
+
+    return new QExpandedArguments(
+      new QArgumentFiles(
+        configuration,
+        format,
+        input,
+        directory,
+        localization,
+        arguments,
+        first
+      ),
+      0
+    );
+  }
+
+  private static int firstExpandable(
+    final List<String> arguments)
+  {
+    for (int index = 0; index < arguments.size(); ++index) {
+      if (arguments.get(index).startsWith("@")) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return The errors encountered so far
+   */
+
+  List<SStructuredErrorType<String>> errors()
+  {
+    return this.errors;
+  }
+
+  /**
+   * @return The number of arguments held in the buffer
+   */
+
+  int count()
+  {
+    return this.output.count();
+  }
+
+  /**
+   * Expand arguments until the argument at {@code index} is available, or
+   * there are no more arguments.
+   *
+   * @param index The argument index
+   *
+   * @return {@code true} if the argument at {@code index} exists
+   */
+
+  boolean has(
+    final int index)
+  {
+    while (this.output.count() <= index && this.advance()) {
+      // Expand until the argument exists
+    }
+    return index < this.output.count();
+  }
+
+  String get(
+    final int index)
+  {
+    if (!this.has(index)) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return this.output.get(index);
+  }
+
+  /**
+   * Expand all remaining arguments.
+   *
+   * @return The buffer holding all arguments
+   */
+
+  QArgumentBuffer drain()
+  {
+    while (this.advance()) {
+      // Expand until there are no more arguments
+    }
+    return this.output.build();
+  }
+
+  /**
+   * Expand the next argument without retaining it in the buffer.
+   *
+   * @return The next argument, or {@code null} if there are no more
+   */
+
+  String takeNext()
+  {
+    if (!this.advance()) {
+      return null;
+    }
+    final var text = this.output.get(this.output.count() - 1);
+    this.output.removeLast();
+    return text;
+  }
+
+  private boolean advance()
+  {
+    while (!this.done) {
+      final var frame = this.frames.peekFirst();
+      final Step step;
+      if (frame != null) {
+        step = this.advanceFrame(frame);
+      } else {
+        step = this.advanceTopLevel();
+      }
+
+      if (step == Step.ARGUMENT) {
+        return true;
+      }
+      if (step == Step.FINISHED) {
+        this.done = true;
+      }
+    }
+    return false;
+  }
+
+  private Step advanceTopLevel()
+  {
+    if (this.argumentIndex >= this.arguments.size()) {
+      return Step.FINISHED;
+    }
+
+    final var index = this.argumentIndex++;
+    final var argument = this.arguments.get(index);
+    final var expandable =
+      index == this.first
+      || (index > this.first
+          && this.configuration.expandAnywhere()
+          && argument.startsWith("@"));
+
+    if (expandable) {
+      return this.includeTopLevel(argument.substring(1));
+    }
+    if (!this.checkCount()) {
+      return Step.FINISHED;
+    }
+    this.output.add(argument);
+    return Step.ARGUMENT;
+  }
+
+  private Step advanceFrame(
+    final FrameType frame)
+  {
+    try {
+      if (this.format == QAtSyntaxFormat.QUOTED) {
+        return this.advanceQuoted(frame);
+      }
+
+      final var line = frame.nextLine();
+      if (this.isOversized(frame)) {
+        return Step.FINISHED;
+      }
+      if (line == null) {
+        this.pop(frame);
+        return Step.CONTINUE;
+      }
+      return this.line(frame, line);
+    } catch (final IOException e) {
+      this.errorIO(frame.name(), e);
+      return Step.FINISHED;
+    }
+  }
+
+  private Step advanceQuoted(
+    final FrameType frame)
+    throws IOException
+  {
+    final var lexer = frame.lexer();
+    if (lexer.hasInput()) {
+      if (lexer.next()) {
+        return this.token(frame, lexer);
+      }
+      return Step.CONTINUE;
+    }
+
+    final var line = frame.nextLine();
+    if (this.isOversized(frame)) {
+      return Step.FINISHED;
+    }
+
+    if (line == null) {
+      if (lexer.isIncomplete()) {
+        this.errorSyntax(frame.name(), lexer.tokenLine());
+        return Step.FINISHED;
+      }
+      if (lexer.finish()) {
+        return this.token(frame, lexer);
+      }
+      this.pop(frame);
+      return Step.CONTINUE;
+    }
+
+    this.decode(line, lexer.target(line.remaining()));
+    lexer.begin();
+    return Step.CONTINUE;
+  }
+
+  private Step token(
+    final FrameType frame,
+    final QArgumentLexer lexer)
+  {
+    if (this.configuration.expandNested() && lexer.tokenInclude()) {
+      return this.includeNested(
+        frame,
+        new String(lexer.tokenChars(), 1, lexer.tokenLength() - 1)
+      );
+    }
+
+    if (!this.checkCount()) {
+      return Step.FINISHED;
+    }
+    this.output.add(lexer.tokenChars(), lexer.tokenLength());
+    return Step.ARGUMENT;
+  }
+
+  private void pop(
+    final FrameType frame)
+  {
+    this.frames.removeFirst();
+    if (frame instanceof final FileFrame fileFrame) {
+      this.active.remove(fileFrame.file);
+    }
+  }
+
+  private boolean isOversized(
+    final FrameType frame)
+  {
+    if (frame instanceof final InputFrame inputFrame
+        && (inputFrame.total > this.configuration.maximumFileSize()
+            || inputFrame.overflowed)) {
+      this.errorLimit(
+        "argument-file-size",
+        "quarrel.errorArgumentFileSize",
+        frame.name(),
+        this.configuration.maximumFileSize()
+      );
+      return true;
+    }
+    return false;
+  }
+
+  private Step includeTopLevel(
+    final String name)
+  {
+    if ("-".equals(name)) {
+      this.frames.addFirst(
+        new InputFrame(
+          this.input,
+          this.directory,
+          this.configuration.maximumFileSize(),
+          this.newLexer()
+        )
+      );
+      return Step.CONTINUE;
+    }
+
+    final Path path;
+    try {
+      path = this.directory.resolve(name);
+    } catch (final InvalidPathException e) {
+      this.errorIO(name, e);
+      return Step.FINISHED;
+    }
+    return this.include(path, 1);
+  }
+
+  private Step include(
+    final Path path,
+    final int depth)
+  {
+    if (depth > this.configuration.maximumDepth()) {
+      this.errorLimit(
+        "argument-file-depth",
+        "quarrel.errorArgumentFileDepth",
+        path.toAbsolutePath().toString(),
+        this.configuration.maximumDepth()
+      );
+      return Step.FINISHED;
+    }
+
+    final Path real;
+    try {
+      real = path.toRealPath();
+    } catch (final IOException e) {
+      this.errorIO(path.toAbsolutePath().toString(), e);
+      return Step.FINISHED;
+    }
+
+    if (this.active.contains(real)) {
+      this.errors.add(
+        new SStructuredError<>(
+          "argument-file-cycle",
+          this.localize("quarrel.errorArgumentFileCycle"),
+          Map.of(this.localize("quarrel.file"), real.toString()),
+          Optional.empty(),
+          Optional.empty()
+        )
+      );
+      return Step.FINISHED;
+    }
+
+    try (var channel = FileChannel.open(real, StandardOpenOption.READ)) {
+      final var size = channel.size();
+      if (size > this.configuration.maximumFileSize()) {
+        this.errorLimit(
+          "argument-file-size",
+          "quarrel.errorArgumentFileSize",
+          real.toString(),
+          this.configuration.maximumFileSize()
+        );
+        return Step.FINISHED;
+      }
+
+      /*
+       * The output buffer is not grown to the size of the file here: a
+       * streaming command consumes each argument as it is produced, and so
+       * the buffer only ever needs to hold the current line.
+       */
+
+      this.frames.addFirst(
+        new FileFrame(real, read(channel, (int) size), depth, this.newLexer()));
+      this.active.add(real);
+      return Step.CONTINUE;
+    } catch (final IOException e) {
+      this.errorIO(real.toString(), e);
+      return Step.FINISHED;
+    }
+  }
+
+  private static ByteBuffer read(
+    final FileChannel channel,
+    final int size)
+    throws IOException
+  {
+    if (size >= MAP_THRESHOLD) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+    }
+
+    final var buffer = ByteBuffer.allocate(size);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        break;
+      }
+    }
+    return buffer.flip();
+  }
+
+  /*
+   * A UTF-8 line never decodes to more characters than it has bytes, so
+   * the line can be decoded directly into the output buffer, and then
+   * either committed as an argument or abandoned.
+   */
+
+  private Step line(
+    final FrameType frame,
+    final ByteBuffer bytes)
+    throws CharacterCodingException
+  {
+    final var text = this.output.target(bytes.remaining());
+    final var base = text.position();
+    this.decode(bytes, text);
+
+    if (this.output.charAt(base) == '#') {
+      return Step.CONTINUE;
+    }
+
+    int start = base;
+    int end = text.position();
+    while (start < end && this.output.charAt(start) <= ' ') {
+      ++start;
+    }
+    while (end > start && this.output.charAt(end - 1) <= ' ') {
+      --end;
+    }
+    if (start == end) {
+      return Step.CONTINUE;
+    }
+
+    if (this.configuration.expandNested()
+        && this.output.charAt(start) == '@') {
+      return this.includeNested(
+        frame, this.output.string(start + 1, end));
+    }
+
+    if (!this.checkCount()) {
+      return Step.FINISHED;
+    }
+    this.output.commit(start, end);
+    return Step.ARGUMENT;
+  }
+
+  private Step includeNested(
+    final FrameType frame,
+    final String name)
+  {
+    final Path target;
+    try {
+      target = frame.resolve(name);
+    } catch (final InvalidPathException e) {
+      this.errorIO(name, e);
+      return Step.FINISHED;
+    }
+    return this.include(target, frame.depth() + 1);
+  }
+
+  private QArgumentLexer newLexer()
+  {
+    if (this.format == QAtSyntaxFormat.QUOTED) {
+      return new QArgumentLexer();
+    }
+    return null;
+  }
+
+  private void decode(
+    final ByteBuffer bytes,
+    final CharBuffer text)
+    throws CharacterCodingException
+  {
+    this.decoder.reset();
+
+    final var result = this.decoder.decode(bytes, text, true);
+    if (!result.isUnderflow()) {
+      result.throwException();
+    }
+    final CoderResult flushed = this.decoder.flush(text);
+    if (!flushed.isUnderflow()) {
+      flushed.throwException();
+    }
+  }
+
+  private boolean checkCount()
+  {
+    if (this.produced >= this.configuration.maximumArguments()) {
+      this.errors.add(
+        new SStructuredError<>(
+          "argument-file-count",
+          this.localize("quarrel.errorArgumentFileCount"),
+          Map.of(
+            this.localize("quarrel.limit"),
+            Integer.toString(this.configuration.maximumArguments())
+          ),
+          Optional.empty(),
+          Optional.empty()
+        )
+      );
+      return false;
+    }
+    ++this.produced;
+    return true;
+  }
+
+  private void errorLimit(
+    final String code,
+    final String message,
+    final String file,
+    final int limit)
+  {
+    this.errors.add(
+      new SStructuredError<>(
+        code,
+        this.localize(message),
+        Map.ofEntries(
+          Map.entry(
+            this.localize("quarrel.file"),
+            file),
+          Map.entry(
+            this.localize("quarrel.limit"),
+            Integer.toString(limit))
+        ),
+        Optional.empty(),
+        Optional.empty()
+      )
+    );
+  }
+
+  private void errorSyntax(
+    final String file,
+    final int line)
+  {
+    this.errors.add(
+      new SStructuredError<>(
+        "argument-file-syntax",
+        this.localize("quarrel.errorArgumentFileSyntax"),
+        Map.ofEntries(
+          Map.entry(this.localize("quarrel.file"), file),
+          Map.entry(this.localize("quarrel.line"), Integer.toString(line))
+        ),
+        Optional.empty(),
+        Optional.empty()
+      )
+    );
+  }
+
+  private void errorIO(
+    final String file,
+    final Exception e)
+  {
+    this.errors.add(
+      new SStructuredError<>(
+        "io",
+        this.localize("quarrel.errorIOFile"),
+        Map.of(this.localize("quarrel.file"), file),
+        Optional.empty(),
+        Optional.of(e)
+      )
+    );
+  }
+
+  private String localize(
+    final String key)
+  {
+    return this.localization.localize(new QLocalize(key));
+  }
+
+  private enum Step
+  {
+    ARGUMENT,
+    CONTINUE,
+    FINISHED
+  }
+
+  /*
+   * A source of lines. Each line includes its terminator, if it has one.
+   * The bytes of a line terminator cannot occur inside a multibyte UTF-8
+   * sequence, so lines can be split before they are decoded. The lexer is
+   * null unless the format is QUOTED.
+   */
+
+  private sealed interface FrameType
+    permits FileFrame, InputFrame
+  {
+    int depth();
+
+    String name();
+
+    Path resolve(String name);
+
+    QArgumentLexer lexer();
+
+    ByteBuffer nextLine()
+      throws IOException;
+  }
+
+  private static boolean isLineEnd(
+    final byte b)
+  {
+    return b == '\n' || b == '\r';
+  }
+
+  /*
+   * An argument file being read.
+   */
+
+  private static final class FileFrame implements FrameType
+  {
+    private final Path file;
+    private final ByteBuffer bytes;
+    private final int depth;
+    private final QArgumentLexer lexer;
+    private int position;
+
+    FileFrame(
+      final Path inFile,
+      final ByteBuffer inBytes,
+      final int inDepth,
+      final QArgumentLexer inLexer)
+    {
+      this.file = inFile;
+      this.bytes = inBytes;
+      this.depth = inDepth;
+      this.lexer = inLexer;
+      this.position = 0;
+    }
+
+    @Override
+    public QArgumentLexer lexer()
+    {
+      return this.lexer;
+    }
+
+    @Override
+    public int depth()
+    {
+      return this.depth;
+    }
+
+    @Override
+    public String name()
+    {
+      return this.file.toString();
+    }
+
+    @Override
+    public Path resolve(
+      final String name)
+    {
+      return this.file.resolveSibling(name);
+    }
+
+    @Override
+    public ByteBuffer nextLine()
+    {
+      final var limit = this.bytes.limit();
+      final var start = this.position;
+      if (start >= limit) {
+        return null;
+      }
+
+      int end = start;
+      while (end < limit && !isLineEnd(this.bytes.get(end))) {
+        ++end;
+      }
+      if (end < limit) {
+        ++end;
+      }
+      this.position = end;
+      return this.bytes.slice(start, end - start);
+    }
+  }
+
+  /*
+   * An input stream being read. Bytes are read only until a complete line
+   * is available, and the buffer only grows if a single line does not fit
+   * into it. Reading stops once more than the given limit has been read,
+   * or once a single line no longer fits into the largest possible buffer.
+   * Names in included files are resolved against the given directory.
+   */
+
+  private static final class InputFrame implements FrameType
+  {
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final InputStream stream;
+    private final Path directory;
+    private final int limit;
+    private final QArgumentLexer lexer;
+    private byte[] data;
+    private int start;
+    private int scan;
+    private int end;
+    private long total;
+    private boolean finished;
+    private boolean overflowed;
+
+    InputFrame(
+      final InputStream inStream,
+      final Path inDirectory,
+      final int inLimit,
+      final QArgumentLexer inLexer)
+    {
+      this.stream = inStream;
+      this.directory = inDirectory;
+      this.limit = inLimit;
+      this.lexer = inLexer;
+      this.data = new byte[INPUT_BUFFER_SIZE];
+    }
+
+    @Override
+    public QArgumentLexer lexer()
+    {
+      return this.lexer;
+    }
+
+    @Override
+    public int depth()
+    {
+      return 1;
+    }
+
+    @Override
+    public String name()
+    {
+      return "-";
+    }
+
+    @Override
+    public Path resolve(
+      final String name)
+    {
+      return this.directory.resolve(name);
+    }
+
+    @Override
+    public ByteBuffer nextLine()
+      throws IOException
+    {
+      while (true) {
+        while (this.scan < this.end) {
+          final var index = this.scan++;
+          if (isLineEnd(this.data[index])) {
+            final var lineStart = this.start;
+            this.start = this.scan;
+            return ByteBuffer.wrap(this.data, lineStart, this.scan - lineStart);
+          }
+        }
+
+        if (this.finished || this.overflowed || this.total > this.limit) {
+          if (this.end > this.start) {
+            final var lineStart = this.start;
+            this.start = this.end;
+            return ByteBuffer.wrap(this.data, lineStart, this.end - lineStart);
+          }
+          return null;
+        }
+        this.fill();
+      }
+    }
+
+    private void fill()
+      throws IOException
+    {
+      if (this.start > 0) {
+        final var length = this.end - this.start;
+        System.arraycopy(this.data, this.start, this.data, 0, length);
+        this.scan -= this.start;
+        this.end = length;
+        this.start = 0;
+      }
+      if (this.end == this.data.length) {
+
+        /*
+         * A buffer of one byte more than the limit is enough to detect that
+         * the limit has been exceeded.
+         */
+
+        final var capacity =
+          (int) Math.min(
+            Math.min((long) this.data.length << 1, (long) this.limit + 1L),
+            MAXIMUM_CAPACITY
+          );
+        if (capacity <= this.data.length) {
+          this.overflowed = true;
+          return;
+        }
+        this.data = Arrays.copyOf(this.data, capacity);
+      }
+
+      final var count =
+        this.stream.read(this.data, this.end, this.data.length - this.end);
+      if (count < 0) {
+        this.finished = true;
+      } else {
+        this.end += count;
+        this.total += count;
+      }
+    }
+  }
+}
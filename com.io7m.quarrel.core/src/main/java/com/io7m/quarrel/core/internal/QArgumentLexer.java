@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core.internal;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>A lexer for the {@link com.io7m.quarrel.core.QAtSyntaxFormat#QUOTED}
+ * argument file format.</p>
+ *
+ * <p>The lexer is fed input a chunk at a time, and makes a single pass over
+ * each chunk. Its state is retained between chunks, so an argument may span
+ * any number of chunks. Each chunk is decoded into the buffer returned by
+ * {@link #target(int)}, and then {@link #next()} is called until it returns
+ * {@code false}. At the end of the input, {@link #finish()} yields any
+ * final argument.</p>
+ */
+
+final class QArgumentLexer
+{
+  private CharBuffer input;
+  private char[] token;
+  private int length;
+  private boolean tokenReal;
+  private boolean tokenInclude;
+  private boolean skipLineFeed;
+  private State state;
+  private int line;
+  private int tokenLine;
+
+  QArgumentLexer()
+  {
+    this.input = CharBuffer.allocate(128).flip();
+    this.token = new char[64];
+    this.state = State.BETWEEN;
+    this.line = 1;
+  }
+
+  /**
+   * @param maximum The maximum number of characters in the next chunk
+   *
+   * @return An empty buffer into which the next chunk can be decoded
+   */
+
+  CharBuffer target(
+    final int maximum)
+  {
+    if (this.input.capacity() < maximum) {
+      this.input = CharBuffer.allocate(maximum);
+    }
+    return this.input.clear();
+  }
+
+  /**
+   * Begin lexing the chunk decoded into the buffer returned by
+   * {@link #target(int)}.
+   */
+
+  void begin()
+  {
+    this.input.flip();
+  }
+
+  /**
+   * @return {@code true} if characters in the current chunk remain
+   */
+
+  boolean hasInput()
+  {
+    return this.input.hasRemaining();
+  }
+
+  /**
+   * Lex until an argument is complete, or the current chunk is exhausted.
+   *
+   * @return {@code true} if an argument is complete
+   */
+
+  boolean next()
+  {
+    final var text = this.input;
+    while (text.hasRemaining()) {
+      final var c = text.get();
+
+      /*
+       * The line is counted before a linefeed is skipped, so that the
+       * linefeed of a CRLF pair following a continuation still ends the
+       * line.
+       */
+
+      if (c == '\n') {
+        ++this.line;
+      }
+      if (this.skipLineFeed) {
+        this.skipLineFeed = false;
+        if (c == '\n') {
+          continue;
+        }
+      }
+
+      switch (this.state) {
+        case BETWEEN -> {
+          if (c == '#') {
+            this.state = State.COMMENT;
+          } else if (c > ' ') {
+            this.length = 0;
+            this.tokenReal = false;
+            this.tokenInclude = c == '@';
+            this.tokenLine = this.line;
+            this.state = State.WORD;
+            this.word(c);
+          }
+        }
+        case COMMENT -> {
+          if (c == '\n' || c == '\r') {
+            this.state = State.BETWEEN;
+          }
+        }
+        case WORD -> {
+          if (c <= ' ') {
+            this.state = State.BETWEEN;
+            if (this.tokenReal) {
+              return true;
+            }
+          } else {
+            this.word(c);
+          }
+        }
+        case WORD_ESCAPE -> {
+          this.state = State.WORD;
+          if (!this.continuation(c)) {
+            this.append(c);
+          }
+        }
+        case SINGLE -> {
+          if (c == '\'') {
+            this.state = State.WORD;
+          } else {
+            this.append(c);
+          }
+        }
+        case DOUBLE -> {
+          if (c == '"') {
+            this.state = State.WORD;
+          } else if (c == '\\') {
+            this.state = State.DOUBLE_ESCAPE;
+          } else {
+            this.append(c);
+          }
+        }
+        case DOUBLE_ESCAPE -> {
+          this.state = State.DOUBLE;
+          this.doubleEscape(c);
+        }
+      }
+    }
+    return false;
+  }
+
+  private void word(
+    final char c)
+  {
+    switch (c) {
+      case '\'' -> {
+        this.tokenReal = true;
+        this.state = State.SINGLE;
+      }
+      case '"' -> {
+        this.tokenReal = true;
+        this.state = State.DOUBLE;
+      }
+      case '\\' -> {
+        this.state = State.WORD_ESCAPE;
+      }
+      default -> {
+        this.append(c);
+      }
+    }
+  }
+
+  private void doubleEscape(
+    final char c)
+  {
+    switch (c) {
+      case 'n' -> this.append('\n');
+      case 'r' -> this.append('\r');
+      case 't' -> this.append('\t');
+      case '"', '\\' -> this.append(c);
+      default -> {
+        if (!this.continuation(c)) {
+          this.append('\\');
+          this.append(c);
+        }
+      }
+    }
+  }
+
+  private boolean continuation(
+    final char c)
+  {
+    if (c == '\r') {
+      this.skipLineFeed = true;
+      return true;
+    }
+    return c == '\n';
+  }
+
+  private void append(
+    final char c)
+  {
+    if (this.length == this.token.length) {
+      this.token = Arrays.copyOf(this.token, this.token.length << 1);
+    }
+    this.token[this.length] = c;
+    ++this.length;
+    this.tokenReal = true;
+  }
+
+  /**
+   * @return {@code true} if the input ended inside a quotation or after an
+   * escape character
+   */
+
+  boolean isIncomplete()
+  {
+    return switch (this.state) {
+      case BETWEEN, COMMENT, WORD -> false;
+      case WORD_ESCAPE, SINGLE, DOUBLE, DOUBLE_ESCAPE -> true;
+    };
+  }
+
+  /**
+   * Finish lexing at the end of the input.
+   *
+   * @return {@code true} if a final argument is complete
+   */
+
+  boolean finish()
+  {
+    final var complete = this.state == State.WORD && this.tokenReal;
+    this.state = State.BETWEEN;
+    return complete;
+  }
+
+  /**
+   * @return The characters of the most recent argument
+   */
+
+  char[] tokenChars()
+  {
+    return this.token;
+  }
+
+  /**
+   * @return The length of the most recent argument
+   */
+
+  int tokenLength()
+  {
+    return this.length;
+  }
+
+  /**
+   * @return {@code true} if the most recent argument began with an unquoted
+   * {@code @}
+   */
+
+  boolean tokenInclude()
+  {
+    return this.tokenInclude;
+  }
+
+  /**
+   * @return The line on which the most recent argument began
+   */
+
+  int tokenLine()
+  {
+    return this.tokenLine;
+  }
+
+  private enum State
+  {
+    BETWEEN,
+    COMMENT,
+    WORD,
+    WORD_ESCAPE,
+    SINGLE,
+    DOUBLE,
+    DOUBLE_ESCAPE
+  }
+}
@@ -35,6 +35,7 @@ import com.io7m.quarrel.core.QStringType.QLocalize;
 import com.io7m.quarrel.core.QValueConverterDirectoryType;
 
 import java.io.PrintWriter;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -51,11 +52,15 @@ public final class QCommandContext implements QCommandContextType
   private final QLocalizationType localization;
   private final Map<QParameterNamedType<?>, List<Object>> parsedValues;
   private final QParametersPositionalType positionalParameters;
+  private final Map<QParameterPositional<?>, Integer> positionalIndices;
   private final List<Object> parsedPositionalValues;
   private final PrintWriter output;
   private final List<String> rawPositionalValues;
   private final QValueConverterDirectoryType valueConverters;
   private final SortedMap<String, QCommandOrGroupType> tree;
+  private final boolean lazy;
+  private final Optional<QCommandParsePlan> plan;
+  private final List<List<Object>> namedSlots;
 
   /**
    * A basic command context implementation.
@@ -81,6 +86,136 @@ public final class QCommandContext implements QCommandContextType
     final QParametersPositionalType inPositionalParameters,
     final List<Object> inParsedPositionalValues,
     final List<String> inRawPositionalValues)
+  {
+    this(
+      inTree,
+      inConverters,
+      inOutput,
+      inCommand,
+      inLocalization,
+      inParsedNamedValues,
+      inPositionalParameters,
+      inParsedPositionalValues,
+      inRawPositionalValues,
+      false
+    );
+  }
+
+  /**
+   * A basic command context implementation. If {@code inLazy} is
+   * {@code true}, the parsed values may contain values that have not yet
+   * been converted, and each such value is converted (and the result
+   * retained) when it is first accessed.
+   *
+   * @param inTree                   The command tree
+   * @param inConverters             The value converters
+   * @param inOutput                 The output
+   * @param inCommand                The command
+   * @param inLocalization           A localizer
+   * @param inParsedNamedValues      The parsed named values
+   * @param inPositionalParameters   The positional parameters
+   * @param inParsedPositionalValues The parsed positional values
+   * @param inRawPositionalValues    The raw positional values
+   * @param inLazy                   {@code true} if values are converted
+   *                                 lazily
+   */
+
+  public QCommandContext(
+    final SortedMap<String, QCommandOrGroupType> inTree,
+    final QValueConverterDirectoryType inConverters,
+    final PrintWriter inOutput,
+    final QCommandType inCommand,
+    final QLocalizationType inLocalization,
+    final Map<QParameterNamedType<?>, List<Object>> inParsedNamedValues,
+    final QParametersPositionalType inPositionalParameters,
+    final List<Object> inParsedPositionalValues,
+    final List<String> inRawPositionalValues,
+    final boolean inLazy)
+  {
+    this(
+      inTree,
+      inConverters,
+      inOutput,
+      inCommand,
+      inLocalization,
+      Optional.empty(),
+      inParsedNamedValues,
+      List.of(),
+      inPositionalParameters,
+      inParsedPositionalValues,
+      inRawPositionalValues,
+      inLazy
+    );
+  }
+
+  /**
+   * A command context for a command parsed according to the given plan. The
+   * values of each named parameter are also held in a slot, in the order of
+   * the named parameters of the plan, so that they can be read by slot
+   * (see {@link #namedSlotOf(QParameterNamedType)}) without a map lookup.
+   *
+   * @param inTree                   The command tree
+   * @param inConverters             The value converters
+   * @param inOutput                 The output
+   * @param inLocalization           A localizer
+   * @param inPlan                   The parse plan
+   * @param inParsedNamedValues      The parsed named values
+   * @param inNamedSlots             The parsed named values in plan order
+   * @param inParsedPositionalValues The parsed positional values
+   * @param inRawPositionalValues    The raw positional values
+   * @param inLazy                   {@code true} if values are converted
+   *                                 lazily
+   */
+
+  public QCommandContext(
+    final SortedMap<String, QCommandOrGroupType> inTree,
+    final QValueConverterDirectoryType inConverters,
+    final PrintWriter inOutput,
+    final QLocalizationType inLocalization,
+    final QCommandParsePlan inPlan,
+    final Map<QParameterNamedType<?>, List<Object>> inParsedNamedValues,
+    final List<List<Object>> inNamedSlots,
+    final List<Object> inParsedPositionalValues,
+    final List<String> inRawPositionalValues,
+    final boolean inLazy)
+  {
+    this(
+      inTree,
+      inConverters,
+      inOutput,
+      inPlan.command(),
+      inLocalization,
+      Optional.of(inPlan),
+      inParsedNamedValues,
+      inNamedSlots,
+      inPlan.positionalParameters(),
+      inParsedPositionalValues,
+      inRawPositionalValues,
+      inLazy
+    );
+
+    if (inNamedSlots.size() != inPlan.named().size()) {
+      throw new IllegalArgumentException(
+        "Expected %d named slots, but received %d".formatted(
+          Integer.valueOf(inPlan.named().size()),
+          Integer.valueOf(inNamedSlots.size()))
+      );
+    }
+  }
+
+  private QCommandContext(
+    final SortedMap<String, QCommandOrGroupType> inTree,
+    final QValueConverterDirectoryType inConverters,
+    final PrintWriter inOutput,
+    final QCommandType inCommand,
+    final QLocalizationType inLocalization,
+    final Optional<QCommandParsePlan> inPlan,
+    final Map<QParameterNamedType<?>, List<Object>> inParsedNamedValues,
+    final List<List<Object>> inNamedSlots,
+    final QParametersPositionalType inPositionalParameters,
+    final List<Object> inParsedPositionalValues,
+    final List<String> inRawPositionalValues,
+    final boolean inLazy)
   {
     this.tree =
       Objects.requireNonNull(inTree, "tree");
@@ -106,6 +241,81 @@ public final class QCommandContext implements QCommandContextType
         inRawPositionalValues,
         "rawPositionalValues"
       );
+    this.lazy =
+      inLazy;
+    this.plan =
+      Objects.requireNonNull(inPlan, "plan");
+    this.namedSlots =
+      Objects.requireNonNull(inNamedSlots, "namedSlots");
+    this.positionalIndices =
+      indexPositionals(inPositionalParameters);
+  }
+
+  /*
+   * Positional parameters are records, and so comparing them compares
+   * their names, descriptions, and types. Commands almost always look up
+   * parameters using the same instances that they declared, so the slots
+   * are indexed by identity, and equality is only used as a fallback.
+   */
+
+  private static Map<QParameterPositional<?>, Integer> indexPositionals(
+    final QParametersPositionalType positionalParameters)
+  {
+    if (positionalParameters
+      instanceof final QParametersPositionalTyped typed) {
+      final var parameters = typed.parameters();
+      final var indices =
+        new IdentityHashMap<QParameterPositional<?>, Integer>(
+          parameters.size());
+      for (int index = 0; index < parameters.size(); ++index) {
+        indices.putIfAbsent(parameters.get(index), Integer.valueOf(index));
+      }
+      return indices;
+    }
+    return Map.of();
+  }
+
+  /*
+   * Lazy values are replaced in place, so the lists holding them must be
+   * mutable. The lists are locked while values are converted, so values
+   * are converted at most once even if the context is shared between
+   * threads.
+   */
+
+  private Object resolve(
+    final List<Object> values,
+    final int index)
+  {
+    if (!this.lazy) {
+      return values.get(index);
+    }
+
+    synchronized (values) {
+      final var value = values.get(index);
+      if (value instanceof final QLazyValue lazyValue) {
+        final var converted = lazyValue.convert();
+        values.set(index, converted);
+        return converted;
+      }
+      return value;
+    }
+  }
+
+  private void resolveAll(
+    final List<Object> values)
+  {
+    if (!this.lazy) {
+      return;
+    }
+
+    synchronized (values) {
+      for (int index = 0; index < values.size(); ++index) {
+        final var value = values.get(index);
+        if (value instanceof final QLazyValue lazyValue) {
+          values.set(index, lazyValue.convert());
+        }
+      }
+    }
   }
 
   @Override
@@ -142,11 +352,44 @@ public final class QCommandContext implements QCommandContextType
   public <T> T parameterValue(
     final QParameterPositional<T> parameter)
   {
+    return (T) this.positionalSlot(this.positionalSlotOf(parameter));
+  }
+
+  /**
+   * @return The plan according to which the command was parsed, if the
+   * context was created by the parser
+   */
+
+  public Optional<QCommandParsePlan> plan()
+  {
+    return this.plan;
+  }
+
+  /**
+   * Find the slot holding the value of the given positional parameter.
+   *
+   * @param parameter The parameter
+   *
+   * @return The slot index
+   *
+   * @throws IllegalArgumentException If the parameter does not exist
+   * @see #positionalSlot(int)
+   */
+
+  public int positionalSlotOf(
+    final QParameterPositional<?> parameter)
+    throws IllegalArgumentException
+  {
+    final var slot = this.positionalIndices.get(parameter);
+    if (slot != null) {
+      return slot.intValue();
+    }
+
     if (this.positionalParameters instanceof final QParametersPositionalTyped typed) {
       final var parameters = typed.parameters();
       for (int index = 0; index < parameters.size(); ++index) {
         if (Objects.equals(parameters.get(index), parameter)) {
-          return (T) this.parsedPositionalValues.get(index);
+          return index;
         }
       }
     }
@@ -156,6 +399,81 @@ public final class QCommandContext implements QCommandContextType
     );
   }
 
+  /**
+   * @param slot The slot index
+   *
+   * @return The value of the positional parameter in the given slot
+   *
+   * @see #positionalSlotOf(QParameterPositional)
+   */
+
+  public Object positionalSlot(
+    final int slot)
+  {
+    return this.resolve(this.parsedPositionalValues, slot);
+  }
+
+  /**
+   * Find the slot holding the values of the given named parameter. Only
+   * contexts created by the parser have slots for named parameters.
+   *
+   * @param parameter The parameter
+   *
+   * @return The slot index
+   *
+   * @throws IllegalArgumentException If the parameter does not exist
+   * @see #namedSlot(int)
+   */
+
+  public int namedSlotOf(
+    final QParameterNamedType<?> parameter)
+    throws IllegalArgumentException
+  {
+    if (this.plan.isPresent()) {
+      final var named = this.plan.get().named();
+      for (int index = 0; index < named.size(); ++index) {
+        if (named.get(index).parameter() == parameter) {
+          return index;
+        }
+      }
+      for (int index = 0; index < named.size(); ++index) {
+        if (Objects.equals(named.get(index).parameter(), parameter)) {
+          return index;
+        }
+      }
+    }
+
+    throw new IllegalArgumentException(
+      "No such parameter '%s'".formatted(parameter.name())
+    );
+  }
+
+  /**
+   * @param slot The slot index
+   *
+   * @return The values of the named parameter in the given slot
+   *
+   * @see #namedSlotOf(QParameterNamedType)
+   */
+
+  public List<Object> namedSlot(
+    final int slot)
+  {
+    final var values = this.namedSlots.get(slot);
+    this.resolveAll(values);
+    return values;
+  }
+
+  @Override
+  public Object[] parameterValuesPositional()
+  {
+    if (this.positionalParameters instanceof QParametersPositionalTyped) {
+      this.resolveAll(this.parsedPositionalValues);
+      return this.parsedPositionalValues.toArray();
+    }
+    return new Object[0];
+  }
+
   @Override
   public <T> T parameterValue(
     final QParameterNamed1<T> parameter)
@@ -167,12 +485,22 @@ public final class QCommandContext implements QCommandContextType
   private <T> List<T> valueList(
     final QParameterNamedType<T> parameter)
   {
-    return (List<T>) Optional.ofNullable(this.parsedValues.get(parameter))
-      .orElseThrow(() -> {
-        return new IllegalArgumentException(
-          "No such parameter '%s'".formatted(parameter.name())
-        );
-      });
+    return (List<T>) this.values(parameter);
+  }
+
+  private List<Object> values(
+    final QParameterNamedType<?> parameter)
+  {
+    final var values =
+      Optional.ofNullable(this.parsedValues.get(parameter))
+        .orElseThrow(() -> {
+          return new IllegalArgumentException(
+            "No such parameter '%s'".formatted(parameter.name())
+          );
+        });
+
+    this.resolveAll(values);
+    return values;
   }
 
   @Override
@@ -200,6 +528,36 @@ public final class QCommandContext implements QCommandContextType
     return this.valueList(parameter);
   }
 
+  @Override
+  public int[] parameterValuesInt(
+    final QParameterNamedType<Integer> parameter)
+  {
+    if (this.values(parameter) instanceof final QIntList values) {
+      return values.toIntArray();
+    }
+    return QCommandContextType.super.parameterValuesInt(parameter);
+  }
+
+  @Override
+  public long[] parameterValuesLong(
+    final QParameterNamedType<Long> parameter)
+  {
+    if (this.values(parameter) instanceof final QLongList values) {
+      return values.toLongArray();
+    }
+    return QCommandContextType.super.parameterValuesLong(parameter);
+  }
+
+  @Override
+  public double[] parameterValuesDouble(
+    final QParameterNamedType<Double> parameter)
+  {
+    if (this.values(parameter) instanceof final QDoubleList values) {
+      return values.toDoubleArray();
+    }
+    return QCommandContextType.super.parameterValuesDouble(parameter);
+  }
+
   @Override
   public QCommandStatus execute()
     throws Exception
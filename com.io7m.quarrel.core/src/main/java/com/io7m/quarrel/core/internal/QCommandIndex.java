@@ -0,0 +1,254 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QCommandGroupType;
+import com.io7m.quarrel.core.QCommandOrGroupType;
+import com.io7m.quarrel.core.QCommandType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable, flattened index of a command tree. Every command and group
+ * in the tree is assigned an integer node; the children of each group are
+ * stored as a sorted range of a single name array so that resolving a path
+ * is one binary search per level and allocates nothing.
+ */
+
+public final class QCommandIndex
+{
+  /**
+   * The node representing the root of the tree.
+   */
+
+  public static final int ROOT = 0;
+
+  /**
+   * The node returned when a name in the path does not exist.
+   */
+
+  public static final int MISSING = -1;
+
+  private final QCommandOrGroupType[] nodes;
+  private final int[] childStart;
+  private final int[] childEnd;
+  private final String[] childNames;
+  private final int[] childNodes;
+
+  private QCommandIndex(
+    final QCommandOrGroupType[] inNodes,
+    final int[] inChildStart,
+    final int[] inChildEnd,
+    final String[] inChildNames,
+    final int[] inChildNodes)
+  {
+    this.nodes = inNodes;
+    this.childStart = inChildStart;
+    this.childEnd = inChildEnd;
+    this.childNames = inChildNames;
+    this.childNodes = inChildNodes;
+  }
+
+  /**
+   * Build an index for the given command tree.
+   *
+   * @param tree The command tree
+   *
+   * @return An index
+   */
+
+  public static QCommandIndex create(
+    final Map<String, QCommandOrGroupType> tree)
+  {
+    Objects.requireNonNull(tree, "tree");
+
+    final var nodes = new ArrayList<QCommandOrGroupType>();
+    final var names = new ArrayList<String>();
+    final var children = new ArrayList<Integer>();
+    final var starts = new ArrayList<Integer>();
+    final var ends = new ArrayList<Integer>();
+    final var pending = new ArrayDeque<Map<String, QCommandOrGroupType>>();
+    final var pendingNodes = new ArrayDeque<Integer>();
+
+    nodes.add(null);
+    starts.add(0);
+    ends.add(0);
+    pending.add(tree);
+    pendingNodes.add(ROOT);
+
+    /*
+     * Groups are expanded breadth-first. The children of a group are
+     * appended as one contiguous, sorted run of names so that the run can
+     * be binary searched.
+     */
+
+    while (!pending.isEmpty()) {
+      final var current = pending.poll();
+      final int node = pendingNodes.poll();
+
+      final var entries = new ArrayList<>(current.entrySet());
+      entries.sort(Map.Entry.comparingByKey());
+
+      starts.set(node, names.size());
+      for (final var entry : entries) {
+        final var child = nodes.size();
+        final var item = entry.getValue();
+        nodes.add(item);
+        starts.add(0);
+        ends.add(0);
+        names.add(entry.getKey());
+        children.add(child);
+
+        if (item instanceof final QCommandGroupType group) {
+          pending.add(group.commandTree());
+          pendingNodes.add(child);
+        }
+      }
+      ends.set(node, names.size());
+    }
+
+    return new QCommandIndex(
+      nodes.toArray(new QCommandOrGroupType[0]),
+      toIntArray(starts),
+      toIntArray(ends),
+      names.toArray(new String[0]),
+      toIntArray(children)
+    );
+  }
+
+  private static int[] toIntArray(
+    final List<Integer> values)
+  {
+    final var result = new int[values.size()];
+    for (int index = 0; index < result.length; ++index) {
+      result[index] = values.get(index);
+    }
+    return result;
+  }
+
+  /**
+   * Resolve a command or group from a list of arguments. The result packs
+   * a node and an offset into the argument list; use {@link #node(long)}
+   * and {@link #offset(long)} to extract them. Arguments that are expanded
+   * lazily are only expanded as far as the command name.
+   *
+   * <ul>
+   *   <li>If the arguments are empty, the node is {@link #ROOT}.</li>
+   *   <li>If a command is reached, the node is the command and the offset
+   *   is the index of the first argument after the command name.</li>
+   *   <li>If the arguments are exhausted at a group, the node is the group
+   *   and the offset is the size of the argument list.</li>
+   *   <li>If a name does not exist, the node is {@link #MISSING} and the
+   *   offset is the index of the name that does not exist.</li>
+   * </ul>
+   *
+   * @param arguments The arguments
+   *
+   * @return The packed resolution result
+   */
+
+  public long resolve(
+    final List<String> arguments)
+  {
+    var node = ROOT;
+
+    int index = 0;
+    while (QExpandedArguments.has(arguments, index)) {
+      final var found =
+        Arrays.binarySearch(
+          this.childNames,
+          this.childStart[node],
+          this.childEnd[node],
+          arguments.get(index)
+        );
+
+      if (found < 0) {
+        return pack(MISSING, index);
+      }
+
+      node = this.childNodes[found];
+      ++index;
+      if (this.nodes[node] instanceof QCommandType) {
+        return pack(node, index);
+      }
+    }
+    return pack(node, index);
+  }
+
+  private static long pack(
+    final int node,
+    final int offset)
+  {
+    return ((long) node << 32) | (offset & 0xffff_ffffL);
+  }
+
+  /**
+   * @param resolution A result returned by {@link #resolve(List)}
+   *
+   * @return The node of the resolution result
+   */
+
+  public static int node(
+    final long resolution)
+  {
+    return (int) (resolution >> 32);
+  }
+
+  /**
+   * @param resolution A result returned by {@link #resolve(List)}
+   *
+   * @return The argument offset of the resolution result
+   */
+
+  public static int offset(
+    final long resolution)
+  {
+    return (int) resolution;
+  }
+
+  /**
+   * @return The number of nodes in the index, including the root
+   */
+
+  public int size()
+  {
+    return this.nodes.length;
+  }
+
+  /**
+   * @param node The node
+   *
+   * @return The command or group at the given node
+   *
+   * @throws IllegalArgumentException If the node is the root
+   */
+
+  public QCommandOrGroupType item(
+    final int node)
+  {
+    if (node == ROOT) {
+      throw new IllegalArgumentException("The root node has no item.");
+    }
+    return this.nodes[node];
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamed01;
+import com.io7m.quarrel.core.QParameterNamed0N;
+import com.io7m.quarrel.core.QParameterNamed1;
+import com.io7m.quarrel.core.QParameterNamed1N;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QParameterPositional;
+import com.io7m.quarrel.core.QParametersPositionalType;
+import com.io7m.quarrel.core.QValueConverterType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable parse plan for a command. A plan is the result of validating
+ * the parameters of a command against a set of value converters, and
+ * contains everything the parser needs to parse arguments for the command
+ * without repeating the validation.
+ *
+ * @param command              The command
+ * @param byName               The named parameters by name, including
+ *                             alternative names
+ * @param named                The named parameters in declaration order
+ * @param positionalParameters The positional parameters as declared by the
+ *                             command
+ * @param positionals          The validated positional parameters
+ */
+
+public record QCommandParsePlan(
+  QCommandType command,
+  Map<String, Named<?>> byName,
+  List<Named<?>> named,
+  QParametersPositionalType positionalParameters,
+  PositionalsType positionals)
+{
+  /**
+   * An immutable parse plan for a command.
+   *
+   * @param command              The command
+   * @param byName               The named parameters by name, including
+   *                             alternative names
+   * @param named                The named parameters in declaration order
+   * @param positionalParameters The positional parameters as declared by the
+   *                             command
+   * @param positionals          The validated positional parameters
+   */
+
+  public QCommandParsePlan
+  {
+    Objects.requireNonNull(command, "command");
+    Objects.requireNonNull(byName, "byName");
+    Objects.requireNonNull(named, "named");
+    Objects.requireNonNull(positionalParameters, "positionalParameters");
+    Objects.requireNonNull(positionals, "positionals");
+
+    byName = Map.copyOf(byName);
+    named = List.copyOf(named);
+  }
+
+  /**
+   * A named parameter bound to a value converter.
+   *
+   * @param parameter          The parameter
+   * @param command            The command
+   * @param valueConverter     The value converter
+   * @param cardinalityMinimum The minimum cardinality
+   * @param cardinalityMaximum The maximum cardinality
+   * @param defaultValues      The values used if none are provided
+   * @param <T>                The type of values
+   */
+
+  public record Named<T>(
+    QParameterNamedType<T> parameter,
+    QCommandType command,
+    QValueConverterType<T> valueConverter,
+    int cardinalityMinimum,
+    int cardinalityMaximum,
+    List<Object> defaultValues)
+  {
+    /**
+     * A named parameter bound to a value converter.
+     *
+     * @param parameter          The parameter
+     * @param command            The command
+     * @param valueConverter     The value converter
+     * @param cardinalityMinimum The minimum cardinality
+     * @param cardinalityMaximum The maximum cardinality
+     * @param defaultValues      The values used if none are provided
+     */
+
+    public Named
+    {
+      Objects.requireNonNull(parameter, "parameter");
+      Objects.requireNonNull(command, "command");
+      Objects.requireNonNull(valueConverter, "valueConverter");
+      Objects.requireNonNull(defaultValues, "defaultValues");
+    }
+
+    /**
+     * Bind a named parameter to a value converter.
+     *
+     * @param parameter      The parameter
+     * @param command        The command
+     * @param valueConverter The value converter
+     * @param <T>            The type of values
+     *
+     * @return A bound parameter
+     */
+
+    public static <T> Named<T> of(
+      final QParameterNamedType<T> parameter,
+      final QCommandType command,
+      final QValueConverterType<T> valueConverter)
+    {
+      return new Named<>(
+        parameter,
+        command,
+        valueConverter,
+        parameter.cardinalityMinimum(),
+        parameter.cardinalityMaximum(),
+        defaultValuesOf(parameter)
+      );
+    }
+
+    private static List<Object> defaultValuesOf(
+      final QParameterNamedType<?> parameter)
+    {
+      if (parameter instanceof final QParameterNamed0N<?> p) {
+        return List.copyOf(p.defaultValue());
+      }
+      if (parameter instanceof final QParameterNamed1N<?> p) {
+        return p.defaultValue().<List<Object>>map(List::of).orElse(List.of());
+      }
+      if (parameter instanceof final QParameterNamed1<?> p) {
+        return p.defaultValue().<List<Object>>map(List::of).orElse(List.of());
+      }
+      if (parameter instanceof final QParameterNamed01<?> p) {
+        return p.defaultValue().<List<Object>>map(List::of).orElse(List.of());
+      }
+      throw new IllegalStateException("Unreachable code.");
+    }
+  }
+
+  /**
+   * A positional parameter bound to a value converter.
+   *
+   * @param parameter      The parameter
+   * @param command        The command
+   * @param valueConverter The value converter
+   * @param <T>            The type of values
+   */
+
+  public record Positional<T>(
+    QParameterPositional<T> parameter,
+    QCommandType command,
+    QValueConverterType<T> valueConverter)
+  {
+    /**
+     * A positional parameter bound to a value converter.
+     *
+     * @param parameter      The parameter
+     * @param command        The command
+     * @param valueConverter The value converter
+     */
+
+    public Positional
+    {
+      Objects.requireNonNull(parameter, "parameter");
+      Objects.requireNonNull(command, "command");
+      Objects.requireNonNull(valueConverter, "valueConverter");
+    }
+  }
+
+  /**
+   * The type of validated positional parameters.
+   */
+
+  public sealed interface PositionalsType
+  {
+
+  }
+
+  /**
+   * No positional parameters are accepted.
+   */
+
+  public enum PositionalsNone
+    implements PositionalsType
+  {
+    /** No positionals. */
+    NONE
+  }
+
+  /**
+   * Any positional parameters are accepted.
+   */
+
+  public enum PositionalsAny
+    implements PositionalsType
+  {
+    /** Any positionals. */
+    ANY,
+
+    /** Any positionals, consumed as a stream. */
+    STREAMING
+  }
+
+  /**
+   * A list of typed positional parameters.
+   *
+   * @param values The parameters
+   */
+
+  public record PositionalsTyped(
+    List<Positional<?>> values)
+    implements PositionalsType
+  {
+    /**
+     * A list of typed positional parameters.
+     *
+     * @param values The parameters
+     */
+
+    public PositionalsTyped
+    {
+      values = List.copyOf(values);
+    }
+  }
+}
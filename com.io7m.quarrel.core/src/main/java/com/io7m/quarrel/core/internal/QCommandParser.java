@@ -21,32 +21,51 @@ import com.io7m.quarrel.core.QCommandOrGroupType;
 import com.io7m.quarrel.core.QCommandParserConfiguration;
 import com.io7m.quarrel.core.QCommandParserType;
 import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
+import com.io7m.quarrel.core.QConversionStrategyType;
+import com.io7m.quarrel.core.QConversionStrategyType.QConversionLazy;
+import com.io7m.quarrel.core.QConversionStrategyType.QConversionParallel;
+import com.io7m.quarrel.core.QConversionStrategyType.QConversionSequential;
 import com.io7m.quarrel.core.QException;
-import com.io7m.quarrel.core.QLocalization;
 import com.io7m.quarrel.core.QLocalizationType;
 import com.io7m.quarrel.core.QParameterNamed01;
 import com.io7m.quarrel.core.QParameterNamed0N;
 import com.io7m.quarrel.core.QParameterNamed1;
-import com.io7m.quarrel.core.QParameterNamed1N;
 import com.io7m.quarrel.core.QParameterNamedType;
 import com.io7m.quarrel.core.QParameterPositional;
 import com.io7m.quarrel.core.QParametersPositionalAny;
 import com.io7m.quarrel.core.QParametersPositionalNone;
 import com.io7m.quarrel.core.QParametersPositionalType;
 import com.io7m.quarrel.core.QParametersPositionalTyped;
+import com.io7m.quarrel.core.QParseResultType;
+import com.io7m.quarrel.core.QParseResultType.QParseFailure;
+import com.io7m.quarrel.core.QParseResultType.QParseSuccess;
 import com.io7m.quarrel.core.QStringType.QLocalize;
+import com.io7m.quarrel.core.QValueConverterDoubleType;
+import com.io7m.quarrel.core.QValueConverterIntType;
+import com.io7m.quarrel.core.QValueConverterLongType;
 import com.io7m.quarrel.core.QValueConverterType;
+import com.io7m.quarrel.core.internal.QCommandParsePlan.Named;
+import com.io7m.quarrel.core.internal.QCommandParsePlan.Positional;
+import com.io7m.quarrel.core.internal.QCommandParsePlan.PositionalsAny;
+import com.io7m.quarrel.core.internal.QCommandParsePlan.PositionalsNone;
+import com.io7m.quarrel.core.internal.QCommandParsePlan.PositionalsType;
+import com.io7m.quarrel.core.internal.QCommandParsePlan.PositionalsTyped;
 import com.io7m.seltzer.api.SStructuredError;
 import com.io7m.seltzer.api.SStructuredErrorType;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.SortedMap;
 
 import static java.lang.Integer.toUnsignedString;
@@ -58,35 +77,30 @@ import static java.lang.Integer.toUnsignedString;
 public final class QCommandParser implements QCommandParserType
 {
   private final QCommandParserConfiguration configuration;
-  private final QStrings strings;
   private final QLocalizationType localization;
 
   /**
    * The command parser.
    *
    * @param inConfiguration The configuration
-   * @param inStrings       The strings
+   * @param inLocalization  The localizer used for error messages
    */
 
   public QCommandParser(
     final QCommandParserConfiguration inConfiguration,
-    final QStrings inStrings)
+    final QLocalizationType inLocalization)
   {
     this.configuration =
       Objects.requireNonNull(inConfiguration, "configuration");
-    this.strings =
-      Objects.requireNonNull(inStrings, "strings");
     this.localization =
-      QLocalization.create(
-        this.strings.resources(),
-        this.configuration.applicationResources()
-      );
+      Objects.requireNonNull(inLocalization, "localization");
   }
 
   private static List<Object> parseParametersPositionalAny(
-    final Collection<String> mutableArguments)
+    final List<String> arguments)
   {
-    return List.copyOf(mutableArguments);
+    return Collections.unmodifiableList(
+      QArgumentBuffer.immutableCopyOf(arguments));
   }
 
   private static void throwExceptionIfNecessary(
@@ -105,33 +119,76 @@ public final class QCommandParser implements QCommandParserType
     }
   }
 
-  private static QException exceptionError(
-    final SStructuredErrorType<String> error)
+  /*
+   * Converters are not expected to raise exceptions from
+   * tryConvertFromString() or checkSyntax(), but a badly behaved converter
+   * must not be able to escape the error reporting of the parser.
+   */
+
+  static QConversionResultType<?> convert(
+    final QValueConverterType<?> converter,
+    final String text)
   {
-    return new QException(
-      error.message(),
-      error.errorCode(),
-      error.attributes(),
-      error.remediatingAction(),
-      List.of()
-    );
+    try {
+      return converter.tryConvertFromString(text);
+    } catch (final Exception e) {
+      return QConversionFailure.ofException(e);
+    }
+  }
+
+  /**
+   * Create a list to hold the values of the given parameter. The values of
+   * multi-valued parameters with primitive converters are stored without
+   * boxing, but only when values are converted during the scan; the other
+   * strategies store placeholders in the list.
+   */
+
+  private static List<Object> newValueList(
+    final Named<?> parameter,
+    final boolean sequential)
+  {
+    if (sequential && parameter.parameter().cardinalityMaximum() > 1) {
+      final var converter = parameter.valueConverter();
+      if (converter instanceof final QValueConverterIntType c) {
+        return new QIntList(c);
+      }
+      if (converter instanceof final QValueConverterLongType c) {
+        return new QLongList(c);
+      }
+      if (converter instanceof final QValueConverterDoubleType c) {
+        return new QDoubleList(c);
+      }
+    }
+    return new ArrayList<>();
+  }
+
+  private static Optional<? extends QConversionResultType<?>> check(
+    final QValueConverterType<?> converter,
+    final String text)
+  {
+    try {
+      return converter.checkSyntax(text);
+    } catch (final Exception e) {
+      return Optional.of(QConversionFailure.ofException(e));
+    }
   }
 
   private List<Object> parseParametersPositional(
     final QCommandType command,
-    final ValidatedPositionalsType positionals,
-    final List<String> arguments)
-    throws QException
+    final PositionalsType positionals,
+    final List<String> arguments,
+    final Collection<SStructuredErrorType<String>> errors)
   {
-    if (positionals instanceof final ValidatedPositionalsTyped typed) {
-      return this.parseParametersPositionalTyped(command, arguments, typed);
+    if (positionals instanceof final PositionalsTyped typed) {
+      return this.parseParametersPositionalTyped(
+        command, arguments, typed, errors);
     }
 
-    if (positionals instanceof ValidatedPositionalsNone) {
-      return this.parseParametersPositionalNone(command, arguments);
+    if (positionals instanceof PositionalsNone) {
+      return this.parseParametersPositionalNone(command, arguments, errors);
     }
 
-    if (positionals instanceof ValidatedPositionalsAny) {
+    if (positionals instanceof PositionalsAny) {
       return parseParametersPositionalAny(arguments);
     }
 
@@ -140,11 +197,11 @@ public final class QCommandParser implements QCommandParserType
 
   private List<Object> parseParametersPositionalNone(
     final QCommandType command,
-    final Collection<String> arguments)
-    throws QException
+    final Collection<String> arguments,
+    final Collection<SStructuredErrorType<String>> errors)
   {
     if (!arguments.isEmpty()) {
-      throw exceptionError(
+      errors.add(
         this.errorPositionalArgumentsWrongCount(
           command, 0, arguments.size())
       );
@@ -154,57 +211,216 @@ public final class QCommandParser implements QCommandParserType
 
   private List<Object> parseParametersPositionalTyped(
     final QCommandType command,
-    final List<String> mutableArguments,
-    final ValidatedPositionalsTyped positionalsTyped)
-    throws QException
+    final List<String> arguments,
+    final PositionalsTyped positionalsTyped,
+    final Collection<SStructuredErrorType<String>> errors)
   {
     final var validated = positionalsTyped.values();
-    if (validated.size() != mutableArguments.size()) {
-      throw exceptionError(
+    if (validated.size() != arguments.size()) {
+      errors.add(
         this.errorPositionalArgumentsWrongCount(
           command,
           validated.size(),
-          mutableArguments.size()
+          arguments.size()
         )
       );
+      return List.of();
+    }
+
+    final var strategy = this.configuration.conversionStrategy();
+    if (strategy instanceof final QConversionParallel parallel
+        && validated.size() >= parallel.threshold()) {
+      return this.parseParametersPositionalTypedParallel(
+        parallel, arguments, validated, errors);
+    }
+    if (strategy instanceof QConversionLazy) {
+      return this.parseParametersPositionalTypedLazy(
+        arguments, validated, errors);
     }
 
     final var positionalsResults = new ArrayList<>(validated.size());
     for (int index = 0; index < validated.size(); ++index) {
       final var argument =
-        mutableArguments.get(index);
+        arguments.get(index);
       final var parameter =
         validated.get(index);
 
-      try {
-        final var parsedValue =
-          parameter.valueConverter.convertFromString(argument);
+      final var result =
+        convert(parameter.valueConverter(), argument);
 
-        positionalsResults.add(parsedValue);
-      } catch (final Exception e) {
-        throw exceptionError(
-          this.errorValueUnparseablePositional(parameter, argument, e)
+      if (result instanceof final QConversionSuccess<?> success) {
+        positionalsResults.add(success.value());
+      } else if (result instanceof final QConversionFailure<?> failure) {
+        errors.add(
+          this.errorValueUnparseablePositional(
+            parameter, argument, failure)
         );
+        return List.of();
       }
     }
 
     return positionalsResults;
   }
 
-  private void parseParametersNamed(
+  private List<Object> parseParametersPositionalTypedLazy(
+    final List<String> arguments,
+    final List<Positional<?>> validated,
+    final Collection<SStructuredErrorType<String>> errors)
+  {
+    final var positionalsResults = new ArrayList<>(validated.size());
+    for (int index = 0; index < validated.size(); ++index) {
+      final var argument =
+        arguments.get(index);
+      final var parameter =
+        validated.get(index);
+      final var checked =
+        check(parameter.valueConverter(), argument);
+
+      if (checked.isEmpty()) {
+        positionalsResults.add(
+          new QLazyValue(
+            parameter.valueConverter(),
+            argument,
+            failure -> {
+              return this.errorValueUnparseablePositional(
+                parameter, argument, failure);
+            }
+          )
+        );
+        continue;
+      }
+
+      final var result = checked.get();
+      if (result instanceof final QConversionSuccess<?> success) {
+        positionalsResults.add(success.value());
+      } else if (result instanceof final QConversionFailure<?> failure) {
+        errors.add(
+          this.errorValueUnparseablePositional(
+            parameter, argument, failure)
+        );
+        return List.of();
+      }
+    }
+    return positionalsResults;
+  }
+
+  private List<Object> parseParametersPositionalTypedParallel(
+    final QConversionParallel parallel,
+    final List<String> arguments,
+    final List<Positional<?>> validated,
+    final Collection<SStructuredErrorType<String>> errors)
+  {
+    final var results =
+      QParallelConversion.convertAll(
+        parallel,
+        validated.size(),
+        index -> validated.get(index).valueConverter(),
+        arguments::get
+      );
+
+    final var positionalsResults = new ArrayList<>(validated.size());
+    for (int index = 0; index < results.length; ++index) {
+      final var result = results[index];
+      if (result instanceof final QConversionSuccess<?> success) {
+        positionalsResults.add(success.value());
+      } else if (result instanceof final QConversionFailure<?> failure) {
+        errors.add(
+          this.errorValueUnparseablePositional(
+            validated.get(index), arguments.get(index), failure)
+        );
+        return List.of();
+      }
+    }
+    return positionalsResults;
+  }
+
+  /**
+   * Parse the named parameters at the start of the argument list, returning
+   * the index of the first positional argument (or the size of the list if
+   * there are no positional arguments). Parsing stops at the first error,
+   * which is added to the given list.
+   */
+
+  private int parseParametersNamed(
     final QCommandType command,
-    final Map<String, ValidatedNamed<?>> byName,
-    final HashMap<QParameterNamedType<?>, List<Object>> parsedValues,
-    final ValidatedPositionalsType positionals,
-    final Collection<String> arguments)
-    throws QException
+    final QCommandParsePlan plan,
+    final Map<QParameterNamedType<?>, List<Object>> parsedValues,
+    final PositionalsType positionals,
+    final List<String> arguments,
+    final Collection<SStructuredErrorType<String>> errors)
+  {
+    final var strategy = this.configuration.conversionStrategy();
+    final int index;
+    if (!(strategy instanceof QConversionSequential)) {
+
+      /*
+       * Values are collected during the scan and converted (or checked)
+       * afterwards. A value that cannot be converted precedes any error the
+       * scan found, and so takes priority over it.
+       */
+
+      final var pending =
+        new ArrayList<PendingNamed>();
+      final var scanErrors =
+        new ArrayList<SStructuredErrorType<String>>(0);
+
+      index = this.scanParametersNamed(
+        command,
+        plan,
+        parsedValues,
+        positionals,
+        arguments,
+        scanErrors,
+        pending
+      );
+
+      this.convertPendingNamed(strategy, pending, errors);
+      if (errors.isEmpty()) {
+        errors.addAll(scanErrors);
+      }
+    } else {
+      index = this.scanParametersNamed(
+        command,
+        plan,
+        parsedValues,
+        positionals,
+        arguments,
+        errors,
+        null
+      );
+    }
+
+    if (errors.isEmpty()) {
+      this.checkParametersObeyCardinality(plan, parsedValues, errors);
+    }
+    return index;
+  }
+
+  /**
+   * Scan the named parameters at the start of the argument list. The scan
+   * never modifies the list, and returns the index of the first positional
+   * argument (or the size of the list if there are no positional arguments).
+   * Scanning stops at the first error, which is added to the given list.
+   * If {@code pending} is non-null, values are not converted; the raw
+   * value is added to the parameter's values as a placeholder, and is
+   * recorded in {@code pending} to be converted later.
+   */
+
+  private int scanParametersNamed(
+    final QCommandType command,
+    final QCommandParsePlan plan,
+    final Map<QParameterNamedType<?>, List<Object>> parsedValues,
+    final PositionalsType positionals,
+    final List<String> arguments,
+    final Collection<SStructuredErrorType<String>> errors,
+    final List<PendingNamed> pending)
   {
-    final var iterator =
-      arguments.iterator();
+    final var byName = plan.byName();
 
-    while (iterator.hasNext()) {
+    int index = 0;
+    while (QExpandedArguments.has(arguments, index)) {
       final var argument =
-        iterator.next();
+        arguments.get(index);
 
       /*
        * If there is no parameter definition, then assume we've started
@@ -213,58 +429,141 @@ public final class QCommandParser implements QCommandParserType
 
       final var parameter = byName.get(argument);
       if (parameter == null) {
-        if (positionals instanceof ValidatedPositionalsNone) {
-          throw this.exceptionErrorUnrecognizedNamedParameter(
-            command,
-            argument
-          );
+        if (positionals instanceof PositionalsNone) {
+          errors.add(this.errorUnrecognizedNamedParameter(command, argument));
+          return index;
         }
         break;
       }
 
-      iterator.remove();
-
       /*
        * Adding the parameter value might violate the cardinality of the
        * parameter.
        */
 
-      this.checkParameterAddObeysCardinality(parameter, parsedValues);
+      final var values = parsedValues.get(parameter.parameter());
+      if (!this.checkParameterAddObeysCardinality(parameter, values, errors)) {
+        return index;
+      }
 
-      if (!iterator.hasNext()) {
-        throw this.exceptionErrorValueMissingForParameter(parameter);
+      if (!QExpandedArguments.has(arguments, index + 1)) {
+        errors.add(this.errorValueMissingForParameter(parameter));
+        return index;
       }
 
-      final var argumentValue = iterator.next();
-      iterator.remove();
+      final var argumentValue = arguments.get(index + 1);
+      index += 2;
 
-      try {
-        final var parsedValue =
-          parameter.valueConverter.convertFromString(argumentValue);
+      if (pending != null) {
+        pending.add(
+          new PendingNamed(parameter, values, values.size(), argumentValue)
+        );
+        values.add(argumentValue);
+        continue;
+      }
 
-        final ArrayList<Object> valuesList =
-          (ArrayList<Object>) parsedValues.getOrDefault(
-            parameter.parameter,
-            new ArrayList<>()
-          );
+      /*
+       * Values stored without boxing are converted directly into the list.
+       * If the converter rejects the value, it is converted again below to
+       * obtain the details of the failure.
+       */
 
-        valuesList.add(parsedValue);
-        parsedValues.put(parameter.parameter, valuesList);
-      } catch (final Exception e) {
-        throw this.exceptionErrorValueUnparseable(parameter, argumentValue, e);
+      if (values instanceof final QPrimitiveListType primitives
+          && primitives.tryAppend(argumentValue)) {
+        continue;
+      }
+
+      final var result =
+        convert(parameter.valueConverter(), argumentValue);
+
+      if (result instanceof final QConversionSuccess<?> success) {
+        values.add(success.value());
+      } else if (result instanceof final QConversionFailure<?> failure) {
+        errors.add(
+          this.errorValueUnparseableNamed(
+            parameter, argumentValue, failure)
+        );
+        return index;
       }
     }
 
-    this.checkParametersObeyCardinality(byName, parsedValues);
+    return index;
   }
 
-  private QException exceptionErrorUnrecognizedNamedParameter(
-    final QCommandType command,
-    final String argument)
+  private void convertPendingNamed(
+    final QConversionStrategyType strategy,
+    final List<PendingNamed> pending,
+    final Collection<SStructuredErrorType<String>> errors)
   {
-    return exceptionError(
-      this.errorUnrecognizedNamedParameter(command, argument)
-    );
+    final var count = pending.size();
+    if (strategy instanceof final QConversionParallel parallel
+        && count >= parallel.threshold()) {
+      final var results =
+        QParallelConversion.convertAll(
+          parallel,
+          count,
+          index -> pending.get(index).parameter().valueConverter(),
+          index -> pending.get(index).text()
+        );
+
+      for (int index = 0; index < count; ++index) {
+        if (!this.completePendingNamed(
+          pending.get(index), results[index], errors)) {
+          return;
+        }
+      }
+      return;
+    }
+
+    final var lazy = strategy instanceof QConversionLazy;
+    for (final var item : pending) {
+      final var parameter = item.parameter();
+      final var text = item.text();
+
+      final QConversionResultType<?> result;
+      if (lazy) {
+        final var checked = check(parameter.valueConverter(), text);
+        if (checked.isEmpty()) {
+          item.values().set(
+            item.position(),
+            new QLazyValue(
+              parameter.valueConverter(),
+              text,
+              failure -> {
+                return this.errorValueUnparseableNamed(
+                  parameter, text, failure);
+              }
+            )
+          );
+          continue;
+        }
+        result = checked.get();
+      } else {
+        result = convert(parameter.valueConverter(), text);
+      }
+
+      if (!this.completePendingNamed(item, result, errors)) {
+        return;
+      }
+    }
+  }
+
+  private boolean completePendingNamed(
+    final PendingNamed item,
+    final QConversionResultType<?> result,
+    final Collection<SStructuredErrorType<String>> errors)
+  {
+    if (result instanceof final QConversionSuccess<?> success) {
+      item.values().set(item.position(), success.value());
+      return true;
+    }
+    if (result instanceof final QConversionFailure<?> failure) {
+      errors.add(
+        this.errorValueUnparseableNamed(
+          item.parameter(), item.text(), failure)
+      );
+    }
+    return false;
   }
 
   private SStructuredErrorType<String> errorUnrecognizedNamedParameter(
@@ -298,111 +597,65 @@ public final class QCommandParser implements QCommandParserType
   }
 
   private void checkParametersObeyCardinality(
-    final Map<String, ValidatedNamed<?>> byName,
-    final Map<QParameterNamedType<?>, List<Object>> parsedValues)
-    throws QException
+    final QCommandParsePlan plan,
+    final Map<QParameterNamedType<?>, List<Object>> parsedValues,
+    final Collection<SStructuredErrorType<String>> errors)
   {
-    final var errors =
-      new ArrayList<SStructuredErrorType<String>>();
-
-    for (final var parameter : byName.values()) {
-      final var p =
-        parameter.parameter;
+    for (final var parameter : plan.named()) {
       final var values =
-        parsedValues.getOrDefault(p, List.of());
-
-      if (p instanceof final QParameterNamed0N<?> p0n) {
-        if (values.isEmpty()) {
-          values.addAll(p0n.defaultValue());
-        }
-        continue;
-      }
-
-      if (p instanceof final QParameterNamed1N<?> p1n) {
-        if (values.isEmpty()) {
-          p1n.defaultValue().ifPresent(values::add);
-        }
-
-        if (values.size() < 1) {
-          errors.add(this.errorCardinalityViolation(parameter, values));
-        }
-        continue;
-      }
+        parsedValues.get(parameter.parameter());
 
-      if (p instanceof final QParameterNamed1<?> p1) {
-        if (values.isEmpty()) {
-          p1.defaultValue().ifPresent(values::add);
-        }
-        if (values.size() != 1) {
-          errors.add(this.errorCardinalityViolation(parameter, values));
-        }
-        continue;
+      if (values.isEmpty()) {
+        values.addAll(parameter.defaultValues());
       }
 
-      if (p instanceof final QParameterNamed01<?> p01) {
-        if (values.isEmpty()) {
-          p01.defaultValue().ifPresent(values::add);
-        }
-
-        if (values.size() > 1) {
-          errors.add(this.errorCardinalityViolation(parameter, values));
-        }
+      final var size = values.size();
+      if (size < parameter.cardinalityMinimum()
+          || size > parameter.cardinalityMaximum()) {
+        errors.add(this.errorCardinalityViolation(parameter, values));
       }
     }
-
-    throwExceptionIfNecessary(errors);
   }
 
-  private void checkParameterAddObeysCardinality(
-    final ValidatedNamed<?> validated,
-    final Map<QParameterNamedType<?>, List<Object>> parsedValues)
-    throws QException
+  private boolean checkParameterAddObeysCardinality(
+    final Named<?> validated,
+    final List<Object> existing,
+    final Collection<SStructuredErrorType<String>> errors)
   {
     final var parameter = validated.parameter();
     if (parameter instanceof QParameterNamed0N<?>) {
-      return;
+      return true;
     }
     if (parameter instanceof QParameterNamed01<?>) {
-      return;
+      return true;
     }
     if (parameter instanceof QParameterNamed1<?>) {
-      final var existing = parsedValues.get(parameter);
       if (!existing.isEmpty()) {
-        throw exceptionError(this.errorTooManyValuesProvided(validated));
+        errors.add(this.errorTooManyValuesProvided(validated));
+        return false;
       }
     }
-    if (parameter instanceof QParameterNamed1N<?>) {
-      return;
-    }
-  }
-
-  private QException exceptionErrorValueUnparseable(
-    final ValidatedNamed<?> parameter,
-    final String argumentValue,
-    final Exception e)
-  {
-    return exceptionError(
-      this.errorValueUnparseableNamed(parameter, argumentValue, e)
-    );
+    return true;
   }
 
   private SStructuredErrorType<String> errorValueUnparseableNamed(
-    final ValidatedNamed<?> parameter,
+    final Named<?> parameter,
     final String argumentValue,
-    final Exception e)
+    final QConversionFailure<?> failure)
   {
     return new SStructuredError<>(
       "parameter-unparseable-value",
       this.errorParameterUnparseable(),
       Map.ofEntries(
-        Map.entry(this.command(), parameter.command.metadata().name()),
-        Map.entry(this.parameter(), parameter.parameter.name()),
+        Map.entry(this.command(), parameter.command().metadata().name()),
+        Map.entry(this.parameter(), parameter.parameter().name()),
         Map.entry(this.provided(), argumentValue),
-        Map.entry(this.type(), parameter.parameter.type().getCanonicalName()),
+        Map.entry(this.reason(), failure.message()),
+        Map.entry(this.type(), parameter.parameter().type().getCanonicalName()),
         Map.entry(this.syntax(), parameter.valueConverter().syntax())
       ),
       Optional.of(this.errorSuggestProvideParseable()),
-      Optional.of(e)
+      failure.exception()
     );
   }
 
@@ -422,38 +675,38 @@ public final class QCommandParser implements QCommandParserType
   }
 
   private SStructuredErrorType<String> errorValueUnparseablePositional(
-    final ValidatedPositional<?> parameter,
+    final Positional<?> parameter,
     final String argumentValue,
-    final Exception e)
+    final QConversionFailure<?> failure)
   {
     return new SStructuredError<>(
       "parameter-unparseable-value",
       this.errorParameterUnparseable(),
       Map.ofEntries(
-        Map.entry(this.command(), parameter.command.metadata().name()),
-        Map.entry(this.parameter(), parameter.parameter.name()),
+        Map.entry(this.command(), parameter.command().metadata().name()),
+        Map.entry(this.parameter(), parameter.parameter().name()),
         Map.entry(this.provided(), argumentValue),
-        Map.entry(this.type(), parameter.parameter.type().getCanonicalName()),
+        Map.entry(this.reason(), failure.message()),
+        Map.entry(this.type(), parameter.parameter().type().getCanonicalName()),
         Map.entry(this.syntax(), parameter.valueConverter().syntax())
       ),
       Optional.of(this.errorSuggestProvideParseable()),
-      Optional.of(e)
+      failure.exception()
     );
   }
 
-  private String syntax()
+  private String reason()
   {
-    return this.localize("quarrel.syntax");
+    return this.localize("quarrel.reason");
   }
 
-  private QException exceptionErrorValueMissingForParameter(
-    final ValidatedNamed<?> parameter)
+  private String syntax()
   {
-    return exceptionError(this.errorValueMissingForParameter(parameter));
+    return this.localize("quarrel.syntax");
   }
 
   private SStructuredErrorType<String> errorValueMissingForParameter(
-    final ValidatedNamed<?> parameter)
+    final Named<?> parameter)
   {
     return new SStructuredError<>(
       "parameter-missing-value",
@@ -461,16 +714,16 @@ public final class QCommandParser implements QCommandParserType
       Map.ofEntries(
         Map.entry(
           this.command(),
-          parameter.command.metadata().name()),
+          parameter.command().metadata().name()),
         Map.entry(
           this.parameter(),
-          parameter.parameter.name()),
+          parameter.parameter().name()),
         Map.entry(
           this.type(),
-          parameter.parameter.type().getCanonicalName()),
+          parameter.parameter().type().getCanonicalName()),
         Map.entry(
           this.syntax(),
-          parameter.valueConverter.syntax())
+          parameter.valueConverter().syntax())
       ),
       Optional.of(this.errorSuggestProvideValue()),
       Optional.empty()
@@ -580,15 +833,15 @@ public final class QCommandParser implements QCommandParserType
   }
 
   private SStructuredErrorType<String> errorTooManyValuesProvided(
-    final ValidatedNamed<?> parameter)
+    final Named<?> parameter)
   {
     return new SStructuredError<>(
       "parameter-cardinality",
       this.errorExpectsOneValue(),
       Map.ofEntries(
-        Map.entry(this.command(), parameter.command.metadata().name()),
-        Map.entry(this.parameter(), parameter.parameter.name()),
-        Map.entry(this.type(), parameter.parameter.type().getCanonicalName())
+        Map.entry(this.command(), parameter.command().metadata().name()),
+        Map.entry(this.parameter(), parameter.parameter().name()),
+        Map.entry(this.type(), parameter.parameter().type().getCanonicalName())
       ),
       Optional.of(this.errorSuggestProvideExactlyOne()),
       Optional.empty()
@@ -610,21 +863,89 @@ public final class QCommandParser implements QCommandParserType
     return this.localize("quarrel.type");
   }
 
-  private Map<String, ValidatedNamed<?>> validateNamedParameters(
+  /**
+   * Validate the parameters of the given command and produce an immutable
+   * parse plan. The plan may be reused for any number of subsequent calls to
+   * {@link #execute(SortedMap, PrintWriter, QCommandParsePlan, List)}.
+   *
+   * @param command The command
+   *
+   * @return A parse plan
+   *
+   * @throws QException If the command's parameters are invalid
+   */
+
+  public QCommandParsePlan plan(
     final QCommandType command)
     throws QException
   {
-    final var parametersByName =
-      new HashMap<String, ValidatedNamed<?>>();
+    Objects.requireNonNull(command, "command");
+
     final var errors =
       new ArrayList<SStructuredErrorType<String>>();
+    final var parametersByName =
+      new HashMap<String, Named<?>>();
+    final var parameters =
+      new ArrayList<Named<?>>();
+
+    this.validateNamedParameters(
+      command,
+      errors,
+      parametersByName,
+      parameters
+    );
+
+    final var startPositionals =
+      command.onListPositionalParameters();
+    final var positionals =
+      this.validatePositionalParameters(command, errors, startPositionals);
+
+    throwExceptionIfNecessary(errors);
+    return new QCommandParsePlan(
+      command,
+      parametersByName,
+      parameters,
+      startPositionals,
+      positionals
+    );
+  }
+
+  private void validateNamedParameters(
+    final QCommandType command,
+    final Collection<SStructuredErrorType<String>> errors,
+    final Map<String, Named<?>> parametersByName,
+    final Collection<Named<?>> parameters)
+  {
+    final var converters =
+      this.configuration.converters();
 
     for (final var parameter : command.onListNamedParameters()) {
+      final var converter =
+        converters.converterFor(parameter.type());
+
+      if (converter.isEmpty()) {
+        errors.add(
+          this.errorNoValueConverterForParameter(
+            command,
+            parameter.name(),
+            parameter.type())
+        );
+        continue;
+      }
+
+      final var validated =
+        Named.of(
+          (QParameterNamedType<Object>) parameter,
+          command,
+          (QValueConverterType<Object>) converter.get()
+        );
+
+      parameters.add(validated);
       this.validateParameterNameUnique(
         command,
         parametersByName,
         errors,
-        parameter,
+        validated,
         parameter.name()
       );
 
@@ -633,85 +954,60 @@ public final class QCommandParser implements QCommandParserType
           command,
           parametersByName,
           errors,
-          parameter,
+          validated,
           name
         );
       }
     }
-
-    throwExceptionIfNecessary(errors);
-    return parametersByName;
   }
 
   private void validateParameterNameUnique(
     final QCommandType command,
-    final Map<String, ValidatedNamed<?>> parametersByName,
+    final Map<String, Named<?>> parametersByName,
     final Collection<SStructuredErrorType<String>> errors,
-    final QParameterNamedType<?> parameter,
+    final Named<?> parameter,
     final String name)
   {
-    final var converters =
-      this.configuration.converters();
-
     if (parametersByName.containsKey(name)) {
       errors.add(this.errorDuplicateParameterName(command, name));
       return;
     }
-
-    final var converter =
-      converters.converterFor(parameter.type());
-
-    if (converter.isEmpty()) {
-      errors.add(
-        this.errorNoValueConverterForParameter(command, name, parameter.type())
-      );
-      return;
-    }
-
-    final var validated =
-      new ValidatedNamed<Object>(
-        (QParameterNamedType<Object>) parameter,
-        command,
-        (QValueConverterType<Object>) converter.get()
-      );
-
-    parametersByName.put(name, validated);
+    parametersByName.put(name, parameter);
   }
 
-  private ValidatedPositionalsType validatePositionalParameters(
+  private PositionalsType validatePositionalParameters(
     final QCommandType command,
+    final Collection<SStructuredErrorType<String>> errors,
     final QParametersPositionalType positionals)
-    throws QException
   {
-    final var errors =
-      new ArrayList<SStructuredErrorType<String>>();
-
     if (positionals instanceof final QParametersPositionalTyped typed) {
       return this.validatePositionalParametersTyped(command, errors, typed);
     }
 
-    if (positionals instanceof QParametersPositionalAny) {
-      return ValidatedPositionalsAny.ANY;
+    if (positionals instanceof final QParametersPositionalAny any) {
+      if (any.streaming()) {
+        return PositionalsAny.STREAMING;
+      }
+      return PositionalsAny.ANY;
     }
 
     if (positionals instanceof QParametersPositionalNone) {
-      return ValidatedPositionalsNone.NONE;
+      return PositionalsNone.NONE;
     }
 
     throw new IllegalStateException("Unreachable code.");
   }
 
-  private ValidatedPositionalsTyped validatePositionalParametersTyped(
+  private PositionalsTyped validatePositionalParametersTyped(
     final QCommandType command,
-    final ArrayList<SStructuredErrorType<String>> errors,
+    final Collection<SStructuredErrorType<String>> errors,
     final QParametersPositionalTyped typed)
-    throws QException
   {
     final var converters =
       this.configuration.converters();
 
     final var results =
-      new ArrayList<ValidatedPositional<?>>(typed.parameters().size());
+      new ArrayList<Positional<?>>(typed.parameters().size());
 
     for (final var p : typed.parameters()) {
       final var converter =
@@ -725,7 +1021,7 @@ public final class QCommandParser implements QCommandParserType
       }
 
       results.add(
-        new ValidatedPositional<>(
+        new Positional<>(
           (QParameterPositional<Object>) p,
           command,
           (QValueConverterType<Object>) converter.get()
@@ -733,12 +1029,11 @@ public final class QCommandParser implements QCommandParserType
       );
     }
 
-    throwExceptionIfNecessary(errors);
-    return new ValidatedPositionalsTyped(results);
+    return new PositionalsTyped(results);
   }
 
   private SStructuredErrorType<String> errorCardinalityViolation(
-    final ValidatedNamed<?> parameter,
+    final Named<?> parameter,
     final Collection<Object> values)
   {
     return new SStructuredError<>(
@@ -747,16 +1042,16 @@ public final class QCommandParser implements QCommandParserType
       Map.ofEntries(
         Map.entry(
           this.command(),
-          parameter.command.metadata().name()),
+          parameter.command().metadata().name()),
         Map.entry(
           this.parameter(),
-          parameter.parameter.name()),
+          parameter.parameter().name()),
         Map.entry(
           this.minimumValues(),
-          toUnsignedString(parameter.parameter.cardinalityMinimum())),
+          toUnsignedString(parameter.parameter().cardinalityMinimum())),
         Map.entry(
           this.maximumValues(),
-          toUnsignedString(parameter.parameter.cardinalityMaximum())),
+          toUnsignedString(parameter.parameter().cardinalityMaximum())),
         Map.entry(
           this.providedCount(),
           toUnsignedString(values.size()))
@@ -809,94 +1104,166 @@ public final class QCommandParser implements QCommandParserType
     final QCommandType command,
     final List<String> arguments)
     throws QException
+  {
+    Objects.requireNonNull(command, "command");
+    return this.execute(tree, output, this.plan(command), arguments);
+  }
+
+  /**
+   * Parse arguments for the command described by the given plan.
+   *
+   * @param tree      The command tree
+   * @param output    The output that will be used if the command is executed
+   * @param plan      The parse plan
+   * @param arguments The arguments
+   *
+   * @return A command context that can be used to execute the command
+   *
+   * @throws QException On errors
+   */
+
+  public QCommandContextType execute(
+    final SortedMap<String, QCommandOrGroupType> tree,
+    final PrintWriter output,
+    final QCommandParsePlan plan,
+    final List<String> arguments)
+    throws QException
+  {
+    return this.parse(tree, output, plan, arguments).orElseThrow();
+  }
+
+  /**
+   * Parse arguments for the command described by the given plan. Errors are
+   * returned as values, and no exceptions are constructed for them.
+   *
+   * @param tree      The command tree
+   * @param output    The output that will be used if the command is executed
+   * @param plan      The parse plan
+   * @param arguments The arguments
+   *
+   * @return The parse result
+   */
+
+  public QParseResultType parse(
+    final SortedMap<String, QCommandOrGroupType> tree,
+    final PrintWriter output,
+    final QCommandParsePlan plan,
+    final List<String> arguments)
   {
     Objects.requireNonNull(tree, "tree");
     Objects.requireNonNull(output, "output");
-    Objects.requireNonNull(command, "command");
+    Objects.requireNonNull(plan, "plan");
     Objects.requireNonNull(arguments, "arguments");
 
-    final var byName =
-      this.validateNamedParameters(command);
-    final var startPositionals =
-      command.onListPositionalParameters();
+    final var command =
+      plan.command();
     final var positionals =
-      this.validatePositionalParameters(command, startPositionals);
+      plan.positionals();
+    final var named =
+      plan.named();
 
     final var parsedNamedValues =
-      new HashMap<QParameterNamedType<?>, List<Object>>();
+      new HashMap<QParameterNamedType<?>, List<Object>>(named.size() * 2);
+    final var namedSlots =
+      new ArrayList<List<Object>>(named.size());
 
-    for (final var parameter : byName.values()) {
-      final var values = new ArrayList<>();
-      parsedNamedValues.put(parameter.parameter, values);
-    }
+    final var sequential =
+      this.configuration.conversionStrategy() instanceof QConversionSequential;
 
-    final var mutableArguments = new ArrayList<>(arguments);
-    this.parseParametersNamed(
-      command,
-      byName,
-      parsedNamedValues,
-      positionals,
-      mutableArguments
-    );
-
-    final var rawPositionalValues =
-      List.copyOf(mutableArguments);
-    final var parsedPositionalValues =
-      this.parseParametersPositional(command, positionals, mutableArguments);
+    for (final var parameter : named) {
+      final var values = newValueList(parameter, sequential);
+      parsedNamedValues.put(parameter.parameter(), values);
+      namedSlots.add(values);
+    }
 
-    return new QCommandContext(
-      tree,
-      this.configuration.converters(),
-      output,
-      command,
-      this.localization,
-      parsedNamedValues,
-      startPositionals,
-      parsedPositionalValues,
-      rawPositionalValues
-    );
-  }
+    /*
+     * The scan below relies on constant-time indexed access.
+     */
 
-  private enum ValidatedPositionalsNone
-    implements ValidatedPositionalsType
-  {
-    /** No positionals. */
-    NONE
-  }
+    final List<String> indexed;
+    if (arguments instanceof RandomAccess) {
+      indexed = arguments;
+    } else {
+      indexed = List.copyOf(arguments);
+    }
 
-  private enum ValidatedPositionalsAny
-    implements ValidatedPositionalsType
-  {
-    /** Any positionals. */
-    ANY
-  }
+    final var errors =
+      new ArrayList<SStructuredErrorType<String>>(0);
+    final var positionalStart =
+      this.parseParametersNamed(
+        command,
+        plan,
+        parsedNamedValues,
+        positionals,
+        indexed,
+        errors
+      );
 
-  private sealed interface ValidatedPositionalsType
-  {
+    if (!errors.isEmpty()) {
+      return new QParseFailure(errors);
+    }
 
-  }
+    /*
+     * A streaming command receives the remaining arguments unexpanded, and
+     * so there are no parsed positional values.
+     */
+
+    final List<String> rawPositionalValues;
+    final List<Object> parsedPositionalValues;
+    if (positionals == PositionalsAny.STREAMING
+        && indexed instanceof final QExpandedArguments expanded) {
+      rawPositionalValues =
+        expanded.stream(positionalStart);
+      parsedPositionalValues =
+        List.of();
+    } else {
+      rawPositionalValues =
+        QArgumentBuffer.immutableCopyOf(
+          indexed.subList(positionalStart, indexed.size()));
+      parsedPositionalValues =
+        this.parseParametersPositional(
+          command,
+          positionals,
+          rawPositionalValues,
+          errors
+        );
+    }
 
-  private record ValidatedNamed<T>(
-    QParameterNamedType<T> parameter,
-    QCommandType command,
-    QValueConverterType<T> valueConverter)
-  {
+    if (!errors.isEmpty()) {
+      return new QParseFailure(errors);
+    }
 
+    return new QParseSuccess(
+      new QCommandContext(
+        tree,
+        this.configuration.converters(),
+        output,
+        this.localization,
+        plan,
+        parsedNamedValues,
+        namedSlots,
+        parsedPositionalValues,
+        rawPositionalValues,
+        this.configuration.conversionStrategy() instanceof QConversionLazy
+      )
+    );
   }
 
-  private record ValidatedPositionalsTyped(
-    List<ValidatedPositional<?>> values)
-    implements ValidatedPositionalsType
-  {
-
-  }
+  /**
+   * A named parameter value that has been scanned but not yet converted.
+   *
+   * @param parameter The parameter
+   * @param values    The parameter's values
+   * @param position  The position of the value in {@code values}
+   * @param text      The value text
+   */
 
-  private record ValidatedPositional<T>(
-    QParameterPositional<T> parameter,
-    QCommandType command,
-    QValueConverterType<T> valueConverter)
+  private record PendingNamed(
+    Named<?> parameter,
+    List<Object> values,
+    int position,
+    String text)
   {
 
   }
-
 }
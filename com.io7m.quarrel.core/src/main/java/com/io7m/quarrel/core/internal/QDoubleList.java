@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QValueConverterDoubleType;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A growable list of {@code double} parameter values. Values are boxed
+ * only when they are read through the {@link java.util.List} interface.
+ */
+
+final class QDoubleList
+  extends QPrimitiveListAbstract<double[]>
+  implements DoubleConsumer
+{
+  private static final double[] EMPTY = new double[0];
+
+  private final QValueConverterDoubleType converter;
+
+  QDoubleList(
+    final QValueConverterDoubleType inConverter)
+  {
+    super(EMPTY);
+    this.converter =
+      Objects.requireNonNull(inConverter, "converter");
+  }
+
+  @Override
+  public boolean tryAppend(
+    final String text)
+  {
+    try {
+      return this.converter.tryConvertToDouble(text, this);
+    } catch (final Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void accept(
+    final double value)
+  {
+    final var index = this.size();
+    this.open(index)[index] = value;
+  }
+
+  /**
+   * @return A copy of the values in the list
+   */
+
+  double[] toDoubleArray()
+  {
+    return this.copyValues();
+  }
+
+  @Override
+  double[] copyOf(
+    final double[] array,
+    final int length)
+  {
+    return Arrays.copyOf(array, length);
+  }
+
+  @Override
+  int lengthOf(
+    final double[] array)
+  {
+    return array.length;
+  }
+
+  @Override
+  Object box(
+    final double[] array,
+    final int index)
+  {
+    return Double.valueOf(array[index]);
+  }
+
+  @Override
+  void unbox(
+    final double[] array,
+    final int index,
+    final Object element)
+  {
+    array[index] = ((Double) element).doubleValue();
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * <p>A list of arguments that are expanded from @ syntax as they are
+ * accessed.</p>
+ *
+ * <p>Indexed access only expands as many arguments as are needed to reach
+ * the given index. Any operation that requires the size of the list
+ * expands all of the remaining arguments. The static methods in this class
+ * accept any list of arguments, and avoid expanding arguments where
+ * possible.</p>
+ */
+
+public final class QExpandedArguments
+  extends AbstractList<String>
+  implements RandomAccess
+{
+  private final QArgumentFiles files;
+  private final int offset;
+
+  QExpandedArguments(
+    final QArgumentFiles inFiles,
+    final int inOffset)
+  {
+    this.files =
+      Objects.requireNonNull(inFiles, "files");
+    this.offset =
+      inOffset;
+  }
+
+  /**
+   * Determine if the argument at the given index exists, expanding only as
+   * many arguments as necessary.
+   *
+   * @param arguments The arguments
+   * @param index     The argument index
+   *
+   * @return {@code true} if the argument exists
+   */
+
+  public static boolean has(
+    final List<String> arguments,
+    final int index)
+  {
+    if (arguments instanceof final QExpandedArguments expanded) {
+      return expanded.files.has(expanded.offset + index);
+    }
+    return index < arguments.size();
+  }
+
+  /**
+   * Obtain the arguments starting at the given index, without expanding
+   * any arguments.
+   *
+   * @param arguments The arguments
+   * @param from      The index of the first argument
+   *
+   * @return The remaining arguments
+   */
+
+  public static List<String> tail(
+    final List<String> arguments,
+    final int from)
+  {
+    if (arguments instanceof final QExpandedArguments expanded) {
+      return new QExpandedArguments(expanded.files, expanded.offset + from);
+    }
+    return arguments.subList(from, arguments.size());
+  }
+
+  /**
+   * Expand all remaining arguments.
+   *
+   * @param arguments The arguments
+   *
+   * @return The fully expanded arguments
+   */
+
+  public static List<String> drain(
+    final List<String> arguments)
+  {
+    if (arguments instanceof final QExpandedArguments expanded) {
+      final var buffer = expanded.files.drain();
+      return buffer.subList(expanded.offset, buffer.size());
+    }
+    return arguments;
+  }
+
+  /**
+   * @param arguments The arguments
+   *
+   * @return The errors encountered so far whilst expanding arguments
+   */
+
+  public static List<SStructuredErrorType<String>> errorsOf(
+    final List<String> arguments)
+  {
+    if (arguments instanceof final QExpandedArguments expanded) {
+      return expanded.files.errors();
+    }
+    return List.of();
+  }
+
+  /**
+   * Hand the arguments starting at the given index to a consumer that will
+   * read them once, in order.
+   *
+   * @param from The index of the first argument
+   *
+   * @return The remaining arguments
+   */
+
+  QStreamingArguments stream(
+    final int from)
+  {
+    return new QStreamingArguments(this.files, this.offset + from);
+  }
+
+  @Override
+  public String get(
+    final int index)
+  {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return this.files.get(this.offset + index);
+  }
+
+  @Override
+  public int size()
+  {
+    this.files.drain();
+    return Math.max(0, this.files.count() - this.offset);
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Optional;
+
+/**
+ * Functions to parse IPv4 and IPv6 address literals without consulting any
+ * name service.
+ */
+
+public final class QInetAddressLiterals
+{
+  private QInetAddressLiterals()
+  {
+
+  }
+
+  /**
+   * Determine if the given text uses IPv6 literal syntax. Text that uses
+   * IPv6 literal syntax can never be a valid host name, and so should never
+   * be passed to a name service.
+   *
+   * @param text The text
+   *
+   * @return {@code true} if the text uses IPv6 literal syntax
+   */
+
+  public static boolean isIPv6Syntax(
+    final String text)
+  {
+    return text.indexOf(':') >= 0 || text.startsWith("[");
+  }
+
+  /**
+   * Parse an address literal. The accepted forms are IPv4 dotted-quad
+   * addresses (without leading zeroes), and IPv6 addresses (optionally
+   * enclosed in brackets as per RFC 2732, and optionally with a scope).
+   *
+   * @param text The text
+   *
+   * @return The address, or nothing if the text is not an address literal
+   */
+
+  public static Optional<InetAddress> parse(
+    final String text)
+  {
+    final var length = text.length();
+    if (length == 0) {
+      return Optional.empty();
+    }
+
+    final byte[] address;
+    if (isIPv6Syntax(text)) {
+      if (text.charAt(0) == '[') {
+        if (length < 3 || text.charAt(length - 1) != ']') {
+          return Optional.empty();
+        }
+        address = parseIPv6(text, 1, length - 1);
+      } else {
+        address = parseIPv6(text, 0, length);
+      }
+      if (address == null) {
+        return parseIPv6Unusual(text);
+      }
+    } else {
+      address = parseIPv4(text, 0, length);
+      if (address == null) {
+        return Optional.empty();
+      }
+    }
+
+    try {
+      return Optional.of(InetAddress.getByAddress(address));
+    } catch (final UnknownHostException e) {
+      return Optional.empty();
+    }
+  }
+
+  /*
+   * Scoped addresses (which require the platform's interface names) and the
+   * less common forms the JDK accepts (such as groups with redundant leading
+   * zeroes) are handed to the JDK. The JDK never consults a name service for
+   * text containing colons or brackets.
+   */
+
+  private static Optional<InetAddress> parseIPv6Unusual(
+    final String text)
+  {
+    try {
+      return Optional.of(InetAddress.getByName(text));
+    } catch (final UnknownHostException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static byte[] parseIPv4(
+    final String text,
+    final int start,
+    final int end)
+  {
+    final var out = new byte[4];
+    var index = start;
+
+    for (int octet = 0; octet < 4; ++octet) {
+      if (octet > 0) {
+        if (index >= end || text.charAt(index) != '.') {
+          return null;
+        }
+        ++index;
+      }
+
+      final var octetStart = index;
+      var value = 0;
+      while (index < end && index - octetStart < 3) {
+        final var c = text.charAt(index);
+        if (c < '0' || c > '9') {
+          break;
+        }
+        value = (value * 10) + (c - '0');
+        ++index;
+      }
+
+      final var digits = index - octetStart;
+      if (digits == 0 || value > 255) {
+        return null;
+      }
+      if (digits > 1 && text.charAt(octetStart) == '0') {
+        return null;
+      }
+      out[octet] = (byte) value;
+    }
+
+    if (index != end) {
+      return null;
+    }
+    return out;
+  }
+
+  private static byte[] parseIPv6(
+    final String text,
+    final int start,
+    final int end)
+  {
+    final var out = new byte[16];
+    var outIndex = 0;
+    var gapAt = -1;
+    var index = start;
+
+    if (index < end && text.charAt(index) == ':') {
+      if (index + 1 >= end || text.charAt(index + 1) != ':') {
+        return null;
+      }
+      gapAt = 0;
+      index += 2;
+    }
+
+    while (index < end) {
+      final var groupStart = index;
+      var value = 0;
+      while (index < end && index - groupStart <= 4) {
+        final var digit = hexValue(text.charAt(index));
+        if (digit < 0) {
+          break;
+        }
+        value = (value << 4) | digit;
+        ++index;
+      }
+
+      final var digits = index - groupStart;
+      if (digits == 0 || digits > 4) {
+        return null;
+      }
+
+      if (index < end && text.charAt(index) == '.') {
+        if (outIndex > 12) {
+          return null;
+        }
+        final var ipv4 = parseIPv4(text, groupStart, end);
+        if (ipv4 == null) {
+          return null;
+        }
+        System.arraycopy(ipv4, 0, out, outIndex, 4);
+        outIndex += 4;
+        break;
+      }
+
+      if (outIndex > 14) {
+        return null;
+      }
+      out[outIndex] = (byte) (value >>> 8);
+      out[outIndex + 1] = (byte) value;
+      outIndex += 2;
+
+      if (index == end) {
+        break;
+      }
+      if (text.charAt(index) != ':') {
+        return null;
+      }
+      ++index;
+
+      if (index < end && text.charAt(index) == ':') {
+        if (gapAt >= 0) {
+          return null;
+        }
+        gapAt = outIndex;
+        ++index;
+      } else if (index == end) {
+        return null;
+      }
+    }
+
+    if (gapAt >= 0) {
+      if (outIndex == 16) {
+        return null;
+      }
+      final var count = outIndex - gapAt;
+      System.arraycopy(out, gapAt, out, 16 - count, count);
+      for (int zero = gapAt; zero < 16 - count; ++zero) {
+        out[zero] = 0;
+      }
+      return out;
+    }
+
+    if (outIndex != 16) {
+      return null;
+    }
+    return out;
+  }
+
+  private static int hexValue(
+    final char c)
+  {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return (c - 'a') + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return (c - 'A') + 10;
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
+import com.io7m.quarrel.core.QParseResultType.QParseFailure;
+import com.io7m.quarrel.core.QUncheckedException;
+import com.io7m.quarrel.core.QValueConverterType;
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A value that has been checked but not yet converted. Lazy values only
+ * ever appear in the value lists held by {@link QCommandContext}, which
+ * replaces each lazy value with its converted value on first access.
+ */
+
+final class QLazyValue
+{
+  private final QValueConverterType<?> converter;
+  private final String text;
+  private final Function<QConversionFailure<?>, SStructuredErrorType<String>>
+    onError;
+
+  QLazyValue(
+    final QValueConverterType<?> inConverter,
+    final String inText,
+    final Function<QConversionFailure<?>, SStructuredErrorType<String>>
+      inOnError)
+  {
+    this.converter =
+      Objects.requireNonNull(inConverter, "converter");
+    this.text =
+      Objects.requireNonNull(inText, "text");
+    this.onError =
+      Objects.requireNonNull(inOnError, "onError");
+  }
+
+  /**
+   * Convert the value.
+   *
+   * @return The converted value
+   *
+   * @throws QUncheckedException If the value cannot be converted
+   */
+
+  Object convert()
+    throws QUncheckedException
+  {
+    final var result = QCommandParser.convert(this.converter, this.text);
+    if (result instanceof final QConversionSuccess<?> success) {
+      return success.value();
+    }
+
+    final var failure = (QConversionFailure<?>) result;
+    throw new QUncheckedException(
+      new QParseFailure(List.of(this.onError.apply(failure)))
+        .toException()
+    );
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QValueConverterLongType;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * A growable list of {@code long} parameter values. Values are boxed
+ * only when they are read through the {@link java.util.List} interface.
+ */
+
+final class QLongList
+  extends QPrimitiveListAbstract<long[]>
+  implements LongConsumer
+{
+  private static final long[] EMPTY = new long[0];
+
+  private final QValueConverterLongType converter;
+
+  QLongList(
+    final QValueConverterLongType inConverter)
+  {
+    super(EMPTY);
+    this.converter =
+      Objects.requireNonNull(inConverter, "converter");
+  }
+
+  @Override
+  public boolean tryAppend(
+    final String text)
+  {
+    try {
+      return this.converter.tryConvertToLong(text, this);
+    } catch (final Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void accept(
+    final long value)
+  {
+    final var index = this.size();
+    this.open(index)[index] = value;
+  }
+
+  /**
+   * @return A copy of the values in the list
+   */
+
+  long[] toLongArray()
+  {
+    return this.copyValues();
+  }
+
+  @Override
+  long[] copyOf(
+    final long[] array,
+    final int length)
+  {
+    return Arrays.copyOf(array, length);
+  }
+
+  @Override
+  int lengthOf(
+    final long[] array)
+  {
+    return array.length;
+  }
+
+  @Override
+  Object box(
+    final long[] array,
+    final int index)
+  {
+    return Long.valueOf(array[index]);
+  }
+
+  @Override
+  void unbox(
+    final long[] array,
+    final int index,
+    final Object element)
+  {
+    array[index] = ((Long) element).longValue();
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionStrategyType.QConversionParallel;
+import com.io7m.quarrel.core.QValueConverterType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Functions to convert values in parallel.
+ */
+
+final class QParallelConversion
+{
+  private QParallelConversion()
+  {
+
+  }
+
+  /**
+   * Convert {@code count} values in parallel. The returned array contains
+   * the result of each conversion in order. Every value up to and including
+   * the first value that could not be converted is guaranteed to have a
+   * result; values after the first failure may not have been converted, and
+   * their results are {@code null}.
+   *
+   * @param strategy    The parallel strategy
+   * @param count       The number of values
+   * @param converterAt The converter for each value
+   * @param textAt      The text of each value
+   *
+   * @return The conversion results
+   */
+
+  static QConversionResultType<?>[] convertAll(
+    final QConversionParallel strategy,
+    final int count,
+    final IntFunction<QValueConverterType<?>> converterAt,
+    final IntFunction<String> textAt)
+  {
+    final var results =
+      new QConversionResultType<?>[count];
+    final var firstFailure =
+      new AtomicInteger(count);
+    final var slices =
+      Math.min(count, strategy.parallelism());
+    final var futures =
+      new CompletableFuture<?>[slices - 1];
+
+    for (int slice = 0; slice < slices - 1; ++slice) {
+      final var start = sliceStart(count, slices, slice);
+      final var end = sliceStart(count, slices, slice + 1);
+      final Runnable task = () -> {
+        convertSlice(
+          results, firstFailure, converterAt, textAt, start, end);
+      };
+
+      try {
+        futures[slice] = CompletableFuture.runAsync(task, strategy.executor());
+      } catch (final RejectedExecutionException e) {
+        task.run();
+        futures[slice] = CompletableFuture.completedFuture(null);
+      }
+    }
+
+    convertSlice(
+      results,
+      firstFailure,
+      converterAt,
+      textAt,
+      sliceStart(count, slices, slices - 1),
+      count
+    );
+
+    CompletableFuture.allOf(futures).join();
+    return results;
+  }
+
+  private static int sliceStart(
+    final int count,
+    final int slices,
+    final int slice)
+  {
+    return (int) (((long) count * (long) slice) / (long) slices);
+  }
+
+  private static void convertSlice(
+    final QConversionResultType<?>[] results,
+    final AtomicInteger firstFailure,
+    final IntFunction<QValueConverterType<?>> converterAt,
+    final IntFunction<String> textAt,
+    final int start,
+    final int end)
+  {
+    for (int index = start; index < end; ++index) {
+      if (index > firstFailure.get()) {
+        return;
+      }
+
+      final var result =
+        QCommandParser.convert(converterAt.apply(index), textAt.apply(index));
+      results[index] = result;
+
+      if (result instanceof QConversionFailure<?>) {
+        firstFailure.accumulateAndGet(index, Math::min);
+        return;
+      }
+    }
+  }
+}
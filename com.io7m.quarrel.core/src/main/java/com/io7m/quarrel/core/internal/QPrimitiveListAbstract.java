@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The storage shared by lists of parameter values stored without boxing.
+ * Subclasses supply the primitive array type {@code A}, and the boxing and
+ * unboxing of individual elements.
+ *
+ * @param <A> The type of the backing array
+ */
+
+abstract sealed class QPrimitiveListAbstract<A>
+  extends AbstractList<Object>
+  implements QPrimitiveListType, RandomAccess
+  permits QIntList, QLongList, QDoubleList
+{
+  private A values;
+  private int size;
+
+  QPrimitiveListAbstract(
+    final A empty)
+  {
+    this.values = Objects.requireNonNull(empty, "empty");
+    this.size = 0;
+  }
+
+  /**
+   * @param array  The array
+   * @param length The new length
+   *
+   * @return A copy of the array with the given length
+   */
+
+  abstract A copyOf(A array, int length);
+
+  /**
+   * @param array The array
+   *
+   * @return The length of the array
+   */
+
+  abstract int lengthOf(A array);
+
+  /**
+   * @param array The array
+   * @param index The index
+   *
+   * @return The boxed element at the given index
+   */
+
+  abstract Object box(A array, int index);
+
+  /**
+   * Store the unboxed form of the element at the given index.
+   *
+   * @param array   The array
+   * @param index   The index
+   * @param element The boxed element
+   */
+
+  abstract void unbox(A array, int index, Object element);
+
+  /**
+   * @return A copy of the values in the list
+   */
+
+  final A copyValues()
+  {
+    return this.copyOf(this.values, this.size);
+  }
+
+  /**
+   * Open a slot at the given index, shifting any later elements along by one.
+   *
+   * @param index The index
+   *
+   * @return The backing array, into which the new element must be written
+   */
+
+  final A open(
+    final int index)
+  {
+    if (this.size == this.lengthOf(this.values)) {
+      this.values =
+        this.copyOf(this.values, Math.max(8, this.size + (this.size >> 1)));
+    }
+    System.arraycopy(
+      this.values, index, this.values, index + 1, this.size - index);
+    ++this.size;
+    ++this.modCount;
+    return this.values;
+  }
+
+  @Override
+  public final Object get(
+    final int index)
+  {
+    return this.box(this.values, Objects.checkIndex(index, this.size));
+  }
+
+  @Override
+  public final Object set(
+    final int index,
+    final Object element)
+  {
+    final var previous = this.get(index);
+    this.unbox(this.values, index, element);
+    return previous;
+  }
+
+  @Override
+  public final void add(
+    final int index,
+    final Object element)
+  {
+    Objects.checkIndex(index, this.size + 1);
+
+    final var array = this.open(index);
+    try {
+      this.unbox(array, index, element);
+    } catch (final RuntimeException e) {
+      --this.size;
+      System.arraycopy(array, index + 1, array, index, this.size - index);
+      throw e;
+    }
+  }
+
+  @Override
+  public final int size()
+  {
+    return this.size;
+  }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.core.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * An immutable sorted map backed by a pair of arrays. Lookups are binary
+ * searches over the key array, and submap views share the arrays of the
+ * map from which they were derived.
+ *
+ * @param <V> The type of values
+ */
+
+public final class QSortedArrayMap<V>
+  extends AbstractMap<String, V>
+  implements SortedMap<String, V>
+{
+  private final String[] keys;
+  private final Object[] values;
+  private final int from;
+  private final int to;
+
+  private QSortedArrayMap(
+    final String[] inKeys,
+    final Object[] inValues,
+    final int inFrom,
+    final int inTo)
+  {
+    this.keys =
+      Objects.requireNonNull(inKeys, "keys");
+    this.values =
+      Objects.requireNonNull(inValues, "values");
+    this.from = inFrom;
+    this.to = inTo;
+  }
+
+  /**
+   * Create an immutable copy of the given map.
+   *
+   * @param map The source map
+   * @param <V> The type of values
+   *
+   * @return An immutable sorted map
+   */
+
+  public static <V> QSortedArrayMap<V> copyOf(
+    final Map<String, ? extends V> map)
+  {
+    Objects.requireNonNull(map, "map");
+
+    final var entries =
+      new ArrayList<Map.Entry<String, ? extends V>>(map.entrySet());
+
+    entries.sort(Comparator.comparing(Map.Entry::getKey));
+
+    final var size = entries.size();
+    final var newKeys = new String[size];
+    final var newValues = new Object[size];
+    for (int index = 0; index < size; ++index) {
+      final var entry = entries.get(index);
+      newKeys[index] =
+        Objects.requireNonNull(entry.getKey(), "key");
+      newValues[index] =
+        Objects.requireNonNull(entry.getValue(), "value");
+    }
+    return new QSortedArrayMap<>(newKeys, newValues, 0, newKeys.length);
+  }
+
+  /**
+   * Find the index of the given key.
+   *
+   * @param key The key
+   *
+   * @return The index of the key, or a negative value if the key is not present
+   *
+   * @see #valueAt(int)
+   */
+
+  public int indexOf(
+    final String key)
+  {
+    return Arrays.binarySearch(this.keys, this.from, this.to, key);
+  }
+
+  /**
+   * @param index An index returned by {@link #indexOf(String)}
+   *
+   * @return The value at the given index
+   */
+
+  @SuppressWarnings("unchecked")
+  public V valueAt(
+    final int index)
+  {
+    Objects.checkIndex(index - this.from, this.to - this.from);
+    return (V) this.values[index];
+  }
+
+  private int lowerBound(
+    final String key)
+  {
+    Objects.requireNonNull(key, "key");
+    final var index = this.indexOf(key);
+    return index >= 0 ? index : -(index + 1);
+  }
+
+  @Override
+  public int size()
+  {
+    return this.to - this.from;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return this.to == this.from;
+  }
+
+  @Override
+  public boolean containsKey(
+    final Object key)
+  {
+    if (key instanceof final String name) {
+      return this.indexOf(name) >= 0;
+    }
+    return false;
+  }
+
+  @Override
+  public V get(
+    final Object key)
+  {
+    if (key instanceof final String name) {
+      final var index = this.indexOf(name);
+      if (index >= 0) {
+        return this.valueAt(index);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Comparator<? super String> comparator()
+  {
+    return null;
+  }
+
+  @Override
+  public SortedMap<String, V> subMap(
+    final String fromKey,
+    final String toKey)
+  {
+    if (fromKey.compareTo(toKey) > 0) {
+      throw new IllegalArgumentException("fromKey > toKey");
+    }
+    return new QSortedArrayMap<>(
+      this.keys,
+      this.values,
+      this.lowerBound(fromKey),
+      this.lowerBound(toKey)
+    );
+  }
+
+  @Override
+  public SortedMap<String, V> headMap(
+    final String toKey)
+  {
+    return new QSortedArrayMap<>(
+      this.keys,
+      this.values,
+      this.from,
+      this.lowerBound(toKey)
+    );
+  }
+
+  @Override
+  public SortedMap<String, V> tailMap(
+    final String fromKey)
+  {
+    return new QSortedArrayMap<>(
+      this.keys,
+      this.values,
+      this.lowerBound(fromKey),
+      this.to
+    );
+  }
+
+  @Override
+  public String firstKey()
+  {
+    if (this.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return this.keys[this.from];
+  }
+
+  @Override
+  public String lastKey()
+  {
+    if (this.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return this.keys[this.to - 1];
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet()
+  {
+    return new EntrySet();
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, V>>
+  {
+    EntrySet()
+    {
+
+    }
+
+    @Override
+    public Iterator<Entry<String, V>> iterator()
+    {
+      return new Iterator<>()
+      {
+        private int index = QSortedArrayMap.this.from;
+
+        @Override
+        public boolean hasNext()
+        {
+          return this.index < QSortedArrayMap.this.to;
+        }
+
+        @Override
+        public Entry<String, V> next()
+        {
+          if (!this.hasNext()) {
+            throw new NoSuchElementException();
+          }
+          final var current = this.index;
+          ++this.index;
+          return Map.entry(
+            QSortedArrayMap.this.keys[current],
+            QSortedArrayMap.this.valueAt(current)
+          );
+        }
+      };
+    }
+
+    @Override
+    public int size()
+    {
+      return QSortedArrayMap.this.size();
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QParseResultType.QParseFailure;
+import com.io7m.quarrel.core.QUncheckedException;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>The trailing arguments of a command that consumes its positional
+ * arguments as a stream.</p>
+ *
+ * <p>The arguments may be read once, either as a stream (in which case
+ * each argument is expanded as the stream is consumed, and is not
+ * retained) or as a list (in which case all of the arguments are expanded
+ * up front). Errors encountered whilst expanding arguments are raised as
+ * {@link QUncheckedException}.</p>
+ */
+
+final class QStreamingArguments
+  extends AbstractList<String>
+{
+  private final QArgumentFiles files;
+  private final int from;
+  private List<String> drained;
+  private boolean streamed;
+
+  QStreamingArguments(
+    final QArgumentFiles inFiles,
+    final int inFrom)
+  {
+    this.files =
+      Objects.requireNonNull(inFiles, "files");
+    this.from =
+      inFrom;
+  }
+
+  private synchronized List<String> drained()
+  {
+    if (this.drained == null) {
+      if (this.streamed) {
+        throw new IllegalStateException(
+          "The positional arguments have already been streamed.");
+      }
+      final var buffer = this.files.drain();
+      this.checkErrors();
+      this.drained =
+        buffer.subList(Math.min(this.from, buffer.size()), buffer.size());
+    }
+    return this.drained;
+  }
+
+  private void checkErrors()
+  {
+    final var errors = this.files.errors();
+    if (!errors.isEmpty()) {
+      throw new QUncheckedException(new QParseFailure(errors).toException());
+    }
+  }
+
+  @Override
+  public String get(
+    final int index)
+  {
+    return this.drained().get(index);
+  }
+
+  @Override
+  public int size()
+  {
+    return this.drained().size();
+  }
+
+  @Override
+  public synchronized Stream<String> stream()
+  {
+    if (this.drained != null) {
+      return this.drained.stream();
+    }
+    if (this.streamed) {
+      throw new IllegalStateException(
+        "The positional arguments have already been streamed.");
+    }
+    this.streamed = true;
+
+    return StreamSupport.stream(
+      Spliterators.spliteratorUnknownSize(
+        new Tail(),
+        Spliterator.ORDERED | Spliterator.NONNULL
+      ),
+      false
+    );
+  }
+
+  /*
+   * Any arguments that were expanded before the stream was opened are
+   * served from the buffer; the rest are expanded one at a time.
+   */
+
+  private final class Tail implements Iterator<String>
+  {
+    private int index;
+    private String next;
+
+    Tail()
+    {
+      this.index = QStreamingArguments.this.from;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      if (this.next != null) {
+        return true;
+      }
+
+      final var buffered = QStreamingArguments.this.files;
+      synchronized (QStreamingArguments.this) {
+        if (this.index < buffered.count()) {
+          this.next = buffered.get(this.index);
+          ++this.index;
+        } else {
+          this.next = buffered.takeNext();
+        }
+      }
+
+      if (this.next == null) {
+        QStreamingArguments.this.checkErrors();
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public String next()
+    {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      final var result = this.next;
+      this.next = null;
+      return result;
+    }
+  }
+}
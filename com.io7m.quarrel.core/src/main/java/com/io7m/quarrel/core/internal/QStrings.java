@@ -20,7 +20,10 @@ package com.io7m.quarrel.core.internal;
 import com.io7m.jxtrand.vanilla.JXTAbstractStrings;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The string resources.
@@ -28,6 +31,17 @@ import java.util.Locale;
 
 public final class QStrings extends JXTAbstractStrings
 {
+  /*
+   * Locales may come from untrusted sources such as remote clients, so the
+   * cache is bounded. Resources for locales beyond the limit are loaded
+   * on each request.
+   */
+
+  private static final int CACHE_LIMIT = 64;
+
+  private static final ConcurrentHashMap<Locale, QStrings> CACHE =
+    new ConcurrentHashMap<>();
+
   /**
    * The string resources.
    *
@@ -47,4 +61,43 @@ public final class QStrings extends JXTAbstractStrings
       "Messages"
     );
   }
+
+  /**
+   * Retrieve the string resources for the given locale. The resources are
+   * loaded once per locale and then shared; the returned value is immutable
+   * and safe to use from multiple threads.
+   *
+   * @param locale The application locale
+   *
+   * @return The string resources
+   *
+   * @throws UncheckedIOException On I/O errors
+   */
+
+  public static QStrings forLocale(
+    final Locale locale)
+    throws UncheckedIOException
+  {
+    Objects.requireNonNull(locale, "locale");
+
+    final var existing = CACHE.get(locale);
+    if (existing != null) {
+      return existing;
+    }
+
+    if (CACHE.size() >= CACHE_LIMIT) {
+      return load(locale);
+    }
+    return CACHE.computeIfAbsent(locale, QStrings::load);
+  }
+
+  private static QStrings load(
+    final Locale locale)
+  {
+    try {
+      return new QStrings(locale);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
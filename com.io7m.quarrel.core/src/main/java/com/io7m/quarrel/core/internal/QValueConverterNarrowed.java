@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.quarrel.core.internal;
+
+import com.io7m.quarrel.core.QConversionResultType;
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QValueConverterType;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A converter for a supertype used to convert values of a subtype. A
+ * converter for {@code S} may produce values that are not instances of
+ * the subtype {@code T}, so every converted value is checked, and values
+ * of the wrong type are reported as conversion failures.
+ *
+ * @param <T> The type of converted values
+ */
+
+public final class QValueConverterNarrowed<T>
+  implements QValueConverterType<T>
+{
+  private final Class<T> type;
+  private final QValueConverterType<Object> converter;
+  private final QConversionFailure<T> failure;
+
+  /**
+   * A converter for a supertype used to convert values of a subtype.
+   *
+   * @param inType      The subtype
+   * @param inConverter The converter for a supertype of {@code inType}
+   */
+
+  @SuppressWarnings("unchecked")
+  public QValueConverterNarrowed(
+    final Class<T> inType,
+    final QValueConverterType<?> inConverter)
+  {
+    this.type =
+      Objects.requireNonNull(inType, "type");
+    this.converter =
+      (QValueConverterType<Object>) Objects.requireNonNull(
+        inConverter, "converter");
+
+    if (!this.converter.convertedClass().isAssignableFrom(inType)) {
+      throw new IllegalArgumentException(
+        "Converter type %s is not a supertype of %s"
+          .formatted(this.converter.convertedClass(), inType)
+      );
+    }
+
+    this.failure =
+      QConversionFailure.of(
+        "The converted value is not of type %s."
+          .formatted(inType.getCanonicalName())
+      );
+  }
+
+  /**
+   * @return The converter for the supertype
+   */
+
+  public QValueConverterType<?> converter()
+  {
+    return this.converter;
+  }
+
+  @Override
+  public T convertFromString(
+    final String text)
+    throws QException
+  {
+    return this.tryConvertFromString(text).orElseThrow();
+  }
+
+  @Override
+  public QConversionResultType<T> tryConvertFromString(
+    final String text)
+  {
+    return this.narrow(this.converter.tryConvertFromString(text));
+  }
+
+  @Override
+  public Optional<QConversionResultType<T>> checkSyntax(
+    final String text)
+  {
+    return this.converter.checkSyntax(text).map(this::narrow);
+  }
+
+  @SuppressWarnings("unchecked")
+  private QConversionResultType<T> narrow(
+    final QConversionResultType<Object> result)
+  {
+    if (result instanceof final QConversionSuccess<Object> success) {
+      if (this.type.isInstance(success.value())) {
+        return (QConversionResultType<T>) (Object) success;
+      }
+      return this.failure;
+    }
+    return (QConversionResultType<T>) (Object) result;
+  }
+
+  @Override
+  public String convertToString(
+    final T value)
+    throws QException
+  {
+    return this.converter.convertToString(value);
+  }
+
+  @Override
+  public T exampleValue()
+  {
+    final var example = this.converter.exampleValue();
+    if (this.type.isInstance(example)) {
+      return this.type.cast(example);
+    }
+    throw new IllegalStateException(
+      "Could not produce an example value of type %s"
+        .formatted(this.type)
+    );
+  }
+
+  @Override
+  public String syntax()
+  {
+    return this.converter.syntax();
+  }
+
+  @Override
+  public Class<T> convertedClass()
+  {
+    return this.type;
+  }
+}
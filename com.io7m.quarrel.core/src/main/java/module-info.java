@@ -31,5 +31,6 @@ module com.io7m.quarrel.core
     to com.io7m.jxtrand.vanilla;
 
   exports com.io7m.quarrel.core;
+  exports com.io7m.quarrel.core.converters;
   opens com.io7m.quarrel.core to com.io7m.jxtrand.vanilla;
 }
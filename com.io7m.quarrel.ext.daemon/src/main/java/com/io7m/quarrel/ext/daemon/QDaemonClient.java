@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.ext.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import static com.io7m.quarrel.ext.daemon.QDaemonProtocol.FRAME_ERROR;
+import static com.io7m.quarrel.ext.daemon.QDaemonProtocol.FRAME_EXIT;
+import static com.io7m.quarrel.ext.daemon.QDaemonProtocol.FRAME_OUTPUT;
+
+/**
+ * A client for {@link QDaemonServer}.
+ */
+
+public final class QDaemonClient
+{
+  private QDaemonClient()
+  {
+
+  }
+
+  /**
+   * Execute a command on the daemon listening on the given socket. Messages
+   * are localized using the default locale of the client, and the names of
+   * argument files given using @ syntax are resolved against the working
+   * directory of the client.
+   *
+   * @param socketPath The path of the socket
+   * @param arguments  The command-line arguments
+   * @param output     The receiver of command output
+   * @param error      The receiver of error messages
+   *
+   * @return The exit code of the command
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static int run(
+    final Path socketPath,
+    final List<String> arguments,
+    final Writer output,
+    final Writer error)
+    throws IOException
+  {
+    Objects.requireNonNull(socketPath, "socketPath");
+    Objects.requireNonNull(arguments, "arguments");
+    Objects.requireNonNull(output, "output");
+    Objects.requireNonNull(error, "error");
+
+    try (var channel =
+           SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+      final var channelOutput =
+        new DataOutputStream(
+          new BufferedOutputStream(Channels.newOutputStream(channel)));
+      final var channelInput =
+        new DataInputStream(
+          new BufferedInputStream(Channels.newInputStream(channel)));
+
+      QDaemonProtocol.writeRequest(
+        channelOutput,
+        Locale.getDefault(),
+        Paths.get("").toAbsolutePath().toString(),
+        arguments
+      );
+
+      while (true) {
+        final var type = channelInput.readUnsignedByte();
+        switch (type) {
+          case FRAME_OUTPUT -> {
+            output.write(QDaemonProtocol.readString(channelInput));
+            output.flush();
+          }
+          case FRAME_ERROR -> {
+            error.write(QDaemonProtocol.readString(channelInput));
+            error.flush();
+          }
+          case FRAME_EXIT -> {
+            return channelInput.readInt();
+          }
+          default -> {
+            throw new IOException(
+              "Unrecognized frame type: %d".formatted(type));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * The command-line entry point. The first argument is the path of the
+   * daemon socket, and the remaining arguments are passed to the daemon.
+   * The process exits with the exit code of the command.
+   *
+   * @param args The command-line arguments
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static void main(
+    final String[] args)
+    throws IOException
+  {
+    if (args.length < 1) {
+      System.err.println("usage: socket [arguments ...]");
+      System.exit(1);
+      return;
+    }
+
+    final var output =
+      new OutputStreamWriter(System.out, System.out.charset());
+    final var error =
+      new OutputStreamWriter(System.err, System.err.charset());
+
+    final var exitCode =
+      run(
+        Paths.get(args[0]),
+        List.of(args).subList(1, args.length),
+        output,
+        error
+      );
+
+    System.exit(exitCode);
+  }
+}
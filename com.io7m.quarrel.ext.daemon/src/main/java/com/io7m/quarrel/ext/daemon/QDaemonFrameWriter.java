@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.ext.daemon;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * A writer that buffers text and sends it to a client as protocol frames
+ * of a single type. Frames are sent when the buffer fills, or when the
+ * writer is flushed.
+ */
+
+final class QDaemonFrameWriter extends Writer
+{
+  private static final int FRAME_SIZE = 8192;
+
+  private final DataOutputStream output;
+  private final int frameType;
+  private final StringBuilder buffer;
+
+  QDaemonFrameWriter(
+    final DataOutputStream inOutput,
+    final int inFrameType)
+  {
+    this.output =
+      Objects.requireNonNull(inOutput, "output");
+    this.frameType =
+      inFrameType;
+    this.buffer =
+      new StringBuilder(FRAME_SIZE);
+  }
+
+  @Override
+  public void write(
+    final char[] text,
+    final int offset,
+    final int length)
+    throws IOException
+  {
+    synchronized (this.lock) {
+      this.buffer.append(text, offset, length);
+      if (this.buffer.length() >= FRAME_SIZE) {
+        this.sendFrame();
+      }
+    }
+  }
+
+  private void sendFrame()
+    throws IOException
+  {
+    if (!this.buffer.isEmpty()) {
+      synchronized (this.output) {
+        QDaemonProtocol.writeFrame(
+          this.output,
+          this.frameType,
+          this.buffer.toString()
+        );
+      }
+      this.buffer.setLength(0);
+    }
+  }
+
+  @Override
+  public void flush()
+    throws IOException
+  {
+    synchronized (this.lock) {
+      this.sendFrame();
+      synchronized (this.output) {
+        this.output.flush();
+      }
+    }
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.flush();
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.ext.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The wire protocol spoken between daemon clients and servers.
+ *
+ * <p>A client sends a single request consisting of the protocol magic
+ * number, the protocol version, the language tag of the client locale,
+ * the working directory of the client, and a count-prefixed list of
+ * length-prefixed UTF-8 arguments. The
+ * server replies with any number of output and error frames, followed by
+ * exactly one exit frame containing the exit code of the command.</p>
+ */
+
+final class QDaemonProtocol
+{
+  /**
+   * The magic number that begins every request ("QRLD").
+   */
+
+  static final int MAGIC = 0x51524c44;
+
+  /**
+   * The protocol version.
+   */
+
+  static final int VERSION = 2;
+
+  /**
+   * A frame containing command output.
+   */
+
+  static final int FRAME_OUTPUT = 1;
+
+  /**
+   * A frame containing error messages.
+   */
+
+  static final int FRAME_ERROR = 2;
+
+  /**
+   * A frame containing the command exit code. Always the last frame.
+   */
+
+  static final int FRAME_EXIT = 3;
+
+  private static final int MAXIMUM_ARGUMENTS = 65536;
+  private static final int MAXIMUM_STRING_OCTETS = 16 * 1024 * 1024;
+
+  private QDaemonProtocol()
+  {
+
+  }
+
+  /**
+   * A request from a client.
+   *
+   * @param locale           The client locale
+   * @param workingDirectory The client working directory
+   * @param arguments        The command-line arguments
+   */
+
+  record Request(
+    Locale locale,
+    String workingDirectory,
+    List<String> arguments)
+  {
+
+  }
+
+  static void writeRequest(
+    final DataOutputStream output,
+    final Locale locale,
+    final String workingDirectory,
+    final List<String> arguments)
+    throws IOException
+  {
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    writeString(output, locale.toLanguageTag());
+    writeString(output, workingDirectory);
+    output.writeInt(arguments.size());
+    for (final var argument : arguments) {
+      writeString(output, argument);
+    }
+    output.flush();
+  }
+
+  static Request readRequest(
+    final DataInputStream input)
+    throws IOException
+  {
+    final var magic = input.readInt();
+    if (magic != MAGIC) {
+      throw new IOException(
+        "Unrecognized magic number: 0x%08x".formatted(magic));
+    }
+    final var version = input.readInt();
+    if (version != VERSION) {
+      throw new IOException(
+        "Unsupported protocol version: %d".formatted(version));
+    }
+
+    final var locale =
+      Locale.forLanguageTag(readString(input));
+    final var workingDirectory =
+      readString(input);
+
+    final var count = input.readInt();
+    if (count < 0 || count > MAXIMUM_ARGUMENTS) {
+      throw new IOException(
+        "Argument count %d out of range".formatted(count));
+    }
+
+    final var arguments = new ArrayList<String>(count);
+    for (int index = 0; index < count; ++index) {
+      arguments.add(readString(input));
+    }
+    return new Request(locale, workingDirectory, List.copyOf(arguments));
+  }
+
+  static void writeFrame(
+    final DataOutputStream output,
+    final int type,
+    final String text)
+    throws IOException
+  {
+    output.writeByte(type);
+    writeString(output, text);
+  }
+
+  static void writeExit(
+    final DataOutputStream output,
+    final int exitCode)
+    throws IOException
+  {
+    output.writeByte(FRAME_EXIT);
+    output.writeInt(exitCode);
+    output.flush();
+  }
+
+  static void writeString(
+    final DataOutputStream output,
+    final String text)
+    throws IOException
+  {
+    final var data = text.getBytes(UTF_8);
+    output.writeInt(data.length);
+    output.write(data);
+  }
+
+  /*
+   * The length is checked before the data is allocated, and a truncated
+   * string raises EOFException rather than being silently shortened.
+   */
+
+  static String readString(
+    final DataInputStream input)
+    throws IOException
+  {
+    final var length = input.readInt();
+    if (length < 0 || length > MAXIMUM_STRING_OCTETS) {
+      throw new IOException(
+        "String length %d out of range".formatted(length));
+    }
+    final var data = new byte[length];
+    input.readFully(data);
+    return new String(data, UTF_8);
+  }
+}
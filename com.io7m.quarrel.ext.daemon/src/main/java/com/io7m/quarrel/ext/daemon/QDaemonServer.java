@@ -0,0 +1,342 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.ext.daemon;
+
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QErrorFormatting;
+import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QInvocationOptions;
+import com.io7m.quarrel.core.QParseResultType.QParseFailure;
+import com.io7m.seltzer.api.SStructuredErrorExceptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.io7m.quarrel.ext.daemon.QDaemonProtocol.FRAME_ERROR;
+import static com.io7m.quarrel.ext.daemon.QDaemonProtocol.FRAME_OUTPUT;
+
+/**
+ * A server that keeps an application resident and executes commands on
+ * behalf of clients connecting over a Unix domain socket.
+ *
+ * <p>Each connection carries exactly one invocation, and is served on its
+ * own virtual thread. Invocations may therefore run concurrently, and the
+ * commands of the application must be safe to execute from multiple
+ * threads. Each invocation writes to its own client, and messages are
+ * localized using the locale of the client.</p>
+ *
+ * <p>The names of argument files given using @ syntax are resolved against
+ * the working directory of the client. The standard input of the client is
+ * not forwarded, and so the {@code @-} argument is rejected.</p>
+ *
+ * @see QDaemonClient
+ */
+
+public final class QDaemonServer implements Closeable
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(QDaemonServer.class);
+
+  /*
+   * Build tools commonly start many invocations at once; the platform
+   * default backlog is small enough that connections are refused.
+   */
+
+  private static final int BACKLOG = 1024;
+
+  private final QApplicationType application;
+  private final Path socketPath;
+  private final ServerSocketChannel channel;
+  private final AtomicBoolean closed;
+  private final Set<SocketChannel> clients;
+
+  private QDaemonServer(
+    final QApplicationType inApplication,
+    final Path inSocketPath,
+    final ServerSocketChannel inChannel)
+  {
+    this.application =
+      Objects.requireNonNull(inApplication, "application");
+    this.socketPath =
+      Objects.requireNonNull(inSocketPath, "socketPath");
+    this.channel =
+      Objects.requireNonNull(inChannel, "channel");
+    this.closed =
+      new AtomicBoolean(false);
+    this.clients =
+      ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Start serving an application on the given socket.
+   *
+   * <p>If a socket file is left over from a previous server at the given
+   * path, it is deleted. If a server is still listening on the socket, or
+   * any other kind of file exists at the path, the server fails to
+   * start.</p>
+   *
+   * @param socketPath  The path of the socket
+   * @param application The application
+   *
+   * @return A running server
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static QDaemonServer start(
+    final Path socketPath,
+    final QApplicationType application)
+    throws IOException
+  {
+    Objects.requireNonNull(socketPath, "socketPath");
+    Objects.requireNonNull(application, "application");
+
+    deleteStaleSocket(socketPath);
+
+    final var channel =
+      ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+
+    try {
+      channel.bind(UnixDomainSocketAddress.of(socketPath), BACKLOG);
+    } catch (final IOException e) {
+      channel.close();
+      throw e;
+    }
+
+    final var server =
+      new QDaemonServer(application, socketPath, channel);
+
+    Thread.ofVirtual()
+      .name("com.io7m.quarrel.ext.daemon.accept")
+      .start(server::acceptLoop);
+
+    return server;
+  }
+
+  private static void deleteStaleSocket(
+    final Path socketPath)
+    throws IOException
+  {
+    try {
+      final var attributes =
+        Files.readAttributes(
+          socketPath,
+          BasicFileAttributes.class,
+          LinkOption.NOFOLLOW_LINKS
+        );
+      if (attributes.isOther()) {
+        checkNotListening(socketPath);
+        Files.delete(socketPath);
+      }
+    } catch (final NoSuchFileException e) {
+      // Nothing to delete.
+    }
+  }
+
+  /*
+   * A socket is only stale if connecting to it is refused; deleting the
+   * socket of a live server would silently take it offline.
+   */
+
+  private static void checkNotListening(
+    final Path socketPath)
+    throws IOException
+  {
+    final SocketChannel probe;
+    try {
+      probe = SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+    } catch (final ConnectException e) {
+      // The socket is stale.
+      return;
+    }
+
+    probe.close();
+    throw new IOException(
+      "A server is already listening on %s".formatted(socketPath));
+  }
+
+  /**
+   * @return The application being served
+   */
+
+  public QApplicationType application()
+  {
+    return this.application;
+  }
+
+  /**
+   * @return The path of the socket
+   */
+
+  public Path socketPath()
+  {
+    return this.socketPath;
+  }
+
+  private void acceptLoop()
+  {
+    while (!this.closed.get()) {
+      final SocketChannel client;
+      try {
+        client = this.channel.accept();
+      } catch (final ClosedChannelException e) {
+        return;
+      } catch (final IOException e) {
+        LOG.error("Failed to accept client: ", e);
+        if (!this.channel.isOpen()) {
+          return;
+        }
+        continue;
+      }
+
+      this.clients.add(client);
+      Thread.ofVirtual()
+        .name("com.io7m.quarrel.ext.daemon.client")
+        .start(() -> this.serve(client));
+    }
+  }
+
+  private void serve(
+    final SocketChannel client)
+  {
+    try (client) {
+      final var input =
+        new DataInputStream(
+          new BufferedInputStream(Channels.newInputStream(client)));
+      final var output =
+        new DataOutputStream(
+          new BufferedOutputStream(Channels.newOutputStream(client)));
+
+      final var request =
+        QDaemonProtocol.readRequest(input);
+      final var status =
+        this.invoke(request, output);
+
+      synchronized (output) {
+        QDaemonProtocol.writeExit(output, status.exitCode());
+      }
+    } catch (final IOException e) {
+      LOG.debug("Client connection failed: ", e);
+    } finally {
+      this.clients.remove(client);
+    }
+  }
+
+  private QCommandStatus invoke(
+    final QDaemonProtocol.Request request,
+    final DataOutputStream output)
+  {
+    final var commandOutput =
+      new PrintWriter(new QDaemonFrameWriter(output, FRAME_OUTPUT), false);
+    final var errorOutput =
+      new PrintWriter(new QDaemonFrameWriter(output, FRAME_ERROR), false);
+    final var options =
+      new QInvocationOptions(
+        commandOutput,
+        Optional.of(request.locale()),
+        Optional.of(Paths.get(request.workingDirectory())),
+        Optional.of(new QDaemonNoInput())
+      );
+    final var localization =
+      this.application.localizationFor(request.locale());
+
+    try {
+      final var result =
+        this.application.parseResult(request.arguments(), options);
+
+      if (result instanceof final QParseFailure failure) {
+        for (final var error : failure.errors()) {
+          QErrorFormatting.format(localization, error, errorOutput::print);
+        }
+        return QCommandStatus.FAILURE;
+      }
+      return result.orElseThrow().execute();
+    } catch (final QException e) {
+      QErrorFormatting.format(localization, e, errorOutput::print);
+      for (final var error : e.extraErrors()) {
+        QErrorFormatting.format(localization, error, errorOutput::print);
+      }
+      return QCommandStatus.FAILURE;
+    } catch (final Exception e) {
+      if (e instanceof final SStructuredErrorExceptionType<?> se) {
+        QErrorFormatting.format(localization, se, errorOutput::print);
+      } else {
+        errorOutput.println(
+          Objects.requireNonNullElse(e.getMessage(), e.getClass().getName()));
+      }
+      LOG.debug("Command failed: ", e);
+      return QCommandStatus.FAILURE;
+    } finally {
+      commandOutput.flush();
+      errorOutput.flush();
+    }
+  }
+
+  /**
+   * Stop the server. Connected clients are disconnected, and the socket
+   * file is deleted.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      try {
+        this.channel.close();
+        for (final var client : this.clients) {
+          try {
+            client.close();
+          } catch (final IOException e) {
+            LOG.debug("Failed to close client: ", e);
+          }
+        }
+      } finally {
+        Files.deleteIfExists(this.socketPath);
+      }
+    }
+  }
+}
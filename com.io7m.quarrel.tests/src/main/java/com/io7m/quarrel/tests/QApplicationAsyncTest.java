@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.tests;
+
+import com.io7m.quarrel.core.QApplication;
+import com.io7m.quarrel.core.QApplicationMetadata;
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QCommandStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.io7m.quarrel.core.QCommandStatus.FAILURE;
+import static com.io7m.quarrel.core.QCommandStatus.SUCCESS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(value = 30L, unit = TimeUnit.SECONDS)
+public final class QApplicationAsyncTest
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(QApplicationAsyncTest.class);
+
+  private static final QApplicationMetadata METADATA =
+    new QApplicationMetadata(
+      "example",
+      "com.io7m.example",
+      "1.0.0",
+      "eb916bb8",
+      "The Quarrel example application.",
+      Optional.of(URI.create("http://www.example.com/"))
+    );
+
+  private QCommandSleep sleep;
+  private QApplicationType application;
+
+  @BeforeEach
+  public void setup()
+  {
+    this.sleep = new QCommandSleep();
+
+    final var builder = QApplication.builder(METADATA);
+    builder.setOutput(
+      new PrintWriter(new ByteArrayOutputStream(), false, UTF_8));
+    builder.addCommand(new QCommandEcho());
+    builder.addCommand(this.sleep);
+    this.application = builder.build();
+  }
+
+  /**
+   * Commands run asynchronously on virtual threads by default.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRunAsync()
+    throws Exception
+  {
+    final var futures = new ArrayList<CompletableFuture<QCommandStatus>>();
+    for (int index = 0; index < 500; ++index) {
+      futures.add(
+        this.application.runAsync(LOG, List.of("echo", "x"))
+      );
+    }
+    for (final var future : futures) {
+      assertEquals(SUCCESS, future.get());
+    }
+  }
+
+  /**
+   * Parse errors result in failure.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRunAsyncParseError()
+    throws Exception
+  {
+    final var future =
+      this.application.runAsync(LOG, List.of("nonexistent"));
+    assertEquals(FAILURE, future.get());
+  }
+
+  /**
+   * Commands run on the given executor.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRunAsyncExecutor()
+    throws Exception
+  {
+    try (var executor = Executors.newSingleThreadExecutor()) {
+      final var future =
+        this.application.runAsync(LOG, List.of("echo", "x"), executor);
+      assertEquals(SUCCESS, future.get());
+    }
+  }
+
+  /**
+   * Commands that exceed the timeout fail and are interrupted.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRunAsyncTimeout()
+    throws Exception
+  {
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var future =
+        this.application.runAsync(
+          LOG,
+          List.of("sleep"),
+          executor,
+          Optional.of(Duration.ofMillis(100L))
+        );
+
+      assertEquals(FAILURE, future.get());
+      assertTrue(this.sleep.interrupted().await(10L, TimeUnit.SECONDS));
+    }
+  }
+
+  /**
+   * A timeout fires even if the executor running the command has no other
+   * threads available.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRunAsyncTimeoutSingleThread()
+    throws Exception
+  {
+    try (var executor = Executors.newSingleThreadExecutor()) {
+      final var future =
+        this.application.runAsync(
+          LOG,
+          List.of("sleep"),
+          executor,
+          Optional.of(Duration.ofMillis(100L))
+        );
+
+      assertEquals(FAILURE, future.get(10L, TimeUnit.SECONDS));
+      assertTrue(this.sleep.interrupted().await(10L, TimeUnit.SECONDS));
+    }
+  }
+
+  /**
+   * Cancelling a command interrupts it.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRunAsyncCancel()
+    throws Exception
+  {
+    final var future =
+      this.application.runAsync(LOG, List.of("sleep"));
+
+    assertTrue(this.sleep.started().await(10L, TimeUnit.SECONDS));
+    future.cancel(true);
+
+    assertThrows(CancellationException.class, future::get);
+    assertTrue(this.sleep.interrupted().await(10L, TimeUnit.SECONDS));
+  }
+
+  /**
+   * An executor that rejects the command fails the future rather than
+   * throwing to the caller.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRunAsyncRejected()
+    throws Exception
+  {
+    final var future =
+      this.application.runAsync(
+        LOG,
+        List.of("echo", "x"),
+        task -> {
+          throw new RejectedExecutionException();
+        },
+        Optional.of(Duration.ofMillis(10L))
+      );
+
+    final var ex =
+      assertThrows(ExecutionException.class, future::get);
+    assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+  }
+
+  /**
+   * An interrupt that was not sent by the invocation is left in place on
+   * the thread that ran the command.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRunAsyncPreservesInterrupt()
+    throws Exception
+  {
+    Thread.currentThread().interrupt();
+
+    final var future =
+      this.application.runAsync(LOG, List.of("echo", "x"), Runnable::run);
+
+    assertTrue(Thread.interrupted());
+    assertEquals(SUCCESS, future.get());
+  }
+}
@@ -18,38 +18,73 @@
 package com.io7m.quarrel.tests;
 
 import com.io7m.quarrel.core.QApplication;
+import com.io7m.quarrel.core.QApplicationCommandGroupBuilderType;
 import com.io7m.quarrel.core.QApplicationMetadata;
+import com.io7m.quarrel.core.QApplicationType;
+import com.io7m.quarrel.core.QArgumentsType;
+import com.io7m.quarrel.core.QAtSyntaxConfiguration;
+import com.io7m.quarrel.core.QAtSyntaxFormat;
+import com.io7m.quarrel.core.QCommandContextType;
 import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandOrGroupType;
+import com.io7m.quarrel.core.QCommandTreeResolver;
+import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionErrorDoesNotExist;
+import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionOKCommand;
+import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionOKGroup;
+import com.io7m.quarrel.core.QCommandTreeResolver.QResolutionRoot;
 import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QInvocationOptions;
 import com.io7m.quarrel.core.QParameterPositional;
+import com.io7m.quarrel.core.QParseResultType.QParseFailure;
+import com.io7m.quarrel.core.QParseResultType.QParseSuccess;
+import com.io7m.quarrel.core.QStringType;
 import com.io7m.quarrel.core.QStringType.QConstant;
+import com.io7m.quarrel.core.QUncheckedException;
 import com.io7m.quarrel.core.QValueConverterDirectory;
 import com.io7m.quarrel.core.QValueConverterDirectoryType;
 import com.io7m.quarrel.ext.xstructural.QCommandXS;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.SortedMap;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.io7m.quarrel.core.QCommandStatus.FAILURE;
 import static com.io7m.quarrel.core.QCommandStatus.SUCCESS;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class QApplicationTest
 {
@@ -594,6 +629,362 @@ public final class QApplicationTest
     }
   }
 
+  @Test
+  public void testNameResolutionWideDeep()
+    throws QException
+  {
+    final var builder =
+      QApplication.builder(METADATA);
+    builder.setOutput(this.writer);
+
+    QApplicationCommandGroupBuilderType level =
+      builder.createCommandGroup(group("g0"));
+
+    for (int depth = 0; depth < 5; ++depth) {
+      for (int index = 0; index < 200; ++index) {
+        level.addCommand(new QCommandEmpty("c%03d".formatted(index)));
+      }
+      if (depth < 4) {
+        level = level.createCommandGroup(group("g%d".formatted(depth + 1)));
+      }
+    }
+
+    final var app = builder.build();
+
+    {
+      final var c = app.parse(List.of("g0", "g1", "g2", "g3"));
+      assertEquals("help", c.command().metadata().name());
+      assertEquals(
+        List.of("g0", "g1", "g2", "g3"),
+        c.parametersPositionalRaw()
+      );
+    }
+
+    for (int index = 0; index < 200; ++index) {
+      final var name = "c%03d".formatted(index);
+      final var c =
+        app.parse(List.of("g0", "g1", "g2", "g3", "g4", name, "x", "y"));
+      assertEquals(name, c.command().metadata().name());
+      assertEquals(List.of("x", "y"), c.parametersPositionalRaw());
+    }
+
+    {
+      final var ex = assertThrows(QException.class, () -> {
+        app.parse(List.of("g0", "g1", "c200"));
+      });
+      assertEquals("command-nonexistent", ex.errorCode());
+    }
+  }
+
+  @Test
+  public void testCommandTreeView()
+  {
+    final var builder =
+      QApplication.builder(METADATA);
+    builder.setOutput(this.writer);
+    builder.addCommand(new QCommandEmpty("x0"));
+    builder.addCommand(new QCommandEmpty("x1"));
+    builder.addCommand(new QCommandEmpty("x2"));
+
+    final var app = builder.build();
+    final var tree = app.commandTree();
+
+    assertEquals(
+      List.of("help", "version", "x0", "x1", "x2"),
+      List.copyOf(tree.keySet())
+    );
+    assertEquals("help", tree.firstKey());
+    assertEquals("x2", tree.lastKey());
+    assertEquals(
+      List.of("x0", "x1"),
+      List.copyOf(tree.subMap("x0", "x2").keySet())
+    );
+    assertEquals(
+      List.of("help"),
+      List.copyOf(tree.headMap("version").keySet())
+    );
+    assertEquals(
+      List.of("x1", "x2"),
+      List.copyOf(tree.tailMap("x1").keySet())
+    );
+    assertEquals("x1", tree.get("x1").metadata().name());
+    assertNull(tree.get("x3"));
+
+    assertThrows(UnsupportedOperationException.class, () -> {
+      tree.put("x3", new QCommandEmpty("x3"));
+    });
+    assertThrows(UnsupportedOperationException.class, () -> {
+      tree.remove("x0");
+    });
+  }
+
+  @Test
+  public void testTreeResolver()
+  {
+    final var builder =
+      QApplication.builder(METADATA);
+    builder.setOutput(this.writer);
+
+    final var y = builder.createCommandGroup(group("y"));
+    y.addCommand(new QCommandEmpty("y0"));
+
+    final var tree = builder.build().commandTree();
+
+    {
+      final var r = assertInstanceOf(
+        QResolutionOKCommand.class,
+        QCommandTreeResolver.resolve(tree, List.of("y", "y0", "a", "b"))
+      );
+      assertEquals("y0", r.command().metadata().name());
+      assertEquals(List.of("y", "y0"), r.path());
+      assertEquals(List.of("a", "b"), r.remaining());
+    }
+
+    {
+      final var r = assertInstanceOf(
+        QResolutionOKGroup.class,
+        QCommandTreeResolver.resolve(tree, List.of("y"))
+      );
+      assertEquals("y", r.target().metadata().name());
+      assertEquals(List.of("y"), r.path());
+    }
+
+    {
+      final var r = assertInstanceOf(
+        QResolutionErrorDoesNotExist.class,
+        QCommandTreeResolver.resolve(tree, List.of("y", "z", "a"))
+      );
+      assertEquals("z", r.badName());
+      assertEquals(List.of("y", "z"), r.path());
+    }
+
+    assertEquals(
+      QResolutionRoot.ROOT,
+      QCommandTreeResolver.resolve(tree, List.of())
+    );
+  }
+
+  @Test
+  public void testInvocationOptionsOutput()
+    throws Exception
+  {
+    final var builder =
+      QApplication.builder(METADATA);
+    builder.setOutput(this.writer);
+    builder.addCommand(new QCommandEcho());
+
+    final var app = builder.build();
+    final var text = new StringWriter();
+    final var options =
+      new QInvocationOptions(
+        new PrintWriter(text),
+        Optional.of(Locale.GERMAN)
+      );
+
+    final var c = app.parse(List.of("echo", "x", "y"), options);
+    assertEquals(SUCCESS, c.execute());
+    assertEquals("x y" + System.lineSeparator(), text.toString());
+
+    this.writer.flush();
+    assertEquals(0, this.output.size());
+
+    final var ex = assertThrows(QException.class, () -> {
+      app.parse(List.of("nonexistent"), options);
+    });
+    assertEquals("command-nonexistent", ex.errorCode());
+  }
+
+  @Test
+  public void testInvocationOptionsInternalResources()
+    throws Exception
+  {
+    final var defaults =
+      QApplication.builder(METADATA)
+        .build()
+        .internalResources();
+
+    final var app =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .setInternalResources(new CustomResources(defaults))
+        .build();
+
+    for (final var locale : List.of(Locale.GERMAN, Locale.ITALY)) {
+      final var options =
+        new QInvocationOptions(this.writer, Optional.of(locale));
+      final var failure =
+        assertInstanceOf(
+          QParseFailure.class,
+          app.parseResult(List.of("nonexistent"), options)
+        );
+      assertEquals("Custom.", failure.errors().get(0).message());
+    }
+  }
+
+  @Test
+  public void testParseResultSuccess()
+    throws Exception
+  {
+    final var builder =
+      QApplication.builder(METADATA);
+    builder.setOutput(this.writer);
+    builder.addCommand(new QCommandEcho());
+
+    final var app = builder.build();
+    final var r = app.parseResult(List.of("echo", "x", "y"));
+
+    final var success = assertInstanceOf(QParseSuccess.class, r);
+    assertEquals(SUCCESS, success.context().execute());
+    assertSame(success.context(), r.orElseThrow());
+  }
+
+  @Test
+  public void testParseResultErrors()
+  {
+    final var builder =
+      QApplication.builder(METADATA);
+    builder.setOutput(this.writer);
+    builder.addCommand(new QCommandParametersEverything());
+
+    final var app = builder.build();
+    final var arguments = List.of("cmd-everything");
+    final var r = app.parseResult(arguments);
+
+    final var failure = assertInstanceOf(QParseFailure.class, r);
+    final var errors = failure.errors();
+    assertTrue(errors.size() > 1);
+    for (final var error : errors) {
+      assertEquals("parameter-cardinality", error.errorCode());
+    }
+
+    final var ex = assertThrows(QException.class, () -> {
+      app.parse(arguments);
+    });
+    assertEquals(errors.get(0).errorCode(), ex.errorCode());
+    assertEquals(errors.get(0).message(), ex.getMessage());
+    assertEquals(errors.get(0).attributes(), ex.attributes());
+    assertEquals(errors.size() - 1, ex.extraErrors().size());
+    assertEquals(FAILURE, app.run(LOG, arguments));
+  }
+
+  @Test
+  public void testParseResultNonexistent()
+  {
+    final var app =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .build();
+
+    final var r = app.parseResult(List.of("nonexistent"));
+    final var failure = assertInstanceOf(QParseFailure.class, r);
+    assertEquals(1, failure.errors().size());
+    assertEquals("command-nonexistent", failure.errors().get(0).errorCode());
+    assertTrue(failure.errors().get(0).exception().isEmpty());
+  }
+
+  @Test
+  public void testParseResultDefault()
+    throws Exception
+  {
+    final var builder =
+      QApplication.builder(METADATA);
+    builder.setOutput(this.writer);
+    builder.addCommand(new QCommandParametersEverything());
+    builder.addCommand(new QCommandEcho());
+
+    final var app = new ParseOnlyApplication(builder.build());
+
+    final var success =
+      assertInstanceOf(
+        QParseSuccess.class,
+        app.parseResult(List.of("echo", "x"))
+      );
+    assertEquals(SUCCESS, success.context().execute());
+
+    final var arguments = List.of("cmd-everything");
+    final var ex = assertThrows(QException.class, () -> {
+      app.parse(arguments);
+    });
+
+    final var failure =
+      assertInstanceOf(
+        QParseFailure.class,
+        app.parseResult(arguments, new QInvocationOptions(this.writer))
+      );
+    final var errors = failure.errors();
+    assertEquals(1 + ex.extraErrors().size(), errors.size());
+    assertEquals(ex.errorCode(), errors.get(0).errorCode());
+    assertEquals(ex.getMessage(), errors.get(0).message());
+    assertEquals(ex.extraErrors(), errors.subList(1, errors.size()));
+    assertEquals(FAILURE, app.run(LOG, arguments));
+  }
+
+  @Test
+  public void testParseResultAtSyntaxMissingFile()
+  {
+    final var app =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .allowAtSyntax(true)
+        .build();
+
+    final var r = app.parseResult(List.of("@nonexistent"));
+    final var failure = assertInstanceOf(QParseFailure.class, r);
+    final var error = failure.errors().get(0);
+    assertEquals("io", error.errorCode());
+    assertInstanceOf(IOException.class, error.exception().orElseThrow());
+
+    final var ex = failure.toException();
+    assertInstanceOf(IOException.class, ex.getCause());
+  }
+
+  @Test
+  public void testParseFailureNonEmpty()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      new QParseFailure(List.of());
+    });
+  }
+
+  @Test
+  @Timeout(value = 30L, unit = TimeUnit.SECONDS)
+  public void testConcurrentInvocations()
+    throws Exception
+  {
+    final var builder =
+      QApplication.builder(METADATA);
+    builder.setOutput(this.writer);
+    builder.addCommand(new QCommandEcho());
+
+    final var app = builder.build();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var tasks = new ArrayList<Callable<String>>();
+      for (int index = 0; index < 1000; ++index) {
+        final var name = Integer.toString(index);
+        final Optional<Locale> locale =
+          (index % 2 == 0) ? Optional.empty() : Optional.of(Locale.ITALY);
+
+        tasks.add(() -> {
+          final var text = new StringWriter();
+          final var options =
+            new QInvocationOptions(new PrintWriter(text), locale);
+          final var c = app.parse(List.of("echo", name), options);
+          assertEquals(SUCCESS, c.execute());
+          return text.toString();
+        });
+      }
+
+      final var results = executor.invokeAll(tasks);
+      for (int index = 0; index < results.size(); ++index) {
+        assertEquals(
+          index + System.lineSeparator(),
+          results.get(index).get()
+        );
+      }
+    }
+  }
+
   @Test
   public void testXstructuralMain()
     throws Exception
@@ -644,6 +1035,567 @@ public final class QApplicationTest
     assertNotEquals("", this.output.toString(UTF_8));
   }
 
+  @Test
+  public void testBuildRejectsDuplicateParameters()
+  {
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer);
+
+    final var group =
+      builder.createCommandGroup(group("g"));
+    group.addCommand(new QCommandParametersCollision0());
+
+    final var ex =
+      assertThrows(IllegalArgumentException.class, builder::build);
+    final var cause =
+      assertInstanceOf(QException.class, ex.getCause());
+
+    assertEquals("parameter-duplicate", cause.errorCode());
+  }
+
+  @Test
+  public void testBuildRejectsMissingConverters()
+  {
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .addCommand(new QCommandParametersNoType());
+
+    final var ex =
+      assertThrows(IllegalArgumentException.class, builder::build);
+    final var cause =
+      assertInstanceOf(QException.class, ex.getCause());
+
+    assertEquals("parameter-no-value-converter", cause.errorCode());
+  }
+
+  @Test
+  public void testAtSyntaxNested()
+    throws Exception
+  {
+    final var outer = this.directory.resolve("outer.txt");
+    final var inner = this.directory.resolve("inner.txt");
+    final var last = this.directory.resolve("last.txt");
+    Files.writeString(outer, "a\r\n@inner.txt\r\nd\r\n");
+    Files.writeString(inner, "b\n# comment\n  c  \n");
+    Files.writeString(last, "f");
+
+    final var app =
+      this.atSyntaxApplication(
+        new QAtSyntaxConfiguration(true, true, 2, 1000, 1000));
+
+    final var command =
+      app.parse(List.of("@" + outer, "e", "@" + last));
+
+    assertEquals("d", command.command().metadata().name());
+    assertEquals(List.of("e", "f"), command.parametersPositionalRaw());
+  }
+
+  @Test
+  public void testAtSyntaxFirstOnly()
+    throws Exception
+  {
+    final var app =
+      this.atSyntaxApplication(QAtSyntaxConfiguration.defaults());
+
+    final var command =
+      app.parse(List.of("a", "b", "c", "d", "@x"));
+
+    assertEquals(List.of("@x"), command.parametersPositionalRaw());
+  }
+
+  @Test
+  public void testAtSyntaxLarge()
+    throws Exception
+  {
+    final var file = this.directory.resolve("large.txt");
+    final var expected = new ArrayList<String>();
+    try (var out = Files.newBufferedWriter(file)) {
+      out.write("a\nb\nc\nd\n");
+      for (int index = 0; index < 20000; ++index) {
+        final var text = "/some/path/%d/\u00e9t\u00e9".formatted(index);
+        expected.add(text);
+        out.write(text);
+        out.newLine();
+      }
+    }
+
+    final var app =
+      this.atSyntaxApplication(QAtSyntaxConfiguration.defaults());
+
+    final var command =
+      app.parse(List.of("@" + file));
+
+    final var raw = command.parametersPositionalRaw();
+    assertEquals(expected, raw);
+
+    final var views = assertInstanceOf(QArgumentsType.class, raw);
+    for (int index = 0; index < expected.size(); ++index) {
+      assertEquals(
+        0, CharSequence.compare(expected.get(index), views.view(index)));
+    }
+
+    final var view = views.view(100);
+    assertEquals("/some/path/100/\u00e9t\u00e9", view.toString());
+    assertEquals("path", view.subSequence(6, 10).toString());
+    assertEquals('/', view.charAt(0));
+    assertEquals(expected.subList(10, 20), views.subList(10, 20));
+    assertEquals(
+      "/some/path/15/\u00e9t\u00e9",
+      views.subList(10, 20).view(5).toString());
+
+    assertSame(raw.get(100), raw.get(100));
+    assertSame(raw.get(15), views.subList(10, 20).get(5));
+  }
+
+  @Test
+  public void testAtSyntaxCycle()
+    throws Exception
+  {
+    final var file0 = this.directory.resolve("file0.txt");
+    final var file1 = this.directory.resolve("file1.txt");
+    Files.writeString(file0, "a\n@file1.txt\n");
+    Files.writeString(file1, "b\n@file0.txt\n");
+
+    final var app =
+      this.atSyntaxApplication(
+        new QAtSyntaxConfiguration(false, true, 16, 1000, 1000));
+
+    final var ex =
+      assertThrows(QException.class, () -> {
+        app.parse(List.of("@" + file0));
+      });
+    assertEquals("argument-file-cycle", ex.errorCode());
+  }
+
+  @Test
+  public void testAtSyntaxLimits()
+    throws Exception
+  {
+    final var file0 = this.directory.resolve("file0.txt");
+    final var file1 = this.directory.resolve("file1.txt");
+    Files.writeString(file0, "a\n@file1.txt\n");
+    Files.writeString(file1, "b\nc\nd\n");
+
+    final var arguments = List.of("@" + file0);
+
+    final var depth =
+      assertThrows(QException.class, () -> {
+        this.atSyntaxApplication(
+            new QAtSyntaxConfiguration(false, true, 1, 1000, 1000))
+          .parse(arguments);
+      });
+    assertEquals("argument-file-depth", depth.errorCode());
+
+    final var size =
+      assertThrows(QException.class, () -> {
+        this.atSyntaxApplication(
+            new QAtSyntaxConfiguration(false, true, 2, 4, 1000))
+          .parse(arguments);
+      });
+    assertEquals("argument-file-size", size.errorCode());
+
+    final var count =
+      assertThrows(QException.class, () -> {
+        this.atSyntaxApplication(
+            new QAtSyntaxConfiguration(false, true, 2, 1000, 3))
+          .parse(arguments);
+      });
+    assertEquals("argument-file-count", count.errorCode());
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      new QAtSyntaxConfiguration(false, true, 0, 1000, 1000);
+    });
+  }
+
+  @Test
+  public void testAtSyntaxStreaming()
+    throws Exception
+  {
+    final var file = this.directory.resolve("stream.txt");
+    final var expected = new ArrayList<String>();
+    try (var out = Files.newBufferedWriter(file)) {
+      out.write("stream\n--prefix\nx\n");
+      for (int index = 0; index < 20000; ++index) {
+        final var text = "/some/path/%d".formatted(index);
+        expected.add(text);
+        out.write(text);
+        out.newLine();
+      }
+    }
+
+    final var app =
+      this.streamingApplication(QAtSyntaxConfiguration.defaults());
+    final var command =
+      app.parse(List.of("@" + file));
+
+    assertEquals("x", command.parameterValue(QCommandStreaming.PREFIX));
+    assertEquals(
+      expected,
+      command.parametersPositionalStream().toList()
+    );
+
+    assertThrows(IllegalStateException.class, () -> {
+      command.parametersPositionalStream();
+    });
+    assertThrows(IllegalStateException.class, () -> {
+      command.parametersPositionalRaw().size();
+    });
+  }
+
+  @Test
+  public void testAtSyntaxStreamingBounded()
+    throws Exception
+  {
+    final var file = this.directory.resolve("stream.txt");
+    final var lines = 1_000_000;
+    try (var out = Files.newBufferedWriter(file)) {
+      out.write("stream\n--prefix\nx\n");
+      for (int index = 0; index < lines; ++index) {
+        out.write("/some/path/%07d".formatted(index));
+        out.newLine();
+      }
+    }
+
+    final var app =
+      this.streamingApplication(QAtSyntaxConfiguration.defaults());
+
+    final var before = usedMemory();
+    final var command = app.parse(List.of("@" + file));
+    final var iterator = command.parametersPositionalStream().iterator();
+
+    for (int index = 0; index < lines / 2; ++index) {
+      iterator.next();
+    }
+
+    final var retained = usedMemory() - before;
+    LOG.debug("Retained {} bytes whilst streaming", retained);
+    assertTrue(
+      retained < Files.size(file) / 2L,
+      "Retained %d bytes".formatted(retained)
+    );
+
+    int remaining = 0;
+    while (iterator.hasNext()) {
+      iterator.next();
+      ++remaining;
+    }
+    assertEquals(lines - lines / 2, remaining);
+  }
+
+  @Test
+  public void testAtSyntaxStreamingUnexpanded()
+    throws Exception
+  {
+    final var app =
+      this.streamingApplication(QAtSyntaxConfiguration.defaults());
+    final var command =
+      app.parse(List.of("stream", "--prefix", "x", "a", "b"));
+
+    assertEquals("x", command.parameterValue(QCommandStreaming.PREFIX));
+    assertEquals(List.of("a", "b"), command.parametersPositionalRaw());
+    assertEquals(
+      List.of("a", "b"),
+      command.parametersPositionalStream().toList()
+    );
+    assertEquals(
+      List.of("a", "b"),
+      command.parametersPositionalStream().toList()
+    );
+  }
+
+  @Test
+  public void testAtSyntaxStreamingError()
+    throws Exception
+  {
+    final var file = this.directory.resolve("stream.txt");
+    Files.writeString(
+      file, "stream\n--prefix\nx\na\nb\n@nonexistent.txt\nc\n");
+
+    final var app =
+      this.streamingApplication(
+        new QAtSyntaxConfiguration(false, true, 16, 1000, 1000));
+    final var command =
+      app.parse(List.of("@" + file));
+
+    final var iterator =
+      command.parametersPositionalStream().iterator();
+
+    assertEquals("a", iterator.next());
+    assertEquals("b", iterator.next());
+
+    final var ex =
+      assertThrows(QUncheckedException.class, iterator::hasNext);
+    assertEquals("io", ex.errorCode());
+  }
+
+  @Test
+  public void testAtSyntaxWorkingDirectory()
+    throws Exception
+  {
+    Files.writeString(this.directory.resolve("args.txt"), "a\nb\nc\nd\n");
+
+    final var options =
+      new QInvocationOptions(
+        new PrintWriter(new StringWriter()),
+        Optional.empty(),
+        Optional.of(this.directory),
+        Optional.empty()
+      );
+
+    final var command =
+      this.atSyntaxApplication(QAtSyntaxConfiguration.defaults())
+        .parse(List.of("@args.txt"), options);
+
+    assertEquals("d", command.command().metadata().name());
+  }
+
+  @Test
+  public void testAtSyntaxInput()
+    throws Exception
+  {
+    final var input =
+      new ByteArrayInputStream("a\r\nb\n\nc\nd".getBytes(UTF_8));
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .setInput(input);
+
+    builder.createCommandGroup(group("a"))
+      .createCommandGroup(group("b"))
+      .createCommandGroup(group("c"))
+      .addCommand(new QCommandEmpty("d"));
+
+    final var command =
+      builder.build().parse(List.of("@-"));
+
+    assertEquals("d", command.command().metadata().name());
+  }
+
+  @Test
+  @Timeout(value = 10L, unit = TimeUnit.SECONDS)
+  public void testAtSyntaxInputIncremental()
+    throws Exception
+  {
+    try (var output = new PipedOutputStream();
+         var input = new PipedInputStream(output)) {
+      final var builder =
+        QApplication.builder(METADATA)
+          .setOutput(this.writer)
+          .setInput(input);
+      builder.addCommand(new QCommandStreaming());
+      final var app = builder.build();
+
+      /*
+       * Parsing completes before the end of the input is reached.
+       */
+
+      output.write("stream\n--prefix\nx\nfirst\n".getBytes(UTF_8));
+      final var command =
+        app.parse(List.of("@-"));
+
+      assertEquals("x", command.parameterValue(QCommandStreaming.PREFIX));
+
+      final var iterator =
+        command.parametersPositionalStream().iterator();
+
+      assertEquals("first", iterator.next());
+      output.write("second\n".getBytes(UTF_8));
+      assertEquals("second", iterator.next());
+      output.write("third".getBytes(UTF_8));
+      output.close();
+      assertEquals("third", iterator.next());
+      assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test
+  public void testAtSyntaxInputLimit()
+    throws Exception
+  {
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .setAtSyntaxConfiguration(
+          new QAtSyntaxConfiguration(false, false, 16, 4, 1000))
+        .setInput(new ByteArrayInputStream("stream\n".getBytes(UTF_8)));
+    builder.addCommand(new QCommandStreaming());
+
+    final var ex =
+      assertThrows(QException.class, () -> {
+        builder.build().parse(List.of("@-"));
+      });
+    assertEquals("argument-file-size", ex.errorCode());
+  }
+
+  @Test
+  public void testAtSyntaxInputLimitLongLine()
+    throws Exception
+  {
+    final var line = "x".repeat(100_000);
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .setAtSyntaxConfiguration(
+          new QAtSyntaxConfiguration(false, false, 16, 20_000, 1000))
+        .setInput(new ByteArrayInputStream(line.getBytes(UTF_8)));
+    builder.addCommand(new QCommandStreaming());
+
+    final var ex =
+      assertThrows(QException.class, () -> {
+        builder.build().parse(List.of("@-"));
+      });
+    assertEquals("argument-file-size", ex.errorCode());
+  }
+
+  @Test
+  public void testAtSyntaxQuoted()
+    throws Exception
+  {
+    final var file = this.directory.resolve("quoted.txt");
+    Files.writeString(
+      file,
+      String.join(
+        "\n",
+        "# A comment.",
+        "stream --prefix p",
+        "a b 'c d' \"e\\\"f\\ng\" h\\ i \\",
+        "  j \"multi",
+        "line\" '' x#y # Another comment.",
+        "'@k'\r\nl\\\r\nm"
+      )
+    );
+
+    final var app =
+      this.quotedApplication(QAtSyntaxConfiguration.defaults());
+    final var command =
+      app.parse(List.of("@" + file));
+
+    assertEquals("p", command.parameterValue(QCommandStreaming.PREFIX));
+    assertEquals(
+      List.of(
+        "a",
+        "b",
+        "c d",
+        "e\"f\ng",
+        "h i",
+        "j",
+        "multi\nline",
+        "",
+        "x#y",
+        "@k",
+        "lm"
+      ),
+      command.parametersPositionalStream().toList()
+    );
+  }
+
+  @Test
+  public void testAtSyntaxQuotedNested()
+    throws Exception
+  {
+    final var file0 = this.directory.resolve("file0.txt");
+    final var file1 = this.directory.resolve("file1.txt");
+    Files.writeString(file0, "stream --prefix p \"@x\" @file1.txt z");
+    Files.writeString(file1, "one 'two three'\n");
+
+    final var app =
+      this.quotedApplication(
+        new QAtSyntaxConfiguration(false, true, 16, 1000, 1000));
+    final var command =
+      app.parse(List.of("@" + file0));
+
+    assertEquals(
+      List.of("@x", "one", "two three", "z"),
+      command.parametersPositionalRaw()
+    );
+  }
+
+  @Test
+  public void testAtSyntaxQuotedUnterminated()
+    throws Exception
+  {
+    final var app =
+      this.quotedApplication(QAtSyntaxConfiguration.defaults());
+
+    for (final var text : List.of("'a", "\"a\\\"", "a\\")) {
+      final var file = this.directory.resolve("quoted.txt");
+      Files.writeString(file, "stream --prefix p\n" + text);
+
+      final var ex =
+        assertThrows(QException.class, () -> {
+          app.parse(List.of("@" + file));
+        });
+      assertEquals("argument-file-syntax", ex.errorCode());
+      assertEquals("2", ex.attributes().get("Line"));
+    }
+
+    for (final var newline : List.of("\n", "\r\n")) {
+      final var file = this.directory.resolve("quoted.txt");
+      Files.writeString(
+        file,
+        String.join(newline, "stream --prefix p\\", "", "'b"));
+
+      final var ex =
+        assertThrows(QException.class, () -> {
+          app.parse(List.of("@" + file));
+        });
+      assertEquals("argument-file-syntax", ex.errorCode());
+      assertEquals("3", ex.attributes().get("Line"));
+    }
+  }
+
+  private QApplicationType quotedApplication(
+    final QAtSyntaxConfiguration configuration)
+  {
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .setAtSyntaxConfiguration(configuration)
+        .setAtSyntaxFormat(QAtSyntaxFormat.QUOTED);
+
+    builder.addCommand(new QCommandStreaming());
+    return builder.build();
+  }
+
+  private QApplicationType streamingApplication(
+    final QAtSyntaxConfiguration configuration)
+  {
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .setAtSyntaxConfiguration(configuration);
+
+    builder.addCommand(new QCommandStreaming());
+    return builder.build();
+  }
+
+  private QApplicationType atSyntaxApplication(
+    final QAtSyntaxConfiguration configuration)
+  {
+    final var builder =
+      QApplication.builder(METADATA)
+        .setOutput(this.writer)
+        .setAtSyntaxConfiguration(configuration);
+
+    builder.createCommandGroup(group("a"))
+      .createCommandGroup(group("b"))
+      .createCommandGroup(group("c"))
+      .addCommand(new QCommandEmpty("d"));
+
+    return builder.build();
+  }
+
+  private static long usedMemory()
+  {
+    final var runtime = Runtime.getRuntime();
+    for (int index = 0; index < 3; ++index) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
   private static QCommandMetadata group(
     final String name)
   {
@@ -653,4 +1605,94 @@ public final class QApplicationTest
       Optional.empty()
     );
   }
+
+  private static final class CustomResources extends ListResourceBundle
+  {
+    CustomResources(
+      final ResourceBundle parent)
+    {
+      this.setParent(parent);
+    }
+
+    @Override
+    protected Object[][] getContents()
+    {
+      return new Object[][]{
+        {"quarrel.errorCommandNonexistent", "Custom."},
+      };
+    }
+  }
+
+  private static final class ParseOnlyApplication implements QApplicationType
+  {
+    private final QApplicationType delegate;
+
+    ParseOnlyApplication(
+      final QApplicationType inDelegate)
+    {
+      this.delegate = inDelegate;
+    }
+
+    @Override
+    public QApplicationMetadata metadata()
+    {
+      return this.delegate.metadata();
+    }
+
+    @Override
+    public SortedMap<String, QCommandOrGroupType> commandTree()
+    {
+      return this.delegate.commandTree();
+    }
+
+    @Override
+    public ResourceBundle internalResources()
+    {
+      return this.delegate.internalResources();
+    }
+
+    @Override
+    public ResourceBundle applicationResources()
+    {
+      return this.delegate.applicationResources();
+    }
+
+    @Override
+    public QValueConverterDirectoryType valueConverters()
+    {
+      return this.delegate.valueConverters();
+    }
+
+    @Override
+    public QCommandContextType parse(
+      final List<String> arguments)
+      throws QException
+    {
+      return this.delegate.parse(arguments);
+    }
+
+    @Override
+    public QCommandContextType parse(
+      final List<String> arguments,
+      final QInvocationOptions options)
+      throws QException
+    {
+      return this.delegate.parse(arguments, options);
+    }
+
+    @Override
+    public String localize(
+      final QStringType string)
+    {
+      return this.delegate.localize(string);
+    }
+
+    @Override
+    public String format(
+      final QStringType string,
+      final Object... arguments)
+    {
+      return this.delegate.format(string, arguments);
+    }
+  }
 }
@@ -31,7 +31,7 @@ import java.util.Optional;
 
 import static com.io7m.quarrel.core.QCommandStatus.SUCCESS;
 
-final class QCommandParameter0N implements QCommandType
+public final class QCommandParameter0N implements QCommandType
 {
   public static final QParameterNamed0N<String> PARAMETER =
     new QParameterNamed0N<>(
@@ -42,7 +42,7 @@ final class QCommandParameter0N implements QCommandType
       String.class
     );
 
-  QCommandParameter0N()
+  public QCommandParameter0N()
   {
 
   }
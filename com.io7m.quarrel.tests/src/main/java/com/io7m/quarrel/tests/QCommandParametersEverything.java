@@ -40,7 +40,7 @@ import java.util.UUID;
 
 import static com.io7m.quarrel.core.QCommandStatus.SUCCESS;
 
-final class QCommandParametersEverything implements QCommandType
+public final class QCommandParametersEverything implements QCommandType
 {
   public static final QParameterNamed01<String> PARAMETER_0 =
     new QParameterNamed01<>(
@@ -150,7 +150,7 @@ stranger to his chamber at once.
    * An example command.
    */
 
-  QCommandParametersEverything()
+  public QCommandParametersEverything()
   {
 
   }
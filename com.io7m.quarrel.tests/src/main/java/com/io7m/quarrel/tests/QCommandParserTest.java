@@ -16,25 +16,44 @@
 
 package com.io7m.quarrel.tests;
 
+import com.io7m.quarrel.core.QApplication;
+import com.io7m.quarrel.core.QApplicationMetadata;
+import com.io7m.quarrel.core.QBindingSpec;
 import com.io7m.quarrel.core.QCommandParserConfiguration;
 import com.io7m.quarrel.core.QCommandParsers;
+import com.io7m.quarrel.core.QConversionStrategyType;
+import com.io7m.quarrel.core.QConversionStrategyType.QConversionParallel;
 import com.io7m.quarrel.core.QException;
+import com.io7m.quarrel.core.QParameterPositional;
+import com.io7m.quarrel.core.QStringType.QConstant;
+import com.io7m.quarrel.core.QUncheckedException;
 import com.io7m.quarrel.core.QValueConverterDirectory;
 import com.io7m.quarrel.core.QValueConverterDirectoryType;
+import com.io7m.quarrel.core.QValueConverterType;
+import com.io7m.quarrel.core.converters.QVCDeferred;
+import com.io7m.quarrel.core.converters.QVCInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
+import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class QCommandParserTest
 {
@@ -326,6 +345,35 @@ public final class QCommandParserTest
     );
   }
 
+  @Test
+  @Timeout(value = 10L, unit = TimeUnit.SECONDS)
+  public void testParameters0NScaling()
+    throws QException
+  {
+    final var count = 100_000;
+    final var arguments = new ArrayList<String>(count * 2);
+    for (int index = 0; index < count; ++index) {
+      arguments.add("--file");
+      arguments.add(Integer.toString(index));
+    }
+
+    final var c =
+      this.parsers.create(this.configuration)
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParameter0N(),
+          arguments
+        );
+
+    final var values =
+      c.parameterValues(QCommandParameter0N.PARAMETER);
+
+    assertEquals(count, values.size());
+    assertEquals("0", values.get(0));
+    assertEquals(Integer.toString(count - 1), values.get(count - 1));
+  }
+
   @Test
   public void testParameters0ND()
     throws QException
@@ -473,6 +521,10 @@ public final class QCommandParserTest
 
     LOG.error("", ex);
     assertEquals("parameter-unparseable-value", ex.errorCode());
+    assertEquals(
+      "Expected a decimal integer in the range [-2^31, 2^31 - 1].",
+      ex.attributes().get("Reason")
+    );
   }
 
   @Test
@@ -657,6 +709,10 @@ public final class QCommandParserTest
 
     LOG.error("", ex);
     assertEquals("parameter-unparseable-value", ex.errorCode());
+    assertEquals(
+      "Expected a decimal integer in the range [-2^31, 2^31 - 1].",
+      ex.attributes().get("Reason")
+    );
   }
 
   @Test
@@ -677,4 +733,635 @@ public final class QCommandParserTest
     LOG.error("", ex);
     assertEquals("parameter-unrecognized", ex.errorCode());
   }
+
+  private QCommandParserConfiguration parallel()
+  {
+    return new QCommandParserConfiguration(
+      this.converters,
+      QCommandParsers.emptyResources(),
+      new QConversionParallel(1, 4, ForkJoinPool.commonPool())
+    );
+  }
+
+  @Test
+  public void testParallelNamedOrder()
+    throws QException
+  {
+    final var arguments = new ArrayList<String>();
+    final var expected = new ArrayList<Integer>();
+    for (int index = 0; index < 1000; ++index) {
+      arguments.add("--int");
+      arguments.add(Integer.toString(index));
+      expected.add(Integer.valueOf(index));
+    }
+    arguments.add("extra");
+
+    final var c =
+      this.parsers.create(this.parallel())
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParameterInt0N(),
+          arguments
+        );
+
+    assertEquals(expected, c.parameterValues(QCommandParameterInt0N.PARAMETER));
+    assertEquals(List.of("extra"), c.parametersPositionalRaw());
+  }
+
+  @Test
+  public void testParallelNamedFirstError()
+  {
+    final var arguments = new ArrayList<String>();
+    for (int index = 0; index < 1000; ++index) {
+      arguments.add("--int");
+      arguments.add(
+        switch (index) {
+          case 500 -> "first";
+          case 900 -> "second";
+          default -> Integer.toString(index);
+        });
+    }
+
+    final var exSequential =
+      assertThrows(QException.class, () -> {
+        this.parsers.create(this.configuration)
+          .execute(
+            Collections.emptySortedMap(),
+            this.writer,
+            new QCommandParameterInt0N(),
+            arguments
+          );
+      });
+
+    final var exParallel =
+      assertThrows(QException.class, () -> {
+        this.parsers.create(this.parallel())
+          .execute(
+            Collections.emptySortedMap(),
+            this.writer,
+            new QCommandParameterInt0N(),
+            arguments
+          );
+      });
+
+    assertEquals("parameter-unparseable-value", exParallel.errorCode());
+    assertEquals(exSequential.attributes(), exParallel.attributes());
+    assertTrue(exParallel.attributes().containsValue("first"));
+  }
+
+  @Test
+  public void testParallelNamedErrorPriority()
+  {
+    final var ex =
+      assertThrows(QException.class, () -> {
+        this.parsers.create(this.parallel())
+          .execute(
+            Collections.emptySortedMap(),
+            this.writer,
+            new QCommandParametersNamedMany(),
+            List.of("--number", "x", "--number", "1")
+          );
+      });
+
+    LOG.error("", ex);
+    assertEquals("parameter-unparseable-value", ex.errorCode());
+  }
+
+  @Test
+  public void testParallelPositional()
+    throws QException
+  {
+    final var c =
+      this.parsers.create(this.parallel())
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParameterPositionals0(),
+          List.of("23", "24", "25")
+        );
+
+    assertEquals(
+      Integer.valueOf(24),
+      c.parameterValue(QCommandParameterPositionals0.PARAMETER_1));
+
+    final var ex =
+      assertThrows(QException.class, () -> {
+        this.parsers.create(this.parallel())
+          .execute(
+            Collections.emptySortedMap(),
+            this.writer,
+            new QCommandParameterPositionals0(),
+            List.of("23", "y", "z")
+          );
+      });
+
+    assertEquals("parameter-unparseable-value", ex.errorCode());
+    assertTrue(ex.attributes().containsValue("y"));
+  }
+
+  private QCommandParserConfiguration lazy(
+    final QValueConverterDirectoryType directory)
+  {
+    return new QCommandParserConfiguration(
+      directory,
+      QCommandParsers.emptyResources(),
+      QConversionStrategyType.lazy()
+    );
+  }
+
+  @Test
+  public void testLazyNamed()
+    throws QException
+  {
+    final var counting = new CountingIntegers();
+    final var c =
+      this.parsers.create(
+          this.lazy(this.converters.with(new QVCDeferred<>(counting))))
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParametersNamedMany(),
+          List.of("--number", "23", "--file", "x")
+        );
+
+    assertEquals(0, counting.count.get());
+    assertEquals(List.of("x"), c.parameterValues(
+      QCommandParametersNamedMany.PARAMETER_0));
+    assertEquals(0, counting.count.get());
+
+    assertEquals(
+      Integer.valueOf(23),
+      c.parameterValue(QCommandParametersNamedMany.PARAMETER_1));
+    assertEquals(
+      Integer.valueOf(23),
+      c.parameterValue(QCommandParametersNamedMany.PARAMETER_1));
+    assertEquals(1, counting.count.get());
+
+    assertEquals(
+      Integer.valueOf(23),
+      c.parameterValue(QCommandParametersNamedMany.PARAMETER_2));
+    assertEquals(1, counting.count.get());
+  }
+
+  @Test
+  public void testLazyNamedInvalid()
+    throws QException
+  {
+    final var c =
+      this.parsers.create(
+          this.lazy(this.converters.with(new QVCDeferred<>(QVCInteger.get()))))
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParametersNamedMany(),
+          List.of("--number", "x")
+        );
+
+    final var ex =
+      assertThrows(QUncheckedException.class, () -> {
+        c.parameterValue(QCommandParametersNamedMany.PARAMETER_1);
+      });
+
+    LOG.error("", ex);
+    assertEquals("parameter-unparseable-value", ex.errorCode());
+    assertEquals("parameter-unparseable-value", ex.getCause().errorCode());
+  }
+
+  @Test
+  public void testLazyCheckedEagerly()
+  {
+    final var ex =
+      assertThrows(QException.class, () -> {
+        this.parsers.create(this.lazy(this.converters))
+          .execute(
+            Collections.emptySortedMap(),
+            this.writer,
+            new QCommandParametersNamedMany(),
+            List.of("--number", "x")
+          );
+      });
+
+    LOG.error("", ex);
+    assertEquals("parameter-unparseable-value", ex.errorCode());
+  }
+
+  @Test
+  public void testLazyPositional()
+    throws QException
+  {
+    final var counting = new CountingIntegers();
+    final var c =
+      this.parsers.create(
+          this.lazy(this.converters.with(new QVCDeferred<>(counting))))
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParameterPositionals0(),
+          List.of("23", "24", "x")
+        );
+
+    assertEquals(0, counting.count.get());
+    assertEquals(
+      Integer.valueOf(24),
+      c.parameterValue(QCommandParameterPositionals0.PARAMETER_1));
+    assertEquals(1, counting.count.get());
+
+    final var ex =
+      assertThrows(QUncheckedException.class, () -> {
+        c.parameterValue(QCommandParameterPositionals0.PARAMETER_2);
+      });
+    assertEquals("parameter-unparseable-value", ex.errorCode());
+  }
+
+  @Test
+  public void testPrimitiveNamed()
+    throws QException
+  {
+    final var arguments = new ArrayList<String>();
+    final var expected = new ArrayList<Integer>();
+    for (int index = 0; index < 1000; ++index) {
+      arguments.add("--int");
+      arguments.add(Integer.toString(index - 500));
+      expected.add(Integer.valueOf(index - 500));
+    }
+
+    final var expectedArray =
+      expected.stream()
+        .mapToInt(Integer::intValue)
+        .toArray();
+
+    final var configurations =
+      List.of(this.configuration, this.parallel());
+
+    for (final var configuration : configurations) {
+      final var c =
+        this.parsers.create(configuration)
+          .execute(
+            Collections.emptySortedMap(),
+            this.writer,
+            new QCommandParameterInt0N(),
+            arguments
+          );
+
+      assertArrayEquals(
+        expectedArray,
+        c.parameterValuesInt(QCommandParameterInt0N.PARAMETER));
+      assertEquals(
+        expected,
+        c.parameterValues(QCommandParameterInt0N.PARAMETER));
+    }
+  }
+
+  @Test
+  public void testPrimitiveNamedInvalid()
+  {
+    final var ex =
+      assertThrows(QException.class, () -> {
+        this.parsers.create(this.configuration)
+          .execute(
+            Collections.emptySortedMap(),
+            this.writer,
+            new QCommandParameterInt0N(),
+            List.of("--int", "1", "--int", "2147483648")
+          );
+      });
+
+    LOG.error("", ex);
+    assertEquals("parameter-unparseable-value", ex.errorCode());
+    assertTrue(ex.attributes().containsValue("2147483648"));
+  }
+
+  @Test
+  public void testPrimitiveNamed1()
+    throws QException
+  {
+    final var c =
+      this.parsers.create(this.configuration)
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParameterInt1(),
+          List.of("--int", "23")
+        );
+
+    assertEquals(23, c.parameterValueInt(QCommandParameterInt1.PARAMETER));
+    assertArrayEquals(
+      new int[]{23},
+      c.parameterValuesInt(QCommandParameterInt1.PARAMETER));
+  }
+
+  @Test
+  public void testPositionalBulk()
+    throws QException
+  {
+    final var c =
+      this.parsers.create(this.configuration)
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParameterPositionals0(),
+          List.of("23", "24", "25")
+        );
+
+    assertArrayEquals(
+      new Object[]{
+        Integer.valueOf(23),
+        Integer.valueOf(24),
+        Integer.valueOf(25)
+      },
+      c.parameterValuesPositional()
+    );
+
+    final var equal =
+      new QParameterPositional<>(
+        "y",
+        new QConstant("A y."),
+        Integer.class
+      );
+
+    assertEquals(Integer.valueOf(24), c.parameterValue(equal));
+  }
+
+  @Test
+  public void testPositionalBulkAny()
+    throws QException
+  {
+    final var c =
+      this.parsers.create(this.configuration)
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParameterInt0N(),
+          List.of("x", "y")
+        );
+
+    assertArrayEquals(new Object[0], c.parameterValuesPositional());
+    assertEquals(List.of("x", "y"), c.parametersPositionalRaw());
+  }
+
+  @Test
+  public void testBindNamed()
+    throws QException
+  {
+    final var binding =
+      QBindingSpec.builder(MethodHandles.lookup(), NamedOptions.class)
+        .bind("files", QCommandParametersNamedMany.PARAMETER_0)
+        .bind("number", QCommandParametersNamedMany.PARAMETER_1)
+        .bind("numberOpt", QCommandParametersNamedMany.PARAMETER_2)
+        .build();
+
+    final var c =
+      this.parsers.create(this.configuration)
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParametersNamedMany(),
+          List.of("--number", "23", "--file", "x", "--file", "y")
+        );
+
+    assertEquals(
+      new NamedOptions(List.of("x", "y"), 23, Integer.valueOf(23)),
+      c.bind(binding)
+    );
+  }
+
+  @Test
+  public void testBindPositional()
+    throws QException
+  {
+    final var binding =
+      QBindingSpec.builder(MethodHandles.lookup(), PositionalOptions.class)
+        .bind("x", QCommandParameterPositionals0.PARAMETER_0)
+        .bind("y", QCommandParameterPositionals0.PARAMETER_1)
+        .bind("z", QCommandParameterPositionals0.PARAMETER_2)
+        .build();
+
+    final var c =
+      this.parsers.create(this.configuration)
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParameterPositionals0(),
+          List.of("23", "24", "25")
+        );
+
+    assertEquals(
+      new PositionalOptions(23, Integer.valueOf(24), Integer.valueOf(25)),
+      c.bind(binding)
+    );
+  }
+
+  @Test
+  public void testBindRepeated()
+    throws QException
+  {
+    final var binding =
+      QBindingSpec.builder(MethodHandles.lookup(), NamedOptions.class)
+        .bind("files", QCommandParametersNamedMany.PARAMETER_0)
+        .bind("number", QCommandParametersNamedMany.PARAMETER_1)
+        .bind("numberOpt", QCommandParametersNamedMany.PARAMETER_2)
+        .build();
+
+    final var application =
+      QApplication.builder(
+          new QApplicationMetadata(
+            "example",
+            "com.io7m.example",
+            "1.0.0",
+            "eb916bb8",
+            "The Quarrel example application.",
+            Optional.empty()
+          ))
+        .setOutput(this.writer)
+        .addCommand(new QCommandParametersNamedMany())
+        .addCommand(new QCommandParameterPositionals0())
+        .build();
+
+    final var c0 =
+      application.parse(
+        List.of("cmd-named-many", "--number", "23", "--file", "x"));
+    final var c1 =
+      application.parse(
+        List.of(
+          "cmd-named-many",
+          "--file", "y", "--number", "24", "--number-opt", "25"));
+
+    assertEquals(
+      new NamedOptions(List.of("x"), 23, Integer.valueOf(23)),
+      c0.bind(binding)
+    );
+    assertEquals(
+      new NamedOptions(List.of("y"), 24, Integer.valueOf(25)),
+      c1.bind(binding)
+    );
+
+    final var other =
+      application.parse(List.of("cmd-positionals0", "23", "24", "25"));
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      other.bind(binding);
+    });
+    assertEquals(
+      new NamedOptions(List.of("x"), 23, Integer.valueOf(23)),
+      c0.bind(binding)
+    );
+  }
+
+  @Test
+  public void testBindListsUnmodifiable()
+    throws QException
+  {
+    final var binding =
+      QBindingSpec.builder(MethodHandles.lookup(), NamedOptions.class)
+        .bind("files", QCommandParametersNamedMany.PARAMETER_0)
+        .bind("number", QCommandParametersNamedMany.PARAMETER_1)
+        .bind("numberOpt", QCommandParametersNamedMany.PARAMETER_2)
+        .build();
+
+    final var c0 =
+      this.parsers.create(this.configuration)
+        .execute(
+          Collections.emptySortedMap(),
+          this.writer,
+          new QCommandParametersNamedMany(),
+          List.of("--number", "23", "--file", "x")
+        );
+
+    final var application =
+      QApplication.builder(
+          new QApplicationMetadata(
+            "example",
+            "com.io7m.example",
+            "1.0.0",
+            "eb916bb8",
+            "The Quarrel example application.",
+            Optional.empty()
+          ))
+        .setOutput(this.writer)
+        .addCommand(new QCommandParametersNamedMany())
+        .build();
+
+    final var c1 =
+      application.parse(
+        List.of("cmd-named-many", "--number", "23", "--file", "x"));
+
+    for (final var context : List.of(c0, c1)) {
+      final var files = context.bind(binding).files();
+      assertThrows(UnsupportedOperationException.class, () -> {
+        files.add("y");
+      });
+      assertEquals(
+        new NamedOptions(List.of("x"), 23, Integer.valueOf(23)),
+        context.bind(binding)
+      );
+    }
+  }
+
+  @Test
+  public void testBindInvalid()
+  {
+    final var lookup = MethodHandles.lookup();
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      QBindingSpec.builder(lookup, NamedOptions.class)
+        .bind("files", QCommandParametersNamedMany.PARAMETER_0)
+        .bind("number", QCommandParametersNamedMany.PARAMETER_1)
+        .build();
+    });
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      QBindingSpec.builder(lookup, NamedOptions.class)
+        .bind("files", QCommandParametersNamedMany.PARAMETER_0)
+        .bind("number", QCommandParametersNamedMany.PARAMETER_1)
+        .bind("numberOpt", QCommandParametersNamedMany.PARAMETER_2)
+        .bind("other", QCommandParametersNamedMany.PARAMETER_2)
+        .build();
+    });
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      QBindingSpec.builder(lookup, NamedOptions.class)
+        .bind("files", QCommandParametersNamedMany.PARAMETER_1)
+        .bind("number", QCommandParametersNamedMany.PARAMETER_1)
+        .bind("numberOpt", QCommandParametersNamedMany.PARAMETER_2)
+        .build();
+    });
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      QBindingSpec.builder(lookup, NamedOptions.class)
+        .bind("files", QCommandParametersNamedMany.PARAMETER_0)
+        .bind("number", QCommandParametersNamedMany.PARAMETER_0)
+        .bind("numberOpt", QCommandParametersNamedMany.PARAMETER_2)
+        .build();
+    });
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      QBindingSpec.builder(lookup, WrongElements.class)
+        .bind("files", QCommandParametersNamedMany.PARAMETER_0)
+        .build();
+    });
+  }
+
+  private static final class CountingIntegers
+    implements QValueConverterType<Integer>
+  {
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Integer convertFromString(
+      final String text)
+      throws QException
+    {
+      this.count.incrementAndGet();
+      return QVCInteger.get().convertFromString(text);
+    }
+
+    @Override
+    public String convertToString(
+      final Integer value)
+      throws QException
+    {
+      return QVCInteger.get().convertToString(value);
+    }
+
+    @Override
+    public Integer exampleValue()
+    {
+      return QVCInteger.get().exampleValue();
+    }
+
+    @Override
+    public String syntax()
+    {
+      return QVCInteger.get().syntax();
+    }
+
+    @Override
+    public Class<Integer> convertedClass()
+    {
+      return Integer.class;
+    }
+  }
+
+  private record NamedOptions(
+    List<String> files,
+    int number,
+    Integer numberOpt)
+  {
+
+  }
+
+  private record PositionalOptions(
+    int x,
+    Integer y,
+    Number z)
+  {
+
+  }
+
+  private record WrongElements(
+    List<Integer> files)
+  {
+
+  }
 }
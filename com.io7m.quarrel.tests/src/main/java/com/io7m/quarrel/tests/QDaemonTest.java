@@ -0,0 +1,425 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.tests;
+
+import com.io7m.quarrel.core.QApplication;
+import com.io7m.quarrel.core.QApplicationMetadata;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QParametersPositionalNone;
+import com.io7m.quarrel.core.QParametersPositionalType;
+import com.io7m.quarrel.core.QStringType;
+import com.io7m.quarrel.ext.daemon.QDaemonClient;
+import com.io7m.quarrel.ext.daemon.QDaemonServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(value = 30L, unit = TimeUnit.SECONDS)
+public final class QDaemonTest
+{
+  private static final QApplicationMetadata METADATA =
+    new QApplicationMetadata(
+      "example",
+      "com.io7m.example",
+      "1.0.0",
+      "eb916bb8",
+      "The Quarrel example application.",
+      Optional.of(URI.create("http://www.example.com/"))
+    );
+
+  private Path directory;
+  private Path socket;
+  private QDaemonServer server;
+
+  @BeforeEach
+  public void setup()
+    throws IOException
+  {
+    this.directory =
+      QTestDirectories.createTempDirectory();
+    this.socket =
+      this.directory.resolve("daemon.sock");
+
+    final var builder = QApplication.builder(METADATA);
+    builder.addCommand(new QCommandEcho());
+    this.server = QDaemonServer.start(this.socket, builder.build());
+  }
+
+  @AfterEach
+  public void tearDown()
+    throws IOException
+  {
+    this.server.close();
+    QTestDirectories.deleteDirectory(this.directory);
+  }
+
+  /**
+   * Command output and exit codes are returned to the client.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEcho()
+    throws Exception
+  {
+    final var output = new StringWriter();
+    final var error = new StringWriter();
+
+    final var code =
+      QDaemonClient.run(this.socket, List.of("echo", "a", "b"), output, error);
+
+    assertEquals(0, code);
+    assertEquals("a b" + System.lineSeparator(), output.toString());
+    assertEquals("", error.toString());
+  }
+
+  /**
+   * Parse errors are formatted and returned to the client.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testNonexistent()
+    throws Exception
+  {
+    final var output = new StringWriter();
+    final var error = new StringWriter();
+
+    final var code =
+      QDaemonClient.run(this.socket, List.of("nonexistent"), output, error);
+
+    assertEquals(1, code);
+    assertEquals("", output.toString());
+    assertTrue(error.toString().contains("command-nonexistent"));
+  }
+
+  /**
+   * Concurrent invocations receive only their own output.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrent()
+    throws Exception
+  {
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var tasks = new ArrayList<Callable<String>>();
+      for (int index = 0; index < 64; ++index) {
+        final var text = Integer.toString(index);
+        tasks.add(() -> {
+          final var output = new StringWriter();
+          final var error = new StringWriter();
+          final var code =
+            QDaemonClient.run(
+              this.socket,
+              List.of("echo", text),
+              output,
+              error
+            );
+          assertEquals(0, code);
+          return output.toString();
+        });
+      }
+
+      final var results = executor.invokeAll(tasks);
+      for (int index = 0; index < results.size(); ++index) {
+        assertEquals(
+          index + System.lineSeparator(),
+          results.get(index).get()
+        );
+      }
+    }
+  }
+
+  /**
+   * Closing the server deletes the socket.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCloseDeletesSocket()
+    throws Exception
+  {
+    assertTrue(Files.exists(this.socket));
+    this.server.close();
+    assertFalse(Files.exists(this.socket));
+  }
+
+  /**
+   * Starting a second server on the socket of a live server fails, and
+   * leaves the live server running. A stale socket is replaced.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSocketInUse()
+    throws Exception
+  {
+    final var application =
+      QApplication.builder(METADATA)
+        .build();
+
+    assertThrows(IOException.class, () -> {
+      QDaemonServer.start(this.socket, application);
+    });
+
+    final var output = new StringWriter();
+    final var error = new StringWriter();
+    final var code =
+      QDaemonClient.run(this.socket, List.of("echo", "a"), output, error);
+    assertEquals(0, code);
+
+    final var stale = this.directory.resolve("stale.sock");
+    try (var channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+      channel.bind(UnixDomainSocketAddress.of(stale));
+    }
+    assertTrue(Files.exists(stale));
+    QDaemonServer.start(stale, application).close();
+  }
+
+  /**
+   * A truncated request is rejected rather than executed with a shortened
+   * argument.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testTruncatedRequest()
+    throws Exception
+  {
+    final var bytes = new ByteArrayOutputStream();
+    try (var data = new DataOutputStream(bytes)) {
+      data.writeInt(0x51524c44);
+      data.writeInt(2);
+      data.writeInt(2);
+      data.write("en".getBytes(UTF_8));
+      data.writeInt(1);
+      data.write("/".getBytes(UTF_8));
+      data.writeInt(1);
+      data.writeInt(100);
+      data.write("echo".getBytes(UTF_8));
+    }
+
+    try (var channel =
+           SocketChannel.open(UnixDomainSocketAddress.of(this.socket))) {
+      channel.write(ByteBuffer.wrap(bytes.toByteArray()));
+      channel.shutdownOutput();
+      assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+    }
+  }
+
+  /**
+   * Argument files are read, but the daemon never reads its own standard
+   * input on behalf of a client.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testAtSyntax()
+    throws Exception
+  {
+    final var file = this.directory.resolve("arguments.txt");
+    Files.writeString(file, "echo\na\nb\n");
+
+    final var output = new StringWriter();
+    final var error = new StringWriter();
+
+    final var code =
+      QDaemonClient.run(this.socket, List.of("@" + file), output, error);
+
+    assertEquals(0, code);
+    assertEquals("a b" + System.lineSeparator(), output.toString());
+
+    final var inputOutput = new StringWriter();
+    final var inputError = new StringWriter();
+
+    final var inputCode =
+      QDaemonClient.run(this.socket, List.of("@-"), inputOutput, inputError);
+
+    assertEquals(1, inputCode);
+    assertEquals("", inputOutput.toString());
+    assertTrue(inputError.toString().contains("io"));
+  }
+
+  /**
+   * Errors are formatted with the internal resources of the application.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testInternalResources()
+    throws Exception
+  {
+    final var defaults =
+      QApplication.builder(METADATA)
+        .build()
+        .internalResources();
+
+    final var customSocket =
+      this.directory.resolve("custom.sock");
+    final var application =
+      QApplication.builder(METADATA)
+        .setInternalResources(new CustomResources(defaults))
+        .build();
+
+    final var customServer =
+      QDaemonServer.start(customSocket, application);
+
+    try {
+      final var output = new StringWriter();
+      final var error = new StringWriter();
+
+      final var code =
+        QDaemonClient.run(customSocket, List.of("nonexistent"), output, error);
+
+      assertEquals(1, code);
+      assertTrue(error.toString().contains("Custom code"));
+    } finally {
+      customServer.close();
+    }
+  }
+
+  /**
+   * Exceptions without messages are still reported to the client.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testExceptionWithoutMessage()
+    throws Exception
+  {
+    final var crashSocket =
+      this.directory.resolve("crash.sock");
+    final var builder = QApplication.builder(METADATA);
+    builder.addCommand(new Crash());
+
+    final var crashServer =
+      QDaemonServer.start(crashSocket, builder.build());
+
+    try {
+      final var output = new StringWriter();
+      final var error = new StringWriter();
+
+      final var code =
+        QDaemonClient.run(crashSocket, List.of("crash"), output, error);
+
+      assertEquals(1, code);
+      assertEquals(
+        NullPointerException.class.getName() + System.lineSeparator(),
+        error.toString()
+      );
+    } finally {
+      crashServer.close();
+    }
+  }
+
+  private static final class CustomResources extends ListResourceBundle
+  {
+    CustomResources(
+      final ResourceBundle parent)
+    {
+      this.setParent(parent);
+    }
+
+    @Override
+    protected Object[][] getContents()
+    {
+      return new Object[][]{
+        {"quarrel.error_code", "Custom code"},
+      };
+    }
+  }
+
+  private static final class Crash implements QCommandType
+  {
+    Crash()
+    {
+
+    }
+
+    @Override
+    public QCommandMetadata metadata()
+    {
+      return new QCommandMetadata(
+        "crash",
+        new QStringType.QConstant("Fail without a message."),
+        Optional.empty()
+      );
+    }
+
+    @Override
+    public List<QParameterNamedType<?>> onListNamedParameters()
+    {
+      return List.of();
+    }
+
+    @Override
+    public QParametersPositionalType onListPositionalParameters()
+    {
+      return new QParametersPositionalNone();
+    }
+
+    @Override
+    public QCommandStatus onExecute(
+      final QCommandContextType context)
+    {
+      throw new NullPointerException();
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.quarrel.tests;
+
+import com.io7m.quarrel.core.QCommandParsers;
+import com.io7m.quarrel.core.QLocalization;
+import com.io7m.quarrel.core.QStringType.QLocalize;
+import org.junit.jupiter.api.Test;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class QLocalizationTest
+{
+  private static final class Resources extends ListResourceBundle
+  {
+    @Override
+    protected Object[][] getContents()
+    {
+      return new Object[][]{
+        {"quarrel.command", "Kommando"},
+      };
+    }
+  }
+
+  @Test
+  public void testCachedPerLocale()
+  {
+    final var l0 = QLocalization.create(Locale.ROOT);
+    final var l1 = QLocalization.create(Locale.ROOT);
+    assertSame(l0, l1);
+
+    final var l2 =
+      QLocalization.create(Locale.ROOT, QCommandParsers.emptyResources());
+    assertSame(l0, l2);
+  }
+
+  @Test
+  public void testNotCachedPerApplicationResources()
+  {
+    final var r0 = new Resources();
+    final var r1 = new Resources();
+
+    final var l0 = QLocalization.create(Locale.ROOT, r0);
+    final var l1 = QLocalization.create(Locale.ROOT, r0);
+    final var l2 = QLocalization.create(Locale.ROOT, r1);
+
+    assertNotSame(l0, l1);
+    assertNotSame(l0, l2);
+    assertEquals("Kommando", l0.localize(new QLocalize("quarrel.command")));
+    assertEquals("Kommando", l2.localize(new QLocalize("quarrel.command")));
+  }
+}
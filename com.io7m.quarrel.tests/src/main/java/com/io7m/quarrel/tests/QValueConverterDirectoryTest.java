@@ -17,9 +17,25 @@
 
 package com.io7m.quarrel.tests;
 
+import com.io7m.quarrel.core.QConversionResultType.QConversionFailure;
+import com.io7m.quarrel.core.QConversionResultType.QConversionSuccess;
 import com.io7m.quarrel.core.QException;
 import com.io7m.quarrel.core.QValueConverterDirectory;
+import com.io7m.quarrel.core.QValueConverterDoubleType;
+import com.io7m.quarrel.core.QValueConverterIntType;
+import com.io7m.quarrel.core.QValueConverterLongType;
 import com.io7m.quarrel.core.QValueConverterType;
+import com.io7m.quarrel.core.converters.QVCBigInteger;
+import com.io7m.quarrel.core.converters.QVCBoolean;
+import com.io7m.quarrel.core.converters.QVCCached;
+import com.io7m.quarrel.core.converters.QVCDouble;
+import com.io7m.quarrel.core.converters.QVCEnum;
+import com.io7m.quarrel.core.converters.QVCInetAddress;
+import com.io7m.quarrel.core.converters.QVCInetAddressResolvers;
+import com.io7m.quarrel.core.converters.QVCInteger;
+import com.io7m.quarrel.core.converters.QVCLong;
+import com.io7m.quarrel.core.converters.QVCPattern;
+import com.io7m.quarrel.core.converters.QVCUUID;
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.ForAll;
@@ -27,6 +43,7 @@ import net.jqwik.api.Property;
 import net.jqwik.api.Provide;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -34,6 +51,7 @@ import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
@@ -41,13 +59,26 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class QValueConverterDirectoryTest
 {
@@ -458,6 +489,783 @@ public final class QValueConverterDirectoryTest
     );
   }
 
+  private static <T> void checkTryConvertAgrees(
+    final QValueConverterType<T> converter,
+    final Function<String, T> reference,
+    final String text)
+  {
+    T expected;
+    try {
+      expected = reference.apply(text);
+    } catch (final RuntimeException e) {
+      expected = null;
+    }
+
+    final var result = converter.tryConvertFromString(text);
+    if (expected == null) {
+      assertInstanceOf(QConversionFailure.class, result, text);
+    } else {
+      assertEquals(new QConversionSuccess<>(expected), result, text);
+    }
+  }
+
+  private static final List<String> INTEGER_TEXTS =
+    List.of(
+      "",
+      "-",
+      "+",
+      "0",
+      "+0",
+      "-0",
+      "00023",
+      "2147483647",
+      "2147483648",
+      "-2147483648",
+      "-2147483649",
+      "9223372036854775807",
+      "9223372036854775808",
+      "-9223372036854775808",
+      "-9223372036854775809",
+      "99999999999999999999",
+      "1-2",
+      "--1",
+      "+-1",
+      " 1",
+      "1 ",
+      "0x10",
+      "1.0",
+      "\u0661\u0662\u0663",
+      "\uff11\uff12"
+    );
+
+  @Property
+  public void testIntegerTryConvert(
+    final @ForAll String text)
+  {
+    checkTryConvertAgrees(
+      QVCInteger.get(), Integer::valueOf, text);
+    checkTryConvertAgrees(
+      QVCLong.get(), Long::valueOf, text);
+    checkTryConvertAgrees(
+      QVCBigInteger.get(), BigInteger::new, text);
+  }
+
+  @Test
+  public void testIntegerTryConvertEdges()
+  {
+    for (final var text : INTEGER_TEXTS) {
+      checkTryConvertAgrees(
+        QVCInteger.get(), Integer::valueOf, text);
+      checkTryConvertAgrees(
+        QVCLong.get(), Long::valueOf, text);
+      checkTryConvertAgrees(
+        QVCBigInteger.get(), BigInteger::new, text);
+    }
+  }
+
+  @Property
+  public void testUUIDTryConvert(
+    final @ForAll("uuids") UUID x)
+  {
+    final var c = QVCUUID.get();
+    checkTryConvertAgrees(c, UUID::fromString, x.toString());
+    checkTryConvertAgrees(
+      c, UUID::fromString, x.toString().toUpperCase(Locale.ROOT));
+  }
+
+  @Test
+  public void testUUIDTryConvertEdges()
+  {
+    final var c = QVCUUID.get();
+    for (final var text : List.of(
+      "",
+      "x",
+      "1-1-1-1-1",
+      "1-1-1-1",
+      "1-1-1-1-1-1",
+      "-1-1-1-1",
+      "3ed5e7a8-0d77-4b8e-a3e4-5a0f09d3d61a0",
+      "3ed5e7a8-0d77-4b8e-a3e4-5a0f09d3d61g",
+      "3ed5e7a8+0d77-4b8e-a3e4-5a0f09d3d61a",
+      "3ed5e7a8-0d77-4b8e-a3e4-5a0f09d3d6\uff11\uff11"
+    )) {
+      checkTryConvertAgrees(c, UUID::fromString, text);
+    }
+  }
+
+  @Test
+  public void testBooleanTryConvert()
+  {
+    final var c = QVCBoolean.get();
+    assertEquals(
+      new QConversionSuccess<>(Boolean.TRUE),
+      c.tryConvertFromString("true"));
+    assertEquals(
+      new QConversionSuccess<>(Boolean.FALSE),
+      c.tryConvertFromString("false"));
+    assertInstanceOf(
+      QConversionFailure.class,
+      c.tryConvertFromString("TRUE"));
+  }
+
+  @Test
+  public void testEnumTryConvert()
+  {
+    final var c = new QVCEnum<>(StandardCopyOption.class);
+    assertEquals(
+      new QConversionSuccess<>(StandardCopyOption.ATOMIC_MOVE),
+      c.tryConvertFromString("ATOMIC_MOVE"));
+
+    final var failure =
+      assertInstanceOf(
+        QConversionFailure.class,
+        c.tryConvertFromString("atomic_move"));
+    assertEquals(Optional.empty(), failure.exception());
+
+    final var ex = assertThrows(QException.class, () -> {
+      c.convertFromString("atomic_move");
+    });
+    assertEquals("parameter-value-unparseable", ex.errorCode());
+  }
+
+  @Test
+  public void testEnumShared()
+  {
+    final var d = QValueConverterDirectory.core();
+    final var c0 = d.converterFor(TimeUnit.class).orElseThrow();
+    final var c1 = d.converterFor(TimeUnit.class).orElseThrow();
+    assertSame(c0, c1);
+    assertSame(c0, QVCEnum.get(TimeUnit.class));
+    assertNotSame(c0, QVCEnum.get(StandardCopyOption.class));
+  }
+
+  @Test
+  public void testEnumPrecomputed()
+    throws QException
+  {
+    final var c = QVCEnum.get(TimeUnit.class);
+    assertEquals(
+      "NANOSECONDS|MICROSECONDS|MILLISECONDS|SECONDS|MINUTES|HOURS|DAYS",
+      c.syntax()
+    );
+    assertSame(c.syntax(), c.syntax());
+    assertEquals(TimeUnit.NANOSECONDS, c.exampleValue());
+
+    for (final var unit : TimeUnit.values()) {
+      assertEquals(unit, c.convertFromString(unit.name()));
+    }
+    assertInstanceOf(
+      QConversionFailure.class,
+      c.tryConvertFromString(null));
+  }
+
+  @Test
+  public void testEnumEmpty()
+  {
+    final var c = QVCEnum.get(Empty.class);
+    assertEquals("", c.syntax());
+    assertInstanceOf(
+      QConversionFailure.class,
+      c.tryConvertFromString("X"));
+    assertThrows(IllegalStateException.class, c::exampleValue);
+  }
+
+  @Test
+  public void testResolveSuperclass()
+    throws QException
+  {
+    final var d =
+      QValueConverterDirectory.empty()
+        .with(new DogConverter());
+
+    final var dogs = d.converterFor(Dog.class).orElseThrow();
+    assertInstanceOf(DogConverter.class, dogs);
+
+    final var puppies = d.converterFor(Puppy.class).orElseThrow();
+    assertEquals(Puppy.class, puppies.convertedClass());
+    assertEquals(dogs.syntax(), puppies.syntax());
+    assertInstanceOf(Puppy.class, puppies.convertFromString("puppy"));
+    assertInstanceOf(
+      QConversionFailure.class,
+      puppies.tryConvertFromString("dog"));
+    assertEquals("puppy", puppies.convertToString(new Puppy()));
+    assertThrows(IllegalStateException.class, puppies::exampleValue);
+
+    assertEquals(Optional.empty(), d.converterFor(Animal.class));
+  }
+
+  @Test
+  public void testResolveInterface()
+    throws QException
+  {
+    final var d =
+      QValueConverterDirectory.empty()
+        .with(Animal.class, new AnimalConverter());
+
+    final var puppies = d.converterFor(Puppy.class).orElseThrow();
+    assertEquals(Puppy.class, puppies.convertedClass());
+    assertInstanceOf(Puppy.class, puppies.convertFromString("puppy"));
+    assertInstanceOf(Puppy.class, puppies.exampleValue());
+    assertInstanceOf(
+      QConversionFailure.class,
+      puppies.tryConvertFromString("dog"));
+  }
+
+  @Test
+  public void testResolveRemembered()
+  {
+    final var d =
+      QValueConverterDirectory.core()
+        .with(new DogConverter());
+
+    assertSame(d.converterFor(Puppy.class), d.converterFor(Puppy.class));
+    assertSame(d.converterFor(Animal.class), d.converterFor(Animal.class));
+    assertSame(d.converterFor(Void.class), d.converterFor(Void.class));
+    assertSame(
+      QVCInteger.get(),
+      d.converterFor(Integer.class).orElseThrow());
+
+    final var e = d.with(new PuppyConverter());
+    assertInstanceOf(
+      PuppyConverter.class,
+      e.converterFor(Puppy.class).orElseThrow());
+    assertNotSame(
+      d.converterFor(Puppy.class).orElseThrow(),
+      e.converterFor(Puppy.class).orElseThrow());
+  }
+
+  @Test
+  public void testBuilder()
+  {
+    final var byteConverter = new ByteConverter();
+    final var dogConverter = new DogConverter();
+
+    final var d =
+      QValueConverterDirectory.builder()
+        .add(byteConverter)
+        .add(Animal.class, new AnimalConverter())
+        .addAll(List.of(dogConverter, QVCInteger.get()))
+        .build();
+
+    assertEquals(4, d.converters().size());
+    assertSame(byteConverter, d.converterFor(Byte.class).orElseThrow());
+    assertSame(dogConverter, d.converterFor(Dog.class).orElseThrow());
+    assertSame(QVCInteger.get(), d.converterFor(Integer.class).orElseThrow());
+    assertInstanceOf(
+      AnimalConverter.class,
+      d.converterFor(Animal.class).orElseThrow());
+    assertEquals(Optional.empty(), d.converterFor(String.class));
+  }
+
+  @Test
+  public void testBuilderFromBase()
+  {
+    final var core = QValueConverterDirectory.core();
+    final var byteConverter = new ByteConverter();
+    final var d =
+      QValueConverterDirectory.builder(core)
+        .add(byteConverter)
+        .build();
+
+    assertEquals(core.converters().size() + 1, d.converters().size());
+    assertSame(byteConverter, d.converterFor(Byte.class).orElseThrow());
+    assertSame(QVCUUID.get(), d.converterFor(UUID.class).orElseThrow());
+    assertEquals(Optional.empty(), core.converterFor(Byte.class));
+  }
+
+  @Test
+  public void testWithAll()
+  {
+    final var core = QValueConverterDirectory.core();
+    final var byteConverter = new ByteConverter();
+    final var dogConverter = new DogConverter();
+    final var d = core.withAll(List.of(byteConverter, dogConverter));
+
+    assertEquals(core.converters().size() + 2, d.converters().size());
+    assertSame(byteConverter, d.converterFor(Byte.class).orElseThrow());
+    assertSame(dogConverter, d.converterFor(Dog.class).orElseThrow());
+    assertEquals(Optional.empty(), core.converterFor(Dog.class));
+
+    final var puppyConverter = new PuppyConverter();
+    final var e = d.withAll(List.of(puppyConverter));
+    assertSame(puppyConverter, e.converterFor(Puppy.class).orElseThrow());
+    assertSame(dogConverter, e.converterFor(Dog.class).orElseThrow());
+  }
+
+  @Test
+  public void testCached()
+    throws QException
+  {
+    final var c = new QVCCached<>(QVCPattern.get(), 2);
+    assertEquals(Pattern.class, c.convertedClass());
+    assertEquals(QVCPattern.get().syntax(), c.syntax());
+
+    final var p0 = c.convertFromString("a+");
+    final var p1 = c.convertFromString("a+");
+    assertSame(p0, p1);
+    assertEquals(1L, c.hits());
+    assertEquals(1L, c.misses());
+    assertEquals(1, c.size());
+
+    assertInstanceOf(QConversionFailure.class, c.tryConvertFromString("("));
+    assertInstanceOf(QConversionFailure.class, c.tryConvertFromString("("));
+    assertEquals(1L, c.hits());
+    assertEquals(3L, c.misses());
+    assertEquals(1, c.size());
+  }
+
+  @Test
+  public void testCachedEviction()
+    throws QException
+  {
+    final var c = new QVCCached<>(QVCPattern.get(), 2);
+
+    final var a = c.convertFromString("a");
+    c.convertFromString("b");
+    assertSame(a, c.convertFromString("a"));
+    c.convertFromString("c");
+    assertEquals(2, c.size());
+
+    assertSame(a, c.convertFromString("a"));
+    final var misses = c.misses();
+    c.convertFromString("b");
+    assertEquals(misses + 1L, c.misses());
+  }
+
+  @Test
+  public void testCachedConcurrent()
+    throws Exception
+  {
+    final var c = new QVCCached<>(QVCPattern.get(), 16);
+    final var threads = new ArrayList<Thread>();
+    final var failures = new AtomicInteger();
+
+    for (int t = 0; t < 8; ++t) {
+      threads.add(Thread.ofVirtual().start(() -> {
+        for (int index = 0; index < 10_000; ++index) {
+          final var text = "a" + (index % 64);
+          try {
+            if (!c.convertFromString(text).pattern().equals(text)) {
+              failures.incrementAndGet();
+            }
+          } catch (final QException e) {
+            failures.incrementAndGet();
+          }
+        }
+      }));
+    }
+    for (final var thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(0, failures.get());
+    assertTrue(c.size() <= 16);
+    assertEquals(80_000L, c.hits() + c.misses());
+  }
+
+  @Test
+  public void testCachedCapacity()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      new QVCCached<>(QVCPattern.get(), 0);
+    });
+  }
+
+  @Test
+  public void testCoreCached()
+    throws QException
+  {
+    final var core = QValueConverterDirectory.core();
+    final var d = QValueConverterDirectory.coreCached(16);
+    assertEquals(core.converters().size(), d.converters().size());
+
+    for (final var type : List.of(
+      InetAddress.class, Path.class, Pattern.class, URI.class)) {
+      assertInstanceOf(
+        QVCCached.class,
+        d.converterFor(type).orElseThrow());
+    }
+    assertSame(QVCInteger.get(), d.converterFor(Integer.class).orElseThrow());
+
+    final var addresses = d.converterFor(InetAddress.class).orElseThrow();
+    assertSame(
+      addresses.convertFromString("127.0.0.1"),
+      addresses.convertFromString("127.0.0.1"));
+  }
+
+  @Test
+  public void testInetAddressLiterals()
+    throws Exception
+  {
+    final var c = QVCInetAddress.literals();
+
+    assertEquals(
+      InetAddress.getByName("127.0.0.1"),
+      c.convertFromString("127.0.0.1"));
+    assertEquals(
+      InetAddress.getByName("::1"),
+      c.convertFromString("[::1]"));
+    assertInstanceOf(
+      Inet4Address.class,
+      c.convertFromString("::ffff:10.0.0.1"));
+
+    final var loop = c.convertFromString("::1");
+    assertEquals(loop, c.convertFromString(c.convertToString(loop)));
+
+    for (final var text : List.of("localhost", "256.0.0.1", "1::2::3", "")) {
+      final var r =
+        assertInstanceOf(
+          QConversionFailure.class,
+          c.tryConvertFromString(text));
+      assertEquals(Optional.empty(), r.exception());
+    }
+  }
+
+  @Test
+  public void testInetAddressResolverMap()
+    throws Exception
+  {
+    final var address =
+      InetAddress.getByAddress("example.com", new byte[]{10, 0, 0, 1});
+    final var c =
+      QVCInetAddress.withResolver(
+        QVCInetAddressResolvers.ofMap(Map.of("Example.com", address)));
+
+    assertEquals(address, c.convertFromString("example.COM"));
+    assertEquals("example.com", c.convertToString(address));
+    assertEquals(
+      "10.0.0.2",
+      c.convertToString(c.convertFromString("10.0.0.2")));
+
+    final var r =
+      assertInstanceOf(QConversionFailure.class, c.tryConvertFromString("x"));
+    assertInstanceOf(UnknownHostException.class, r.exception().orElseThrow());
+  }
+
+  @Test
+  public void testInetAddressResolverHostsFile()
+    throws Exception
+  {
+    final var directory = QTestDirectories.createTempDirectory();
+    try {
+      final var file = directory.resolve("hosts");
+      Files.writeString(file, String.join("\n",
+        "# Comment",
+        "10.0.0.1  alpha  alpha.example.com # Trailing",
+        "",
+        "fe80::1   beta",
+        "10.0.0.9  alpha"
+      ));
+
+      final var c =
+        QVCInetAddress.withResolver(QVCInetAddressResolvers.hostsFile(file));
+
+      final var alpha = c.convertFromString("alpha");
+      assertEquals(InetAddress.getByName("10.0.0.1"), alpha);
+      assertEquals("alpha", c.convertToString(alpha));
+      assertEquals(alpha, c.convertFromString("ALPHA.example.com"));
+      assertEquals(
+        InetAddress.getByName("fe80::1"),
+        c.convertFromString("beta"));
+
+      Files.writeString(file, "10.0.0.1 alpha\nexample.com gamma\n");
+      final var ex =
+        assertThrows(IOException.class, () -> {
+          QVCInetAddressResolvers.hostsFile(file);
+        });
+      assertTrue(ex.getMessage().contains(":2:"));
+    } finally {
+      QTestDirectories.deleteDirectory(directory);
+    }
+  }
+
+  @Test
+  public void testInetAddressResolveAll()
+    throws Exception
+  {
+    final var calls = new AtomicInteger();
+    final var latch = new CountDownLatch(2);
+    final var c =
+      QVCInetAddress.withResolver(name -> {
+        calls.incrementAndGet();
+        latch.countDown();
+        try {
+          if (!latch.await(10L, TimeUnit.SECONDS)) {
+            throw new UnknownHostException("Not resolved concurrently");
+          }
+        } catch (final InterruptedException e) {
+          throw new UnknownHostException(name);
+        }
+        if (name.equals("b")) {
+          throw new UnknownHostException(name);
+        }
+        return InetAddress.getByAddress(name, new byte[]{10, 0, 0, 1});
+      });
+
+    final var results =
+      c.tryConvertAllFromString(List.of("a", "10.0.0.2", "b", "a", "1::x"));
+
+    assertEquals(5, results.size());
+    assertEquals("a", c.convertToString(results.get(0).orElseThrow()));
+    assertEquals(
+      InetAddress.getByName("10.0.0.2"),
+      results.get(1).orElseThrow());
+    assertInstanceOf(QConversionFailure.class, results.get(2));
+    assertEquals(results.get(0), results.get(3));
+    assertInstanceOf(QConversionFailure.class, results.get(4));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void testCheckSyntax()
+    throws Exception
+  {
+    final var address =
+      InetAddress.getByAddress("host", new byte[]{10, 0, 0, 1});
+    final var c =
+      new QVCCached<>(
+        QVCInetAddress.withResolver(
+          QVCInetAddressResolvers.ofMap(Map.of("host", address))),
+        4
+      );
+
+    assertEquals(Optional.empty(), c.checkSyntax("host"));
+    assertInstanceOf(
+      QConversionSuccess.class,
+      c.checkSyntax("::1").orElseThrow());
+    assertInstanceOf(
+      QConversionFailure.class,
+      c.checkSyntax("1::2::3").orElseThrow());
+
+    c.convertFromString("host");
+    assertEquals(
+      address,
+      c.checkSyntax("host").orElseThrow().orElseThrow());
+
+    assertInstanceOf(
+      QConversionFailure.class,
+      QVCInteger.get().checkSyntax("x").orElseThrow());
+  }
+
+  @Test
+  public void testTryConvertDefault()
+  {
+    final var c = new ByteConverter();
+    assertEquals(
+      new QConversionSuccess<>(Byte.valueOf((byte) 23)),
+      c.tryConvertFromString("23"));
+
+    final var failure =
+      assertInstanceOf(
+        QConversionFailure.class,
+        c.tryConvertFromString("256"));
+    assertInstanceOf(
+      NumberFormatException.class,
+      failure.exception().orElseThrow());
+
+    final var ex = assertThrows(QException.class, failure::orElseThrow);
+    assertEquals("parameter-value-unparseable", ex.errorCode());
+    assertInstanceOf(NumberFormatException.class, ex.getCause());
+  }
+
+  @Property
+  public void testPrimitiveTryConvert(
+    final @ForAll String text)
+  {
+    checkPrimitiveAgrees(text);
+  }
+
+  @Test
+  public void testPrimitiveTryConvertEdges()
+  {
+    for (final var text : INTEGER_TEXTS) {
+      checkPrimitiveAgrees(text);
+    }
+    for (final var text : List.of("1.5", "-0.0", "NaN", "Infinity", "1e400")) {
+      checkPrimitiveAgrees(text);
+    }
+  }
+
+  private static void checkPrimitiveAgrees(
+    final String text)
+  {
+    final var received = new ArrayList<Object>();
+
+    final var ints = (QValueConverterIntType) QVCInteger.get();
+    assertEquals(
+      ints.tryConvertFromString(text) instanceof QConversionSuccess<?>,
+      ints.tryConvertToInt(text, x -> received.add(Integer.valueOf(x)))
+    );
+    final var longs = (QValueConverterLongType) QVCLong.get();
+    assertEquals(
+      longs.tryConvertFromString(text) instanceof QConversionSuccess<?>,
+      longs.tryConvertToLong(text, x -> received.add(Long.valueOf(x)))
+    );
+    final var doubles = (QValueConverterDoubleType) QVCDouble.get();
+    assertEquals(
+      doubles.tryConvertFromString(text) instanceof QConversionSuccess<?>,
+      doubles.tryConvertToDouble(text, x -> received.add(Double.valueOf(x)))
+    );
+
+    final var expected = new ArrayList<Object>();
+    for (final var converter : List.of(ints, longs, doubles)) {
+      if (converter.tryConvertFromString(text)
+        instanceof final QConversionSuccess<?> success) {
+        expected.add(success.value());
+      }
+    }
+    assertEquals(expected, received);
+  }
+
+  private enum Empty
+  {
+
+  }
+
+  private interface Animal
+  {
+
+  }
+
+  private static class Dog implements Animal
+  {
+    Dog()
+    {
+
+    }
+  }
+
+  private static final class Puppy extends Dog
+  {
+    Puppy()
+    {
+
+    }
+  }
+
+  private static final class DogConverter
+    implements QValueConverterType<Dog>
+  {
+    DogConverter()
+    {
+
+    }
+
+    @Override
+    public Dog convertFromString(
+      final String text)
+    {
+      return Objects.equals(text, "puppy") ? new Puppy() : new Dog();
+    }
+
+    @Override
+    public String convertToString(
+      final Dog value)
+    {
+      return value instanceof Puppy ? "puppy" : "dog";
+    }
+
+    @Override
+    public Dog exampleValue()
+    {
+      return new Dog();
+    }
+
+    @Override
+    public String syntax()
+    {
+      return "dog | puppy";
+    }
+
+    @Override
+    public Class<Dog> convertedClass()
+    {
+      return Dog.class;
+    }
+  }
+
+  private static final class PuppyConverter
+    implements QValueConverterType<Puppy>
+  {
+    PuppyConverter()
+    {
+
+    }
+
+    @Override
+    public Puppy convertFromString(
+      final String text)
+    {
+      return new Puppy();
+    }
+
+    @Override
+    public String convertToString(
+      final Puppy value)
+    {
+      return "puppy";
+    }
+
+    @Override
+    public Puppy exampleValue()
+    {
+      return new Puppy();
+    }
+
+    @Override
+    public String syntax()
+    {
+      return "puppy";
+    }
+
+    @Override
+    public Class<Puppy> convertedClass()
+    {
+      return Puppy.class;
+    }
+  }
+
+  private static final class AnimalConverter
+    implements QValueConverterType<Animal>
+  {
+    AnimalConverter()
+    {
+
+    }
+
+    @Override
+    public Animal convertFromString(
+      final String text)
+    {
+      return Objects.equals(text, "puppy") ? new Puppy() : new Dog();
+    }
+
+    @Override
+    public String convertToString(
+      final Animal value)
+    {
+      return value instanceof Puppy ? "puppy" : "dog";
+    }
+
+    @Override
+    public Animal exampleValue()
+    {
+      return new Puppy();
+    }
+
+    @Override
+    public String syntax()
+    {
+      return "dog | puppy";
+    }
+
+    @Override
+    public Class<Animal> convertedClass()
+    {
+      return Animal.class;
+    }
+  }
+
   private static final class ByteConverter
     implements QValueConverterType<Byte>
   {
@@ -36,6 +36,7 @@ open module com.io7m.quarrel.tests
   requires org.slf4j;
   requires net.jqwik.api;
   requires com.io7m.quarrel.ext.logback;
+  requires com.io7m.quarrel.ext.daemon;
 
   exports com.io7m.quarrel.tests;
 }